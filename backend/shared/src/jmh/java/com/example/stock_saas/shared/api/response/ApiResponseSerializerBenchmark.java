@@ -0,0 +1,91 @@
+package com.example.stock_saas.shared.api.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Writing the {@link ApiResponse} envelope with {@link ApiResponseSerializer} against
+ * Jackson's bean serialization of the same class (NON_NULL, via a mix-in), for a small
+ * body, a 50-item list and a constant error body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializerBenchmark {
+
+    public record StockLine(UUID skuId, String sku, String warehouse, BigDecimal quantity) {
+    }
+
+    @JsonSerialize(using = ValueSerializer.None.class)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    abstract static class BeanSerialized {
+    }
+
+    private JsonMapper envelopeMapper;
+    private JsonMapper beanMapper;
+    private ApiResponse<StockLine> single;
+    private ApiResponse<List<StockLine>> list;
+
+    @Setup
+    public void setUp() {
+        envelopeMapper = JsonMapper.builder().build();
+        beanMapper = JsonMapper.builder().addMixIn(ApiResponse.class, BeanSerialized.class).build();
+        single = ApiResponse.success(line(0));
+        list = ApiResponse.success(IntStream.range(0, 50).mapToObj(ApiResponseSerializerBenchmark::line).toList());
+    }
+
+    @Benchmark
+    public byte[] envelopeSingle() {
+        return envelopeMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] beanSingle() {
+        return beanMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] envelopeList() {
+        return envelopeMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] beanList() {
+        return beanMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] envelopeConstantError() {
+        return envelopeMapper.writeValueAsBytes(ApiResponse.ACCESS_DENIED);
+    }
+
+    @Benchmark
+    public byte[] beanConstantError() {
+        return beanMapper.writeValueAsBytes(ApiResponse.ACCESS_DENIED);
+    }
+
+    private static StockLine line(int i) {
+        return new StockLine(UUID.randomUUID(), "SKU-" + i, "WH-" + (i % 3), BigDecimal.valueOf(1000 + i, 2));
+    }
+}
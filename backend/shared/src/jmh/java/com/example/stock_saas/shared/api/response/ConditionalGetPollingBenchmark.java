@@ -0,0 +1,191 @@
+package com.example.stock_saas.shared.api.response;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import com.example.stock_saas.shared.infrastructure.persisitence.EntityVersionQuery;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A dashboard polling an unchanged list of {@code rows} products over HTTP: a plain GET that
+ * loads, maps and serializes the list every time, against a conditional GET sending the
+ * ETag of its last response, which the server answers with a 304 after one aggregate
+ * version query. Response body bytes per poll are printed after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConditionalGetPollingBenchmark {
+
+    private static final UUID TENANT_ID = new UUID(0, 1);
+
+    @Param({"50", "1000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient http;
+    private HttpRequest plain;
+    private HttpRequest conditional;
+    private String mode;
+    private long bodyBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(PollingApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        "--spring.datasource.url=jdbc:h2:mem:polling_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop");
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO polled_products (id, tenant_id, created_at, updated_at, version, deleted, name, sku, quantity)
+                SELECT RANDOM_UUID(), ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, X % 7, FALSE,
+                       'Product ' || X, 'SKU-' || X, X * 3
+                FROM SYSTEM_RANGE(1, ?)
+                """, TENANT_ID, rows);
+
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        http = HttpClient.newHttpClient();
+        URI uri = URI.create("http://localhost:" + port + "/products");
+        plain = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/products/plain")).GET().build();
+        String etag = http.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                .headers().firstValue("ETag").orElseThrow();
+        conditional = HttpRequest.newBuilder(uri).header("If-None-Match", etag).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        http.close();
+        context.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n%s, %d rows: %d body bytes per poll%n", mode, rows, bodyBytes);
+    }
+
+    @Benchmark
+    public int plainGet() throws Exception {
+        mode = "plain GET";
+        return poll(plain, 200);
+    }
+
+    @Benchmark
+    public int conditionalGet() throws Exception {
+        mode = "conditional GET";
+        return poll(conditional, 304);
+    }
+
+    private int poll(HttpRequest request, int expectedStatus) throws Exception {
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("Expected " + expectedStatus + " but got " + response.statusCode());
+        }
+        bodyBytes = response.body().length;
+        return response.statusCode();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({ConditionalGetSupport.class, EntityVersionQuery.class, ProductController.class})
+    static class PollingApplication {
+
+        @Bean
+        SecurityFilterChain pollingSecurity(HttpSecurity http) throws Exception {
+            return http.authorizeHttpRequests(requests -> requests.anyRequest().permitAll())
+                    .csrf(csrf -> csrf.disable())
+                    .build();
+        }
+    }
+
+    @RestController
+    static class ProductController {
+
+        private final ConditionalGetSupport conditionalGet;
+        private final EntityManager entityManager;
+
+        ProductController(ConditionalGetSupport conditionalGet, EntityManager entityManager) {
+            this.conditionalGet = conditionalGet;
+            this.entityManager = entityManager;
+        }
+
+        @GetMapping("/products")
+        ResponseEntity<ApiResponse<List<ProductView>>> products(WebRequest request) {
+            return TenantContext.executeInTenantContext(TENANT_ID,
+                    () -> conditionalGet.collection(PolledProduct.class, request, this::load));
+        }
+
+        @GetMapping("/products/plain")
+        ApiResponse<List<ProductView>> plainProducts() {
+            return TenantContext.executeInTenantContext(TENANT_ID, () -> ApiResponse.success(load()));
+        }
+
+        private List<ProductView> load() {
+            return entityManager.createQuery(
+                            "select p from PolledProduct p where p.tenantId = :tenantId order by p.sku", PolledProduct.class)
+                    .setParameter("tenantId", TENANT_ID)
+                    .getResultList()
+                    .stream()
+                    .map(product -> new ProductView(product.getId(), product.sku, product.name, product.quantity,
+                            product.getVersion()))
+                    .toList();
+        }
+    }
+
+    public record ProductView(UUID id, String sku, String name, long quantity, Long version) {
+    }
+
+    @Entity(name = "PolledProduct")
+    @Table(name = "polled_products")
+    public static class PolledProduct extends BaseEntity {
+
+        @Column(name = "name", nullable = false)
+        private String name;
+
+        @Column(name = "sku", nullable = false)
+        private String sku;
+
+        @Column(name = "quantity", nullable = false)
+        private long quantity;
+    }
+}
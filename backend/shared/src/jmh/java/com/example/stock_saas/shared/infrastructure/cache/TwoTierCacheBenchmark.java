@@ -0,0 +1,97 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads of reference data through {@link TwoTierCache} from four threads: near-cache hits
+ * (shared and tenant-scoped keys) against hits that fall through to the shared store
+ * and deserialize the value, which is what every read costs without the local tier.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TwoTierCacheBenchmark {
+
+    private static final int KEYS = 1_000;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final String[] keys = new String[KEYS];
+    private TwoTierCache<String> shared;
+    private TwoTierCache<String> tenantScoped;
+
+    @Setup
+    public void setUp() {
+        TwoTierCacheManager manager = new TwoTierCacheManager(
+                new InMemoryCacheStore(), new InMemoryCacheInvalidationBus(), new CacheMetrics());
+        shared = manager.create("currencies", TwoTierCacheSpec.builder().build());
+        tenantScoped = manager.create("tenant-settings", TwoTierCacheSpec.builder().tenantScoped(true).build());
+
+        TenantContext.setTenantId(tenantId);
+        try {
+            for (int i = 0; i < KEYS; i++) {
+                keys[i] = "key-" + i;
+                String value = "value-" + i + "-" + "x".repeat(64);
+                shared.put(keys[i], value);
+                tenantScoped.put(keys[i], value);
+            }
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TenantThread {
+
+        @Setup(Level.Trial)
+        public void enter(TwoTierCacheBenchmark benchmark) {
+            TenantContext.setTenantId(benchmark.tenantId);
+        }
+
+        @TearDown(Level.Trial)
+        public void leave() {
+            TenantContext.clear();
+        }
+    }
+
+    @Benchmark
+    public String nearHit() {
+        return shared.getIfPresent(randomKey());
+    }
+
+    @Benchmark
+    public String tenantScopedNearHit(TenantThread tenant) {
+        return tenantScoped.getIfPresent(randomKey());
+    }
+
+    @Benchmark
+    public String storeHit() {
+        String key = randomKey();
+        shared.evictLocal(key);
+        return shared.getIfPresent(key);
+    }
+
+    private String randomKey() {
+        return keys[ThreadLocalRandom.current().nextInt(KEYS)];
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import com.example.stock_saas.shared.domain.event.UserAccessChangedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Draining a backlog of 1k, 10k and 100k outbox events spread over 16 tenants into a
+ * transactional listener, with the default batch size (500) and virtual-thread lanes on H2.
+ * The outbox is filled before each operation and the score is the time to drain it;
+ * events per second are printed after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class OutboxThroughputBenchmark {
+
+    private static final int TENANTS = 16;
+    private static final int EVENTS_PER_TRANSACTION = 500;
+
+    @Param({"1000", "10000", "100000"})
+    public int events;
+
+    private final List<UUID> tenants = new ArrayList<>();
+    private ConfigurableApplicationContext context;
+    private OutboxWriter writer;
+    private OutboxDispatcher dispatcher;
+    private OutboxEventRepository outboxEventRepository;
+    private TransactionTemplate transactionTemplate;
+    private DeliveryCounter counter;
+    private long drainNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OutboxApplication.class)
+                .run(
+                        "--spring.main.web-application-type=none",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        "--spring.datasource.url=jdbc:h2:mem:outbox_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--app.events.outbox.enabled=true",
+                        "--app.events.outbox.poll-interval-ms=3600000");
+        writer = context.getBean(OutboxWriter.class);
+        dispatcher = context.getBean(OutboxDispatcher.class);
+        outboxEventRepository = context.getBean(OutboxEventRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        counter = context.getBean(DeliveryCounter.class);
+        for (int i = 0; i < TENANTS; i++) {
+            tenants.add(UUID.randomUUID());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void fillOutbox() {
+        for (int written = 0; written < events; written += EVENTS_PER_TRANSACTION) {
+            int first = written;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<DomainEvent> batch = new ArrayList<>(EVENTS_PER_TRANSACTION);
+                for (int i = first; i < Math.min(events, first + EVENTS_PER_TRANSACTION); i++) {
+                    batch.add(new UserAccessChangedEvent(tenants.get(i % TENANTS), null, UUID.randomUUID(),
+                            Permission.USER_ASSIGN_ROLE));
+                }
+                writer.write(batch);
+            });
+        }
+        counter.delivered.set(0);
+    }
+
+    @Benchmark
+    public long drain() {
+        long start = System.nanoTime();
+        dispatcher.dispatchPending();
+        drainNanos = System.nanoTime() - start;
+        if (counter.delivered.get() != events || outboxEventRepository.count() != 0) {
+            throw new IllegalStateException("Outbox not drained: " + counter.delivered.get() + " of " + events);
+        }
+        return counter.delivered.get();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n%d events: %.0f events/s%n", events, events / (drainNanos / 1e9));
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({EventConfig.class, DomainEventTypeRegistry.class, JacksonDomainEventSerializer.class,
+            OutboxWriter.class, OutboxDispatcher.class, DeliveryCounter.class})
+    static class OutboxApplication {
+    }
+
+    static class DeliveryCounter {
+
+        private final AtomicLong delivered = new AtomicLong();
+
+        @TransactionalEventListener
+        public void onDelivered(UserAccessChangedEvent event) {
+            delivered.incrementAndGet();
+        }
+    }
+}
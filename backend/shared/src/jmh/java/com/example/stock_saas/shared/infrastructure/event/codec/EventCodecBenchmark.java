@@ -0,0 +1,155 @@
+package com.example.stock_saas.shared.infrastructure.event.codec;
+
+import com.example.stock_saas.shared.domain.event.BaseDomainEvent;
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import com.example.stock_saas.shared.infrastructure.event.DomainEventTypeRegistry;
+import com.example.stock_saas.shared.infrastructure.event.JacksonDomainEventSerializer;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox payload encoding: the binary codec against the default JSON serializer, for an
+ * inventory event with the usual mix of UUIDs, a decimal quantity and short strings.
+ * Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    private BinaryDomainEventSerializer binary;
+    private JacksonDomainEventSerializer json;
+    private StockAdjusted event;
+    private byte[] binaryPayload;
+    private byte[] jsonPayload;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("stockAdjustedCodec", new StockAdjustedCodec());
+        binary = new BinaryDomainEventSerializer(
+                new DomainEventCodecRegistry((ObjectProvider) beanFactory.getBeanProvider(DomainEventCodec.class)));
+
+        DomainEventTypeRegistry typeRegistry = new DomainEventTypeRegistry();
+        typeRegistry.register(StockAdjusted.class.getSimpleName(), StockAdjusted.class);
+        json = new JacksonDomainEventSerializer(JsonMapper.builder().build(), typeRegistry);
+
+        event = new StockAdjusted(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                new BigDecimal("-12.500"), "CYCLE_COUNT", "Bin A-03-2 recount");
+        binaryPayload = binary.serialize(event);
+        jsonPayload = json.serialize(event);
+        System.out.printf("%nPayload bytes: binary %d, json %d%n", binaryPayload.length, jsonPayload.length);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binary.serialize(event);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return json.serialize(event);
+    }
+
+    @Benchmark
+    public DomainEvent binaryDeserialize() {
+        return binary.deserialize("StockAdjusted", binaryPayload);
+    }
+
+    @Benchmark
+    public DomainEvent jsonDeserialize() {
+        return json.deserialize("StockAdjusted", jsonPayload);
+    }
+
+    @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class StockAdjusted extends BaseDomainEvent {
+
+        private final UUID skuId;
+        private final UUID warehouseId;
+        private final BigDecimal quantity;
+        private final String reason;
+        private final String note;
+
+        StockAdjusted(UUID tenantId, UUID triggeredBy, UUID skuId, UUID warehouseId, BigDecimal quantity,
+                      String reason, String note) {
+            super(tenantId, triggeredBy);
+            this.skuId = skuId;
+            this.warehouseId = warehouseId;
+            this.quantity = quantity;
+            this.reason = reason;
+            this.note = note;
+        }
+
+        @JsonCreator
+        StockAdjusted(@JsonProperty("eventId") UUID eventId,
+                      @JsonProperty("occurredAt") Instant occurredAt,
+                      @JsonProperty("tenantId") UUID tenantId,
+                      @JsonProperty("triggeredBy") UUID triggeredBy,
+                      @JsonProperty("skuId") UUID skuId,
+                      @JsonProperty("warehouseId") UUID warehouseId,
+                      @JsonProperty("quantity") BigDecimal quantity,
+                      @JsonProperty("reason") String reason,
+                      @JsonProperty("note") String note) {
+            super(eventId, occurredAt, tenantId, triggeredBy);
+            this.skuId = skuId;
+            this.warehouseId = warehouseId;
+            this.quantity = quantity;
+            this.reason = reason;
+            this.note = note;
+        }
+    }
+
+    static class StockAdjustedCodec implements DomainEventCodec<StockAdjusted> {
+
+        @Override
+        public Class<StockAdjusted> eventClass() {
+            return StockAdjusted.class;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public void encode(StockAdjusted event, BinaryEventWriter writer) {
+            writer.writeUuid(event.getSkuId())
+                    .writeUuid(event.getWarehouseId())
+                    .writeDecimal(event.getQuantity())
+                    .writeString(event.getReason())
+                    .writeString(event.getNote());
+        }
+
+        @Override
+        public StockAdjusted decode(EventHeader header, int version, BinaryEventReader reader) {
+            return new StockAdjusted(header.eventId(), header.occurredAt(), header.tenantId(), header.triggeredBy(),
+                    reader.readUuid(), reader.readUuid(), reader.readDecimal(), reader.readString(),
+                    reader.readString());
+        }
+    }
+}
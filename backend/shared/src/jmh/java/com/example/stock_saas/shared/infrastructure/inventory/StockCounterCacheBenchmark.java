@@ -0,0 +1,73 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One hot SKU taking writes from eight threads while two threads read its balance.
+ * Measures what {@link StockCounterCache} bookkeeping (in-flight tracking, adder, fresh
+ * check) costs per write and read, with a bare AtomicLong as the lower bound. The delta
+ * row insert and the row-lock wait it replaces happen in the database and are not part
+ * of this benchmark.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StockCounterCacheBenchmark {
+
+    private final StockCounterKey key = new StockCounterKey(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    private final AtomicLong baseline = new AtomicLong(1_000_000L);
+    private StockCounterCache cache;
+
+    @Setup
+    public void setUp() {
+        cache = new StockCounterCache(0);
+        cache.load(key, () -> 1_000_000L);
+    }
+
+    @Benchmark
+    @Group("cache")
+    @GroupThreads(8)
+    public void cacheWrite() {
+        cache.complete(cache.beginWrite(key, -1), true);
+    }
+
+    @Benchmark
+    @Group("cache")
+    @GroupThreads(2)
+    public OptionalLong cacheRead() {
+        return cache.getIfFresh(key);
+    }
+
+    @Benchmark
+    @Group("atomic")
+    @GroupThreads(8)
+    public void atomicWrite() {
+        baseline.addAndGet(-1);
+    }
+
+    @Benchmark
+    @Group("atomic")
+    @GroupThreads(2)
+    public long atomicRead() {
+        return baseline.get();
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@value #WRITERS} concurrent writers adjusting the stock of one hot SKU on H2, each
+ * committing {@value #ADJUSTMENTS_PER_WRITER} single-adjustment transactions. Compares
+ * appending delta rows through {@link StockCounterEngine} with read-modify-write of one
+ * versioned stock row, retried on optimistic lock failure. One operation is the whole burst;
+ * adjustments per second and optimistic retries are printed after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StockCounterWriteBenchmark {
+
+    private static final int WRITERS = 128;
+    private static final int ADJUSTMENTS_PER_WRITER = 20;
+    private static final int ADJUSTMENTS = WRITERS * ADJUSTMENTS_PER_WRITER;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID skuId = UUID.randomUUID();
+    private final UUID warehouseId = UUID.randomUUID();
+    private final AtomicLong retries = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private StockCounterEngine engine;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService writers;
+    private String mode;
+    private long burstNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CounterApplication.class)
+                .run(
+                        "--spring.main.web-application-type=none",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        "--spring.datasource.url=jdbc:h2:mem:counters_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000",
+                        "--spring.datasource.hikari.maximum-pool-size=" + WRITERS,
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--app.inventory.counters.enabled=true");
+        engine = context.getBean(StockCounterEngine.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(VersionedStock.of(skuId)));
+        writers = Executors.newFixedThreadPool(WRITERS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        writers.close();
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        retries.set(0);
+    }
+
+    @Benchmark
+    public long deltaRows() throws Exception {
+        mode = "delta rows";
+        burst(() -> TenantContext.executeInTenantContext(tenantId, () -> transactionTemplate.execute(status -> {
+            engine.adjust(skuId, warehouseId, -1);
+            return null;
+        })));
+        return TenantContext.executeInTenantContext(tenantId, () -> engine.getExactBalance(skuId, warehouseId));
+    }
+
+    @Benchmark
+    public long optimisticLock() throws Exception {
+        mode = "optimistic lock";
+        burst(() -> {
+            while (true) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            entityManager.find(VersionedStock.class, skuId).quantity--);
+                    return null;
+                } catch (OptimisticLockingFailureException ex) {
+                    retries.incrementAndGet();
+                }
+            }
+        });
+        return transactionTemplate.execute(status -> entityManager.find(VersionedStock.class, skuId).quantity);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n%s: %.0f adjustments/s, %d optimistic retries%n",
+                mode, ADJUSTMENTS / (burstNanos / 1e9), retries.get());
+        if (engine != null) {
+            // Keep the delta table from growing across iterations
+            while (engine.compact() > 0) {
+                // fold until empty
+            }
+        }
+    }
+
+    private void burst(Callable<?> adjustment) throws Exception {
+        long start = System.nanoTime();
+        List<Future<?>> running = new ArrayList<>(WRITERS);
+        for (int i = 0; i < WRITERS; i++) {
+            running.add(writers.submit(() -> {
+                for (int j = 0; j < ADJUSTMENTS_PER_WRITER; j++) {
+                    adjustment.call();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> writer : running) {
+            writer.get();
+        }
+        burstNanos = System.nanoTime() - start;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(StockCounterConfig.class)
+    static class CounterApplication {
+    }
+
+    /**
+     * The single versioned stock row the delta rows replace
+     */
+    @Entity(name = "VersionedStock")
+    @Table(name = "versioned_stock")
+    public static class VersionedStock {
+
+        @Id
+        @Column(name = "sku_id")
+        private UUID skuId;
+
+        @Column(name = "quantity", nullable = false)
+        private long quantity;
+
+        @Version
+        @Column(name = "version")
+        private long version;
+
+        static VersionedStock of(UUID skuId) {
+            VersionedStock stock = new VersionedStock();
+            stock.skuId = skuId;
+            stock.quantity = 1_000_000_000L;
+            return stock;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A repository-heavy request: one transaction running {@value #QUERIES} tenant-filtered
+ * queries against H2. Compares enabling the filter before every query (what callers did
+ * before activation moved to transaction begin), routing every query through the
+ * skip check, and activating once per session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantFilterActivationBenchmark {
+
+    private static final int QUERIES = 20;
+    private static final int ROWS_PER_TENANT = 50;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final TenantFilterEnabler tenantFilterEnabler = new TenantFilterEnabler(null);
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:filter_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(FilteredItem.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            for (UUID tenant : new UUID[]{tenantId, UUID.randomUUID()}) {
+                for (int i = 0; i < ROWS_PER_TENANT; i++) {
+                    FilteredItem item = new FilteredItem();
+                    item.setTenantId(tenant);
+                    item.setCreatedAt(Instant.now());
+                    session.persist(item);
+                }
+            }
+        });
+        TenantContext.setTenantId(tenantId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TenantContext.clear();
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public long enablePerQuery() {
+        return sessionFactory.fromTransaction(session -> {
+            long rows = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                session.enableFilter(TenantFilterEnabler.TENANT_FILTER)
+                        .setParameter(TenantFilterEnabler.TENANT_ID_PARAMETER, TenantContext.getTenantId());
+                rows += count(session);
+            }
+            return rows;
+        });
+    }
+
+    @Benchmark
+    public long skipCheckPerQuery() {
+        return sessionFactory.fromTransaction(session -> {
+            long rows = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                tenantFilterEnabler.activateForSession(session);
+                rows += count(session);
+            }
+            return rows;
+        });
+    }
+
+    @Benchmark
+    public long activateOncePerSession() {
+        return sessionFactory.fromTransaction(session -> {
+            tenantFilterEnabler.activateForSession(session);
+            long rows = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                rows += count(session);
+            }
+            return rows;
+        });
+    }
+
+    private static long count(Session session) {
+        return session.createSelectionQuery("select count(i) from FilteredItem i", Long.class).getSingleResult();
+    }
+
+    @Entity(name = "FilteredItem")
+    @Table(name = "filtered_items")
+    public static class FilteredItem extends BaseEntity {
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Inserting 1M rows of a BaseEntity type into H2 in one transaction: the chunked, JDBC
+ * batched {@link BulkPersistenceService#insertAll(Stream)} against persisting and flushing
+ * row by row (one INSERT round trip per row, the persistence context cleared at the same
+ * chunk size so both stay within the heap). Rows per second are printed after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private ConfigurableApplicationContext context;
+    private BulkPersistenceService bulkPersistenceService;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbc;
+    private String mode;
+    private long insertNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BulkApplication.class)
+                .run(
+                        "--spring.main.web-application-type=none",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        "--spring.datasource.url=jdbc:h2:mem:bulk_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop");
+        bulkPersistenceService = context.getBean(BulkPersistenceService.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbc = context.getBean(JdbcTemplate.class);
+        TenantContext.setTenantId(tenantId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TenantContext.clear();
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyTable() {
+        jdbc.execute("TRUNCATE TABLE bulk_insert_items");
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        Long stored = jdbc.queryForObject("SELECT COUNT(*) FROM bulk_insert_items", Long.class);
+        if (stored == null || stored != ROWS) {
+            throw new IllegalStateException("Expected " + ROWS + " rows, found " + stored);
+        }
+        System.out.printf("%n%s: %.0f rows/s%n", mode, ROWS / (insertNanos / 1e9));
+    }
+
+    @Benchmark
+    public long bulkInsert() {
+        mode = "bulk insert";
+        long start = System.nanoTime();
+        Long inserted = transactionTemplate.execute(status -> bulkPersistenceService.insertAll(items()));
+        insertNanos = System.nanoTime() - start;
+        return inserted;
+    }
+
+    @Benchmark
+    public long rowByRow() {
+        mode = "row by row";
+        long start = System.nanoTime();
+        Long inserted = transactionTemplate.execute(status -> {
+            long count = 0;
+            for (BulkInsertItem item : (Iterable<BulkInsertItem>) items()::iterator) {
+                item.setTenantId(tenantId);
+                entityManager.persist(item);
+                entityManager.flush();
+                if (++count % BulkPersistenceService.DEFAULT_CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+            entityManager.clear();
+            return count;
+        });
+        insertNanos = System.nanoTime() - start;
+        return inserted;
+    }
+
+    private static Stream<BulkInsertItem> items() {
+        Instant now = Instant.now();
+        return IntStream.range(0, ROWS).mapToObj(i -> BulkInsertItem.of("item-" + i, i, now));
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(BulkPersistenceService.class)
+    static class BulkApplication {
+    }
+
+    @Entity(name = "BulkInsertItem")
+    @Table(name = "bulk_insert_items")
+    public static class BulkInsertItem extends BaseEntity {
+
+        @Column(name = "name", nullable = false)
+        private String name;
+
+        @Column(name = "quantity", nullable = false)
+        private long quantity;
+
+        static BulkInsertItem of(String name, long quantity, Instant createdAt) {
+            BulkInsertItem item = new BulkInsertItem();
+            item.name = name;
+            item.quantity = quantity;
+            // No auditing in this context
+            item.setCreatedAt(createdAt);
+            return item;
+        }
+    }
+}
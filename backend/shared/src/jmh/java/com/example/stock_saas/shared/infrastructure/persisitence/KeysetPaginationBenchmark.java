@@ -0,0 +1,151 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetching one page of 50 rows at increasing depth of a 5M-row tenant table on H2, newest
+ * first: OFFSET/LIMIT as a Spring Data {@code Pageable} query issues it, against
+ * {@link KeysetPaginationSupport} continuing from the cursor of the previous row. Neither
+ * counts. The index is declared descending because H2, unlike PostgreSQL, cannot walk an
+ * ascending index backwards and would sort the whole tenant for every page.
+ *
+ * The table is generated once into an H2 file under target/ and reused by later forks;
+ * {@code mvn clean} removes it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class KeysetPaginationBenchmark {
+
+    private static final int ROWS = 5_000_000;
+    private static final int FILL_CHUNK = 100_000;
+    private static final int PAGE_SIZE = 50;
+    private static final UUID TENANT_ID = new UUID(0, 1);
+
+    @Param({"0", "10000", "1000000", "4999000"})
+    public int depth;
+
+    private ConfigurableApplicationContext context;
+    private KeysetPaginationSupport keysetPaginationSupport;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PagingApplication.class)
+                .run(
+                        "--spring.main.web-application-type=none",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        // No query cache: H2 would otherwise hand back the previous result of an identical query
+                        "--spring.datasource.url=jdbc:h2:file:./target/jmh-keyset/pages;QUERY_CACHE_SIZE=0",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--app.pagination.cursor-secret=benchmark");
+        keysetPaginationSupport = context.getBean(KeysetPaginationSupport.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        Long rows = jdbc.queryForObject("SELECT COUNT(*) FROM paged_items", Long.class);
+        if (rows == null || rows != ROWS) {
+            jdbc.execute("TRUNCATE TABLE paged_items");
+            // One transaction per chunk; a single 5M-row transaction bloats the file to >10 GB
+            for (int first = 1; first <= ROWS; first += FILL_CHUNK) {
+                jdbc.update("""
+                        INSERT INTO paged_items (id, tenant_id, created_at, version, deleted, name)
+                        SELECT RANDOM_UUID(), ?, DATEADD(SECOND, X, TIMESTAMP WITH TIME ZONE '2020-01-01 00:00:00Z'),
+                               0, FALSE, 'item-' || X
+                        FROM SYSTEM_RANGE(?, ?)
+                        """, TENANT_ID, first, first + FILL_CHUNK - 1);
+            }
+        }
+
+        if (depth > 0) {
+            // Cursor of the last row of the previous page, as the client would send it
+            KeysetCursor previous = jdbc.queryForObject("""
+                            SELECT created_at, id FROM paged_items WHERE tenant_id = ?
+                            ORDER BY created_at DESC, id DESC OFFSET ? ROWS FETCH FIRST 1 ROW ONLY
+                            """,
+                    (rs, i) -> new KeysetCursor(rs.getObject(1, Timestamp.class).toInstant(), rs.getObject(2, UUID.class)),
+                    TENANT_ID, depth - 1);
+            cursor = context.getBean(CursorCodec.class).encode(TENANT_ID, previous);
+        }
+        TenantContext.setTenantId(TENANT_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TenantContext.clear();
+        context.close();
+    }
+
+    @Benchmark
+    public List<PagedItem> offset() {
+        return readOnly.execute(status -> entityManager.createQuery("""
+                        select e from PagedItem e where e.tenantId = :tenantId
+                        order by e.createdAt desc, e.id desc
+                        """, PagedItem.class)
+                .setParameter("tenantId", TENANT_ID)
+                .setFirstResult(depth)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<PagedItem> keyset() {
+        return keysetPaginationSupport.findPage(PagedItem.class, cursor, PAGE_SIZE, CountMode.NONE).content();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({KeysetPaginationSupport.class, PaginationConfig.class})
+    static class PagingApplication {
+    }
+
+    @Entity(name = "PagedItem")
+    @Table(name = "paged_items", indexes = {
+            @Index(name = "idx_paged_items_tenant_created_id", columnList = "tenant_id, created_at desc, id desc")
+    })
+    public static class PagedItem extends BaseEntity {
+
+        @Column(name = "name", nullable = false)
+        private String name;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.stock_saas.shared.infrastructure.security;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.common.constant.PermissionMask;
+import com.example.stock_saas.shared.common.constant.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission checks of an authenticated request: the bitmask on {@link UserPrincipal}
+ * against the EnumSet and authority-string scans it replaced, with 1, 4 and 16 permissions
+ * per check. The principal holds every other permission (about half of them); "all" checks
+ * require granted permissions only, and "any" candidates hold a single granted one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionCheckBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int permissionsPerCheck;
+
+    private UserPrincipal principal;
+    private Set<Permission> permissions;
+    private Permission single;
+    private Set<Permission> requiredSet;
+    private PermissionMask required;
+    private Set<Permission> candidateSet;
+    private PermissionMask candidates;
+
+    @Setup
+    public void setUp() {
+        permissions = EnumSet.noneOf(Permission.class);
+        for (Permission permission : Permission.values()) {
+            if (permission.ordinal() % 2 == 0) {
+                permissions.add(permission);
+            }
+        }
+        principal = UserPrincipal.builder()
+                .id(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .username("manager")
+                .roles(EnumSet.of(Role.MANAGER))
+                .permissions(permissions)
+                .enabled(true)
+                .build();
+
+        List<Permission> granted = List.copyOf(permissions);
+        List<Permission> missing = EnumSet.complementOf(EnumSet.copyOf(permissions)).stream().toList();
+        if (granted.size() < permissionsPerCheck || missing.size() < permissionsPerCheck - 1) {
+            throw new IllegalStateException("Not enough permissions for " + permissionsPerCheck + " per check");
+        }
+        single = granted.get(granted.size() - 1);
+        requiredSet = EnumSet.copyOf(granted.subList(0, permissionsPerCheck));
+        required = PermissionMask.of(requiredSet);
+        candidateSet = EnumSet.of(single);
+        candidateSet.addAll(missing.subList(0, permissionsPerCheck - 1));
+        candidates = PermissionMask.of(candidateSet);
+    }
+
+    @Benchmark
+    public boolean maskContains() {
+        return principal.hasPermission(single);
+    }
+
+    @Benchmark
+    public boolean enumSetContains() {
+        return permissions.contains(single);
+    }
+
+    @Benchmark
+    public boolean authorityScan() {
+        String code = single.getCode();
+        for (GrantedAuthority authority : principal.getAuthorities()) {
+            if (code.equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean maskContainsAll() {
+        return principal.hasAllPermissions(required);
+    }
+
+    @Benchmark
+    public boolean enumSetContainsAll() {
+        return permissions.containsAll(requiredSet);
+    }
+
+    /**
+     * The per-permission loop the varargs SecurityUtils checks ran before the mask
+     */
+    @Benchmark
+    public boolean enumSetContainsEach() {
+        for (Permission permission : requiredSet) {
+            if (!permissions.contains(permission)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean maskContainsAny() {
+        return principal.hasAnyPermission(candidates);
+    }
+
+    @Benchmark
+    public boolean enumSetContainsAny() {
+        for (Permission candidate : candidateSet) {
+            if (permissions.contains(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.stock_saas.shared.infrastructure.security;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.common.constant.Role;
+import com.example.stock_saas.shared.common.constant.RolePermissions;
+import com.example.stock_saas.shared.infrastructure.cache.CacheMetrics;
+import com.example.stock_saas.shared.infrastructure.cache.InMemoryCacheInvalidationBus;
+import com.example.stock_saas.shared.infrastructure.cache.InMemoryCacheStore;
+import com.example.stock_saas.shared.infrastructure.cache.TwoTierCacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request principal resolution plus one permission check, for 1,000 active tokens:
+ * rebuilding the principal from token claims (role names and permission codes) against
+ * {@link PrincipalCache} hits in the local tier and in the shared store (local TTL of zero,
+ * so every request decodes the {@link PrincipalCodec} form).
+ *
+ * Rebuilding from claims is the cheapest uncached path; a rebuild from the user tables adds
+ * at least one database round trip and is not measured here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrincipalCacheBenchmark {
+
+    private static final int TOKENS = 1_000;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID claimedUserId = UUID.randomUUID();
+    private final UUID[] userIds = new UUID[TOKENS];
+    private final String[] tokenIds = new String[TOKENS];
+    private List<String> roleClaim;
+    private List<String> permissionClaim;
+    private PrincipalCache localTier;
+    private PrincipalCache sharedTier;
+
+    @Setup
+    public void setUp() {
+        roleClaim = List.of(Role.MANAGER.name());
+        permissionClaim = RolePermissions.getPermissionsForRole(Role.MANAGER).stream()
+                .map(Permission::getCode)
+                .toList();
+
+        InMemoryCacheStore store = new InMemoryCacheStore();
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        localTier = new PrincipalCache(new TwoTierCacheManager(store, bus, new CacheMetrics()),
+                new PrincipalCacheProperties(true, 50_000, 60_000, 900_000));
+        sharedTier = new PrincipalCache(new TwoTierCacheManager(store, bus, new CacheMetrics()),
+                new PrincipalCacheProperties(true, 50_000, 0, 900_000));
+        for (int i = 0; i < TOKENS; i++) {
+            userIds[i] = UUID.randomUUID();
+            tokenIds[i] = UUID.randomUUID().toString();
+            localTier.get(userIds[i], tokenIds[i], this::fromClaims);
+        }
+    }
+
+    @Benchmark
+    public boolean withoutCache() {
+        return fromClaims().hasPermission(Permission.INVENTORY_ADJUST);
+    }
+
+    @Benchmark
+    public boolean localTierHit() {
+        int i = ThreadLocalRandom.current().nextInt(TOKENS);
+        return localTier.get(userIds[i], tokenIds[i], this::fromClaims).hasPermission(Permission.INVENTORY_ADJUST);
+    }
+
+    @Benchmark
+    public boolean sharedTierHit() {
+        int i = ThreadLocalRandom.current().nextInt(TOKENS);
+        return sharedTier.get(userIds[i], tokenIds[i], this::fromClaims).hasPermission(Permission.INVENTORY_ADJUST);
+    }
+
+    private UserPrincipal fromClaims() {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (String role : roleClaim) {
+            roles.add(Role.fromString(role));
+        }
+        return UserPrincipal.builder()
+                .id(claimedUserId)
+                .tenantId(tenantId)
+                .username("manager")
+                .email("manager@example.com")
+                .roles(roles)
+                .permissions(Permission.fromCodes(permissionClaim))
+                .enabled(true)
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.stock_saas.shared.infrastructure.threading;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load harness for the two request execution modes: 2,000 concurrent clients each send one
+ * request to an endpoint that runs an H2 query and then blocks for {@value #DOWNSTREAM_MS} ms,
+ * standing in for a Redis or Elasticsearch call. One operation is the whole burst, so the
+ * score is the time to serve 2,000 requests; p50/p99 request latency and requests per
+ * second are printed after each iteration.
+ *
+ * Platform mode runs on Tomcat's default 200 threads, virtual mode on one virtual thread per
+ * request; both share a pool of {@value #POOL_SIZE} connections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int CLIENTS = 2_000;
+    private static final int POOL_SIZE = 10;
+    private static final long DOWNSTREAM_MS = 20;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private final long[] latencies = new long[CLIENTS];
+    private ConfigurableApplicationContext context;
+    private ExecutorService clients;
+    private HttpClient http;
+    private HttpRequest request;
+    private long burstNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(LoadApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:load_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.jpa.hibernate.ddl-auto=none");
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+        http = HttpClient.newBuilder().executor(clients).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/load")).GET().build();
+
+        HttpRequest mode = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/mode")).GET().build();
+        String servedOnVirtualThread = http.sendAsync(mode, HttpResponse.BodyHandlers.ofString()).join().body();
+        if (Boolean.parseBoolean(servedOnVirtualThread) != virtualThreads) {
+            throw new IllegalStateException("Requests not served in the expected thread mode: " + servedOnVirtualThread);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        http.close();
+        clients.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int burst() {
+        long start = System.nanoTime();
+        CompletableFuture<?>[] requests = new CompletableFuture<?>[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            int client = i;
+            requests[i] = CompletableFuture.runAsync(() -> latencies[client] = send(), clients);
+        }
+        CompletableFuture.allOf(requests).join();
+        burstNanos = System.nanoTime() - start;
+        return requests.length;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%n%s threads: p50 %.1f ms, p99 %.1f ms, %.0f req/s%n",
+                virtualThreads ? "virtual" : "platform",
+                sorted[CLIENTS / 2] / 1e6,
+                sorted[CLIENTS * 99 / 100] / 1e6,
+                CLIENTS / (burstNanos / 1e9));
+    }
+
+    private long send() {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Load request failed with status " + response.statusCode());
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return System.nanoTime() - start;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({VirtualThreadPoolConfig.class, LoadController.class})
+    static class LoadApplication {
+
+        @Bean
+        SecurityFilterChain loadSecurity(HttpSecurity http) throws Exception {
+            return http.authorizeHttpRequests(requests -> requests.anyRequest().permitAll())
+                    .csrf(csrf -> csrf.disable())
+                    .build();
+        }
+    }
+
+    @RestController
+    static class LoadController {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        LoadController(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping("/load")
+        Long load() throws InterruptedException {
+            Long tables = jdbcTemplate.queryForObject("select count(*) from information_schema.tables", Long.class);
+            Thread.sleep(DOWNSTREAM_MS);
+            return tables;
+        }
+
+        @GetMapping("/mode")
+        boolean mode() {
+            return Thread.currentThread().isVirtual();
+        }
+    }
+}
@@ -3,9 +3,12 @@ package com.example.stock_saas.shared.api.exception;
 import com.example.stock_saas.shared.api.response.ApiResponse;
 import com.example.stock_saas.shared.domain.exception.BusinessRuleViolationException;
 import com.example.stock_saas.shared.domain.exception.DomainException;
+import com.example.stock_saas.shared.domain.exception.OptimisticLockConflictException;
 import com.example.stock_saas.shared.domain.exception.ResourceNotFoundException;
 import com.example.stock_saas.shared.domain.exception.TenantMismatchException;
+import jakarta.persistence.OptimisticLockException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -35,16 +38,12 @@ public class GlobalExceptionHandler {
             MethodArgumentNotValidException ex,
             WebRequest request) {
 
-        List<ApiResponse.ErrorDetail> errors = new ArrayList<>();
+        List<FieldError> fieldErrors = ex.getBindingResult().getFieldErrors();
+        List<ApiResponse.ErrorDetail> errors = new ArrayList<>(fieldErrors.size());
 
-        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
-            ApiResponse.ErrorDetail errorDetail = ApiResponse.ErrorDetail.builder()
-                    .field(error.getField())
-                    .code(Integer.parseInt("VALIDATION_ERROR"))
-                    .message(error.getDefaultMessage())
-                    .rejectedValue(error.getRejectedValue())
-                    .build();
-            errors.add(errorDetail);
+        for (FieldError error : fieldErrors) {
+            errors.add(new ApiResponse.ErrorDetail(
+                    error.getDefaultMessage(), HttpStatus.BAD_REQUEST.value(), error.getField(), error.getRejectedValue()));
         }
 
         log.warn("Validation error: {} errors found", errors.size());
@@ -84,6 +83,36 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    /**
+     * Handle optimistic-lock conflicts that outlasted their retries
+     */
+    @ExceptionHandler(OptimisticLockConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockConflict(
+            OptimisticLockConflictException ex,
+            WebRequest request) {
+
+        log.warn("Optimistic lock conflict: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    /**
+     * Handle optimistic-lock failures of writes without retry
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockFailure(
+            RuntimeException ex,
+            WebRequest request) {
+
+        log.warn("Optimistic lock failure: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.CONCURRENT_MODIFICATION);
+    }
+
     /**
      * Handle tenant mismatch (security violation)
      */
@@ -96,7 +125,7 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity
                 .status(HttpStatus.FORBIDDEN)
-                .body(ApiResponse.error("Access denied: tenant mismatch"));
+                .body(ApiResponse.TENANT_MISMATCH);
     }
 
     /**
@@ -111,7 +140,7 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity
                 .status(HttpStatus.FORBIDDEN)
-                .body(ApiResponse.error("Access denied: insufficient permissions"));
+                .body(ApiResponse.ACCESS_DENIED);
     }
 
     /**
@@ -126,7 +155,7 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity
                 .status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.error("Invalid credentials"));
+                .body(ApiResponse.INVALID_CREDENTIALS);
     }
 
     /**
@@ -171,6 +200,6 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiResponse.error("An unexpected error occurred. Please try again later."));
+                .body(ApiResponse.UNEXPECTED_ERROR);
     }
 }
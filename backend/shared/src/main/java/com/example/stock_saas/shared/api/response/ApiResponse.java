@@ -4,6 +4,7 @@ package com.example.stock_saas.shared.api.response;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
+import tools.jackson.databind.annotation.JsonSerialize;
 
 import java.time.Instant;
 import java.util.List;
@@ -12,11 +13,24 @@ import java.util.Map;
 /**
  * Standardized API response wrapper.
  * All API endpoints should return responses in this format for consistency.
+ *
+ * Serialized by {@link ApiResponseSerializer} (null fields omitted). Timestamps come from
+ * a millisecond {@link ResponseClock}; the shared constant error bodies below carry no
+ * timestamp of their own and report the time they are serialized at.
  */
 @Getter
 @Builder
-@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = ApiResponseSerializer.class)
 public class ApiResponse <T> {
+
+    public static final ApiResponse<Void> TENANT_MISMATCH = constantError("Access denied: tenant mismatch");
+    public static final ApiResponse<Void> ACCESS_DENIED = constantError("Access denied: insufficient permissions");
+    public static final ApiResponse<Void> CONCURRENT_MODIFICATION =
+            constantError("The resource was modified concurrently, reload it and try again");
+    public static final ApiResponse<Void> INVALID_CREDENTIALS = constantError("Invalid credentials");
+    public static final ApiResponse<Void> UNEXPECTED_ERROR =
+            constantError("An unexpected error occurred. Please try again later.");
+
     private final boolean success;
     private final String message;
     private final T data;
@@ -24,66 +38,67 @@ public class ApiResponse <T> {
     private final Map<String, Object> metadata;
 
     @Builder.Default
-    private final Instant timestamp = Instant.now();
+    private final Instant timestamp = ResponseClock.now();
+
+    private ApiResponse(boolean success, String message, T data, List<ErrorDetail> errors,
+                        Map<String, Object> metadata, Instant timestamp) {
+        this.success = success;
+        this.message = message;
+        this.data = data;
+        this.errors = errors;
+        this.metadata = metadata;
+        this.timestamp = timestamp;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp != null ? timestamp : ResponseClock.now();
+    }
 
     /**
      * Create a successful response with data
      */
     public static <T> ApiResponse<T> success(T data) {
-        return ApiResponse.<T>builder()
-                .success(true)
-                .data(data)
-                .build();
+        return new ApiResponse<>(true, null, data, null, null, ResponseClock.now());
     }
     /**
      * Create a successful response with data and message
      */
     public static <T> ApiResponse<T> success(T data, String message) {
-        return ApiResponse.<T>builder()
-                .success(true)
-                .data(data)
-                .message(message)
-                .build();
+        return new ApiResponse<>(true, message, data, null, null, ResponseClock.now());
     }
 
     /**
      * Create a successful response with only a message
      */
     public static <T> ApiResponse<T> success(String message) {
-        return ApiResponse.<T>builder()
-                .success(true)
-                .message(message)
-                .build();
+        return new ApiResponse<>(true, message, null, null, null, ResponseClock.now());
     }
     /**
      * Create an error response with a single error message
      */
     public static <T> ApiResponse<T> error(String message) {
-        return ApiResponse.<T>builder()
-                .success(false)
-                .message(message)
-                .build();
+        return new ApiResponse<>(false, message, null, null, null, ResponseClock.now());
     }
     /**
      * Create an error response with error details
      */
     public static <T> ApiResponse<T> error(String message, List<ErrorDetail> errors) {
-        return ApiResponse.<T>builder()
-                .success(false)
-                .message(message)
-                .errors(errors)
-                .build();
+        return new ApiResponse<>(false, message, null, errors, null, ResponseClock.now());
     }
     /**
      * Create an error response with a single error detail
      */
     public static <T> ApiResponse<T> error(String message, ErrorDetail error) {
-        return ApiResponse.<T>builder()
-                .success(false)
-                .message(message)
-                .errors(List.of(error))
-                .build();
+        return new ApiResponse<>(false, message, null, List.of(error), null, ResponseClock.now());
     }
+
+    /**
+     * Shared, immutable error body for a fixed message
+     */
+    private static ApiResponse<Void> constantError(String message) {
+        return new ApiResponse<>(false, message, null, null, null, null);
+    }
+
     /**
      * Error detail for validation or business errors
      */
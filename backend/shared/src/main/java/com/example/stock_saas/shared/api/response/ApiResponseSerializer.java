@@ -0,0 +1,79 @@
+package com.example.stock_saas.shared.api.response;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+import java.util.List;
+
+/**
+ * Hand-written serializer for {@link ApiResponse}.
+ *
+ * Writes the same JSON as bean serialization with NON_NULL inclusion, but with field
+ * names encoded once up front and no reflection over the envelope; only {@code data},
+ * {@code metadata} and rejected values go through the regular Jackson serializers.
+ */
+public class ApiResponseSerializer extends ValueSerializer<ApiResponse<?>> {
+
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString ERRORS = new SerializedString("errors");
+    private static final SerializableString METADATA = new SerializedString("metadata");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString FIELD = new SerializedString("field");
+    private static final SerializableString REJECTED_VALUE = new SerializedString("rejectedValue");
+
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartObject(value);
+        gen.writeName(SUCCESS);
+        gen.writeBoolean(value.isSuccess());
+        if (value.getMessage() != null) {
+            gen.writeName(MESSAGE);
+            gen.writeString(value.getMessage());
+        }
+        if (value.getData() != null) {
+            gen.writeName(DATA);
+            ctxt.writeValue(gen, value.getData());
+        }
+        if (value.getErrors() != null) {
+            gen.writeName(ERRORS);
+            writeErrors(value.getErrors(), gen, ctxt);
+        }
+        if (value.getMetadata() != null) {
+            gen.writeName(METADATA);
+            ctxt.writeValue(gen, value.getMetadata());
+        }
+        gen.writeName(TIMESTAMP);
+        gen.writeString(ResponseClock.format(value.getTimestamp()));
+        gen.writeEndObject();
+    }
+
+    private static void writeErrors(List<ApiResponse.ErrorDetail> errors, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartArray(errors, errors.size());
+        for (int i = 0; i < errors.size(); i++) {
+            ApiResponse.ErrorDetail error = errors.get(i);
+            gen.writeStartObject(error);
+            if (error.message() != null) {
+                gen.writeName(MESSAGE);
+                gen.writeString(error.message());
+            }
+            gen.writeName(CODE);
+            gen.writeNumber(error.code());
+            if (error.field() != null) {
+                gen.writeName(FIELD);
+                gen.writeString(error.field());
+            }
+            if (error.rejectedValue() != null) {
+                gen.writeName(REJECTED_VALUE);
+                ctxt.writeValue(gen, error.rejectedValue());
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+}
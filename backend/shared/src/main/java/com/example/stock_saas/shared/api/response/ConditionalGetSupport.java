@@ -0,0 +1,107 @@
+package com.example.stock_saas.shared.api.response;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import com.example.stock_saas.shared.infrastructure.persisitence.EntityVersionQuery;
+import com.example.stock_saas.shared.infrastructure.persisitence.EntityVersionQuery.CollectionVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET (ETag / If-None-Match) for tenant-scoped resources.
+ *
+ * The weak ETag of a single resource is derived from (id, version), that of a list from the
+ * tenant's collection version of the entity type (see {@link EntityVersionQuery}). Both are
+ * read with a version-only projection first; when the client's tag still matches, a 304 is
+ * returned and the loader (entity graph, mapping, serialization) never runs.
+ *
+ * Usage in a controller:
+ * <pre>
+ * return conditionalGet.single(Product.class, id, request, () -> mapper.toDto(service.get(id)));
+ * </pre>
+ *
+ * The version is read before the loader runs, so a concurrent update can only make the tag
+ * older than the body, which costs the client one extra full response, never a stale one.
+ *
+ * The single-resource tag only covers the @Version of the root row. If the DTO also renders
+ * child rows (lines, variants, stock levels...), a change to a child alone leaves the tag
+ * unchanged and the client gets a stale 304, unless that change also bumps the parent's
+ * version (e.g. OPTIMISTIC_FORCE_INCREMENT on the parent, or touching it in the same
+ * transaction). Otherwise serve such resources without a conditional GET.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetSupport {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final EntityVersionQuery versionQuery;
+
+    /**
+     * GET of a single entity-backed resource
+     */
+    public <E extends BaseEntity, R> ResponseEntity<ApiResponse<R>> single(
+            Class<E> type, UUID id, WebRequest request, Supplier<R> loader) {
+        Optional<Long> version = versionQuery.findVersion(type, id);
+        if (version.isEmpty()) {
+            // Unknown or deleted: let the loader answer as usual (typically ResourceNotFoundException)
+            return ResponseEntity.ok(ApiResponse.success(loader.get()));
+        }
+        return respond(entityTag(id, version.get()), request, loader);
+    }
+
+    /**
+     * GET of a list (or page) of entities of one type; any change to the tenant's rows
+     * of that type invalidates every list URL of it
+     */
+    public <E extends BaseEntity, R> ResponseEntity<ApiResponse<R>> collection(
+            Class<E> type, WebRequest request, Supplier<R> loader) {
+        CollectionVersion version = versionQuery.collectionVersion(type);
+        return respond(collectionTag(TenantContext.getTenantId(), type, version), request, loader);
+    }
+
+    private <R> ResponseEntity<ApiResponse<R>> respond(String etag, WebRequest request, Supplier<R> loader) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(loader.get()));
+    }
+
+    static String entityTag(UUID id, long version) {
+        return "W/\"" + id + "-" + version + "\"";
+    }
+
+    static String collectionTag(UUID tenantId, Class<?> type, CollectionVersion version) {
+        long hash = tenantId.getMostSignificantBits() ^ tenantId.getLeastSignificantBits();
+        hash = mix(hash, type.getName().hashCode());
+        hash = mix(hash, version.count());
+        hash = mix(hash, version.versionSum());
+        if (version.lastUpdated() != null) {
+            hash = mix(hash, version.lastUpdated().getEpochSecond());
+            hash = mix(hash, version.lastUpdated().getNano());
+        }
+        if (version.lastId() != null) {
+            hash = mix(hash, version.lastId().hashCode());
+        }
+        return "W/\"" + Long.toHexString(hash) + "-" + version.count() + "\"";
+    }
+
+    private static long mix(long hash, long value) {
+        long h = (hash ^ value) * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.stock_saas.shared.api.response;
+
+import com.example.stock_saas.shared.infrastructure.persisitence.KeysetPage;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated response wrapper.
+ * Unlike {@link PageResponse} there are no page numbers: clients pass
+ * {@code nextCursor} back to fetch the following page. The total is only
+ * present when requested, and may be a lower bound ({@code totalEstimated}).
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final Long totalElements;
+    private final boolean totalEstimated;
+
+    /**
+     * Create CursorPageResponse from a KeysetPage
+     */
+    public static <T> CursorPageResponse<T> from(KeysetPage<T> page) {
+        return from(page, page.content());
+    }
+
+    /**
+     * Create CursorPageResponse from a KeysetPage with mapped content
+     */
+    public static <T, R> CursorPageResponse<R> from(KeysetPage<T> page, List<R> content) {
+        return CursorPageResponse.<R>builder()
+                .content(content)
+                .size(page.size())
+                .nextCursor(page.nextCursor())
+                .hasNext(page.hasNext())
+                .totalElements(page.totalElements())
+                .totalEstimated(page.totalEstimated())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.stock_saas.shared.api.response;
+
+import java.util.function.Function;
+
+/**
+ * CSV column of a streaming export: header and value extractor (null values become empty cells).
+ */
+public record ExportColumn<T>(String header, Function<? super T, ?> value) {
+
+    public static <T> ExportColumn<T> of(String header, Function<? super T, ?> value) {
+        return new ExportColumn<>(header, value);
+    }
+}
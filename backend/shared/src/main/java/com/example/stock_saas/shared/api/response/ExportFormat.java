@@ -0,0 +1,35 @@
+package com.example.stock_saas.shared.api.response;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Output formats of {@link StreamingExporter}.
+ */
+public enum ExportFormat {
+
+    /**
+     * One JSON document per line
+     */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+
+    /**
+     * RFC 4180 CSV with a header row
+     */
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
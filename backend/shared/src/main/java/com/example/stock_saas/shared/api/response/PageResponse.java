@@ -3,12 +3,14 @@ package com.example.stock_saas.shared.api.response;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import tools.jackson.databind.annotation.JsonSerialize;
 
 import java.util.List;
 import java.util.function.Function;
 
 @Builder
 @Getter
+@JsonSerialize(using = PageResponseSerializer.class)
 public class PageResponse<T> {
     private final List<T> content;
     private final int page;
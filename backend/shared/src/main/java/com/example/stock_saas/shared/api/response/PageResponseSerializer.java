@@ -0,0 +1,49 @@
+package com.example.stock_saas.shared.api.response;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+/**
+ * Hand-written serializer for {@link PageResponse} with pre-encoded field names;
+ * only the content list goes through the regular Jackson serializers.
+ */
+public class PageResponseSerializer extends ValueSerializer<PageResponse<?>> {
+
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString PAGE = new SerializedString("page");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString FIRST = new SerializedString("first");
+    private static final SerializableString LAST = new SerializedString("last");
+    private static final SerializableString EMPTY = new SerializedString("empty");
+
+    @Override
+    public void serialize(PageResponse<?> value, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartObject(value);
+        gen.writeName(CONTENT);
+        if (value.getContent() != null) {
+            ctxt.writeValue(gen, value.getContent());
+        } else {
+            gen.writeNull();
+        }
+        gen.writeName(PAGE);
+        gen.writeNumber(value.getPage());
+        gen.writeName(SIZE);
+        gen.writeNumber(value.getSize());
+        gen.writeName(TOTAL_ELEMENTS);
+        gen.writeNumber(value.getTotalElements());
+        gen.writeName(TOTAL_PAGES);
+        gen.writeNumber(value.getTotalPages());
+        gen.writeName(FIRST);
+        gen.writeBoolean(value.isFirst());
+        gen.writeName(LAST);
+        gen.writeBoolean(value.isLast());
+        gen.writeName(EMPTY);
+        gen.writeBoolean(value.isEmpty());
+        gen.writeEndObject();
+    }
+}
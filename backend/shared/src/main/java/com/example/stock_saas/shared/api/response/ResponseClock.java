@@ -0,0 +1,51 @@
+package com.example.stock_saas.shared.api.response;
+
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Millisecond clock for response timestamps.
+ * All responses created within the same millisecond share one Instant and its
+ * pre-encoded ISO-8601 text instead of each allocating and formatting their own.
+ */
+final class ResponseClock {
+
+    private static volatile Tick current = new Tick(Long.MIN_VALUE, Instant.EPOCH, null);
+
+    private ResponseClock() {
+        // Utility class
+    }
+
+    static Instant now() {
+        return tick().instant();
+    }
+
+    /**
+     * ISO-8601 text of the instant, shared when it is the current tick
+     */
+    static SerializableString format(Instant instant) {
+        Tick tick = current;
+        if (tick.instant() == instant) {
+            return tick.text();
+        }
+        return new SerializedString(DateTimeFormatter.ISO_INSTANT.format(instant));
+    }
+
+    private static Tick tick() {
+        long millis = System.currentTimeMillis();
+        Tick tick = current;
+        if (tick.millis() != millis) {
+            // Racing threads may both build a tick for the same millisecond, which is harmless
+            Instant instant = Instant.ofEpochMilli(millis);
+            tick = new Tick(millis, instant, new SerializedString(DateTimeFormatter.ISO_INSTANT.format(instant)));
+            current = tick;
+        }
+        return tick;
+    }
+
+    private record Tick(long millis, Instant instant, SerializableString text) {
+    }
+}
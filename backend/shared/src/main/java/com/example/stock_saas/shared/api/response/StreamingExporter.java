@@ -0,0 +1,289 @@
+package com.example.stock_saas.shared.api.response;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import com.example.stock_saas.shared.infrastructure.persisitence.EntityStreamer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Streams large exports (REPORT_EXPORT) as NDJSON or CSV straight to the response.
+ *
+ * Rows are written one at a time as they are read (see {@link EntityStreamer}), so memory
+ * stays constant however many rows are exported; nothing is collected into an
+ * {@link ApiResponse} or {@link PageResponse}.
+ *
+ * Errors keep the {@link ApiResponse} semantics as far as HTTP allows. Output is buffered
+ * (64 KiB) before anything is sent, so a failure before the first buffer leaves the
+ * response uncommitted and is rendered by the GlobalExceptionHandler as a regular error
+ * response. Once rows have been sent the status can no longer change: NDJSON exports then
+ * end with an {@code ApiResponse} error line ({@code "success":false}) and CSV exports are
+ * aborted, leaving the client with an incomplete chunked transfer.
+ *
+ * Exports run on the MVC async executor; long ones need a matching
+ * {@code spring.mvc.async.request-timeout}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingExporter {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final byte NEW_LINE = '\n';
+    private static final byte[] CSV_LINE_END = {'\r', '\n'};
+
+    private final EntityStreamer entityStreamer;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * NDJSON export of the current tenant's entities, each mapped to a DTO
+     */
+    public <E extends BaseEntity, R> ResponseEntity<StreamingResponseBody> ndjson(
+            String fileName, Class<E> type, Specification<E> specification, Function<? super E, ? extends R> mapper) {
+        return ndjson(fileName, sink -> entityStreamer.forEach(type, specification, entity -> sink.accept(mapper.apply(entity))));
+    }
+
+    /**
+     * NDJSON export of an arbitrary row source
+     */
+    public <R> ResponseEntity<StreamingResponseBody> ndjson(String fileName, RowSource<R> source) {
+        return respond(fileName, ExportFormat.NDJSON, source, new RowWriter<>() {
+            @Override
+            public void writeRow(OutputStream out, R row) throws IOException {
+                out.write(jsonMapper.writeValueAsBytes(row));
+                out.write(NEW_LINE);
+            }
+        });
+    }
+
+    /**
+     * CSV export of the current tenant's entities
+     */
+    public <E extends BaseEntity> ResponseEntity<StreamingResponseBody> csv(
+            String fileName, Class<E> type, Specification<E> specification, List<ExportColumn<E>> columns) {
+        return csv(fileName, columns, sink -> entityStreamer.forEach(type, specification, sink::accept));
+    }
+
+    /**
+     * CSV export of an arbitrary row source
+     */
+    public <R> ResponseEntity<StreamingResponseBody> csv(String fileName, List<ExportColumn<R>> columns, RowSource<R> source) {
+        return respond(fileName, ExportFormat.CSV, source, new RowWriter<>() {
+            private final StringBuilder line = new StringBuilder(256);
+
+            @Override
+            public void writeHeader(OutputStream out) throws IOException {
+                line.setLength(0);
+                for (int i = 0; i < columns.size(); i++) {
+                    appendCell(i, columns.get(i).header());
+                }
+                writeLine(out);
+            }
+
+            @Override
+            public void writeRow(OutputStream out, R row) throws IOException {
+                line.setLength(0);
+                for (int i = 0; i < columns.size(); i++) {
+                    appendCell(i, columns.get(i).value().apply(row));
+                }
+                writeLine(out);
+            }
+
+            private void appendCell(int index, Object value) {
+                if (index > 0) {
+                    line.append(',');
+                }
+                if (value != null) {
+                    appendCsv(line, value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString());
+                }
+            }
+
+            private void writeLine(OutputStream out) throws IOException {
+                out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+                out.write(CSV_LINE_END);
+            }
+        });
+    }
+
+    private <R> ResponseEntity<StreamingResponseBody> respond(String fileName, ExportFormat format,
+                                                              RowSource<R> source, RowWriter<R> writer) {
+        UUID tenantId = TenantContext.getTenantId();
+
+        StreamingResponseBody body = outputStream -> {
+            ExportOutputStream out = new ExportOutputStream(outputStream, BUFFER_SIZE);
+            try {
+                long rows = TenantContext.executeInTenantContext(tenantId, () -> export(source, writer, out));
+                out.flush();
+                log.debug("Exported {} rows as {} ({} bytes)", rows, format, out.getBytesWritten());
+            } catch (UncheckedIOException ex) {
+                // The client went away or the connection broke, nothing more can be sent
+                throw ex.getCause();
+            } catch (RuntimeException ex) {
+                if (!out.isCommitted()) {
+                    throw ex;
+                }
+                log.error("Export {} failed after {} rows", fileName, out.getRows(), ex);
+                if (format != ExportFormat.NDJSON) {
+                    throw ex;
+                }
+                out.write(jsonMapper.writeValueAsBytes(
+                        ApiResponse.error("Export aborted after " + out.getRows() + " rows")));
+                out.write(NEW_LINE);
+                out.flush();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + format.getExtension(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+
+    private static <R> long export(RowSource<R> source, RowWriter<R> writer, ExportOutputStream out) {
+        try {
+            writer.writeHeader(out);
+            source.emit(row -> {
+                writer.writeRow(out, row);
+                out.rowWritten();
+            });
+            return out.getRows();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static void appendCsv(StringBuilder line, String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    /**
+     * Producer of export rows, typically backed by a streaming query
+     */
+    @FunctionalInterface
+    public interface RowSource<R> {
+        void emit(RowSink<R> sink) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface RowSink<R> {
+        void accept(R row) throws IOException;
+    }
+
+    private interface RowWriter<R> {
+
+        default void writeHeader(OutputStream out) throws IOException {
+        }
+
+        void writeRow(OutputStream out, R row) throws IOException;
+    }
+
+    /**
+     * Buffers output and records whether anything has reached the client yet;
+     * unlike BufferedOutputStream it never flushes implicitly on close.
+     */
+    private static final class ExportOutputStream extends OutputStream {
+
+        private final OutputStream target;
+        private final byte[] buffer;
+        private int count;
+        private boolean committed;
+        private long bytesWritten;
+        private long rows;
+
+        ExportOutputStream(OutputStream target, int bufferSize) {
+            this.target = target;
+            this.buffer = new byte[bufferSize];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                drain();
+            }
+            buffer[count++] = (byte) b;
+            bytesWritten++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length > buffer.length - count) {
+                drain();
+            }
+            if (length >= buffer.length) {
+                committed = true;
+                target.write(bytes, offset, length);
+            } else {
+                System.arraycopy(bytes, offset, buffer, count, length);
+                count += length;
+            }
+            bytesWritten += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+            target.flush();
+        }
+
+        private void drain() throws IOException {
+            if (count > 0) {
+                committed = true;
+                target.write(buffer, 0, count);
+                count = 0;
+            }
+        }
+
+        void rowWritten() {
+            rows++;
+        }
+
+        boolean isCommitted() {
+            return committed;
+        }
+
+        long getRows() {
+            return rows;
+        }
+
+        long getBytesWritten() {
+            return bytesWritten;
+        }
+    }
+}
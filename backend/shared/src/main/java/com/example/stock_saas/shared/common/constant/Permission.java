@@ -3,6 +3,11 @@ package com.example.stock_saas.shared.common.constant;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 @Getter
 @RequiredArgsConstructor
@@ -91,18 +96,39 @@ public enum Permission {
     private final String code;
     private final String description;
 
+    /**
+     * Code-to-permission index, built once at class load
+     */
+    private static final Map<String, Permission> BY_CODE = new HashMap<>();
+
+    static {
+        for (Permission permission : values()) {
+            BY_CODE.put(permission.code, permission);
+        }
+    }
+
     @Override
     public String toString() {
         return code;
     }
 
     public static Permission fromCode(String code) {
-        for (Permission permission : values()) {
-            if (permission.code.equals(code)) {
-                return permission;
-            }
+        Permission permission = BY_CODE.get(code);
+        if (permission == null) {
+            throw new IllegalArgumentException("Unknown permission code: " + code);
+        }
+        return permission;
+    }
+
+    /**
+     * Decode a list of permission codes (e.g. JWT claims) into a set
+     */
+    public static Set<Permission> fromCodes(Collection<String> codes) {
+        Set<Permission> permissions = EnumSet.noneOf(Permission.class);
+        for (String code : codes) {
+            permissions.add(fromCode(code));
         }
-        throw new IllegalArgumentException("Unknown permission code: " + code);
+        return permissions;
     }
 }
 
@@ -0,0 +1,155 @@
+package com.example.stock_saas.shared.common.constant;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Compact, immutable representation of a set of permissions.
+ * Each permission maps to one bit (by ordinal) across two longs,
+ * so membership, "has all" and "has any" checks are plain bitwise operations.
+ */
+public final class PermissionMask {
+
+    private static final Permission[] PERMISSIONS = Permission.values();
+
+    static {
+        if (PERMISSIONS.length > 128) {
+            throw new IllegalStateException("PermissionMask supports at most 128 permissions, found " + PERMISSIONS.length);
+        }
+    }
+
+    public static final PermissionMask EMPTY = new PermissionMask(0L, 0L);
+
+    private final long low;
+    private final long high;
+
+    private PermissionMask(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Build a mask from individual permissions
+     */
+    public static PermissionMask of(Permission... permissions) {
+        long low = 0L;
+        long high = 0L;
+        for (Permission permission : permissions) {
+            int ordinal = permission.ordinal();
+            if (ordinal < 64) {
+                low |= 1L << ordinal;
+            } else {
+                high |= 1L << (ordinal - 64);
+            }
+        }
+        return new PermissionMask(low, high);
+    }
+
+    /**
+     * Build a mask from a collection of permissions (null is treated as empty)
+     */
+    public static PermissionMask of(Collection<Permission> permissions) {
+        if (permissions == null || permissions.isEmpty()) {
+            return EMPTY;
+        }
+        long low = 0L;
+        long high = 0L;
+        for (Permission permission : permissions) {
+            int ordinal = permission.ordinal();
+            if (ordinal < 64) {
+                low |= 1L << ordinal;
+            } else {
+                high |= 1L << (ordinal - 64);
+            }
+        }
+        return new PermissionMask(low, high);
+    }
+
+    /**
+     * Decode a list of permission codes (e.g. JWT claims) straight into a mask
+     */
+    public static PermissionMask fromCodes(Collection<String> codes) {
+        long low = 0L;
+        long high = 0L;
+        for (String code : codes) {
+            int ordinal = Permission.fromCode(code).ordinal();
+            if (ordinal < 64) {
+                low |= 1L << ordinal;
+            } else {
+                high |= 1L << (ordinal - 64);
+            }
+        }
+        return new PermissionMask(low, high);
+    }
+
+    /**
+     * Check if the mask contains a specific permission
+     */
+    public boolean contains(Permission permission) {
+        int ordinal = permission.ordinal();
+        if (ordinal < 64) {
+            return (low & (1L << ordinal)) != 0;
+        }
+        return (high & (1L << (ordinal - 64))) != 0;
+    }
+
+    /**
+     * Check if the mask contains every permission of the other mask
+     */
+    public boolean containsAll(PermissionMask other) {
+        return (low & other.low) == other.low && (high & other.high) == other.high;
+    }
+
+    /**
+     * Check if the mask contains at least one permission of the other mask
+     */
+    public boolean containsAny(PermissionMask other) {
+        return ((low & other.low) | (high & other.high)) != 0;
+    }
+
+    /**
+     * Union of this mask and the other mask
+     */
+    public PermissionMask union(PermissionMask other) {
+        return new PermissionMask(low | other.low, high | other.high);
+    }
+
+    public boolean isEmpty() {
+        return low == 0L && high == 0L;
+    }
+
+    public int size() {
+        return Long.bitCount(low) + Long.bitCount(high);
+    }
+
+    /**
+     * Expand the mask back into a (mutable) EnumSet
+     */
+    public Set<Permission> toSet() {
+        Set<Permission> permissions = EnumSet.noneOf(Permission.class);
+        for (Permission permission : PERMISSIONS) {
+            if (contains(permission)) {
+                permissions.add(permission);
+            }
+        }
+        return permissions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PermissionMask that)) return false;
+        return low == that.low && high == that.high;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(low) * 31 + Long.hashCode(high);
+    }
+
+    @Override
+    public String toString() {
+        return toSet().toString();
+    }
+}
@@ -3,9 +3,12 @@ package com.example.stock_saas.shared.common.constant;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Application roles hierarchy.
@@ -54,6 +57,39 @@ public enum Role {
     private final int level;
     private final String displayName;
 
+    /**
+     * Cached copy of values(), which clones the array on every call
+     */
+    private static final Role[] VALUES = values();
+
+    /**
+     * Role hierarchy closure, computed once at class load
+     */
+    private static final Map<Role, Set<Role>> ROLES_AT_OR_BELOW = new EnumMap<>(Role.class);
+    private static final Map<Role, Set<Role>> ROLES_ABOVE = new EnumMap<>(Role.class);
+
+    /**
+     * Name-to-role index, built once at class load
+     */
+    private static final Map<String, Role> BY_NAME = new HashMap<>();
+
+    static {
+        for (Role role : VALUES) {
+            BY_NAME.put(role.name(), role);
+            Set<Role> atOrBelow = EnumSet.noneOf(Role.class);
+            Set<Role> above = EnumSet.noneOf(Role.class);
+            for (Role other : VALUES) {
+                if (other.level <= role.level) {
+                    atOrBelow.add(other);
+                } else {
+                    above.add(other);
+                }
+            }
+            ROLES_AT_OR_BELOW.put(role, Collections.unmodifiableSet(atOrBelow));
+            ROLES_ABOVE.put(role, Collections.unmodifiableSet(above));
+        }
+    }
+
     /**
      * Check if this role has at least the specified level
      */
@@ -72,22 +108,31 @@ public enum Role {
      * Get all roles at or below this level
      */
     public Set<Role> getRolesAtOrBelow() {
-        return Arrays.stream(values())
-                .filter(r -> r.level <= this.level)
-                .collect(Collectors.toSet());
+        return ROLES_AT_OR_BELOW.get(this);
     }
 
     /**
      * Get all roles above this level
      */
     public Set<Role> getRolesAbove() {
-        return Arrays.stream(values())
-                .filter(r -> r.level > this.level)
-                .collect(Collectors.toSet());
+        return ROLES_ABOVE.get(this);
     }
 
+    /**
+     * Resolve a role by name, ignoring case
+     */
     public static Role fromString(String role) {
-        return valueOf(role.toUpperCase());
+        Role match = BY_NAME.get(role);
+        if (match != null) {
+            return match;
+        }
+        // Fall back to a case-insensitive scan; avoids allocating an upper-cased copy
+        for (Role candidate : VALUES) {
+            if (candidate.name().equalsIgnoreCase(role)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unknown role: " + role);
     }
 }
 
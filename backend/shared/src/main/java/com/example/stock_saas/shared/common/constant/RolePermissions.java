@@ -159,6 +159,14 @@ public class RolePermissions {
             )
     );
 
+    private static final Role[] ROLES = Role.values();
+
+    /**
+     * Effective permissions for every combination of roles, indexed by the
+     * role set's bitmask (bit n = Role with ordinal n).
+     */
+    private static final PermissionMask[] ROLE_COMBINATION_PERMISSIONS = buildRoleCombinationTable();
+
     private RolePermissions() {
         // Utility class
     }
@@ -174,18 +182,50 @@ public class RolePermissions {
      * Check if a role has a specific permission by default
      */
     public static boolean roleHasPermission(Role role, Permission permission) {
-        return getPermissionsForRole(role).contains(permission);
+        return getPermissionMaskForRole(role).contains(permission);
     }
 
     /**
      * Get all permissions from multiple roles (union)
      */
     public static Set<Permission> getPermissionsForRoles(Set<Role> roles) {
-        Set<Permission> allPermissions = EnumSet.noneOf(Permission.class);
+        return getPermissionMaskForRoles(roles).toSet();
+    }
+
+    /**
+     * Get all permissions from multiple roles (union) as a bitmask
+     */
+    public static PermissionMask getPermissionMaskForRoles(Set<Role> roles) {
+        return ROLE_COMBINATION_PERMISSIONS[toRoleBits(roles)];
+    }
+
+    /**
+     * Get default permissions for a role as a bitmask
+     */
+    public static PermissionMask getPermissionMaskForRole(Role role) {
+        return ROLE_COMBINATION_PERMISSIONS[1 << role.ordinal()];
+    }
+
+    private static int toRoleBits(Set<Role> roles) {
+        int bits = 0;
         for (Role role : roles) {
-            allPermissions.addAll(getPermissionsForRole(role));
+            bits |= 1 << role.ordinal();
         }
-        return allPermissions;
+        return bits;
     }
-}
 
+    private static PermissionMask[] buildRoleCombinationTable() {
+        if (ROLES.length > 16) {
+            throw new IllegalStateException("Role combination table supports at most 16 roles, found " + ROLES.length);
+        }
+        PermissionMask[] table = new PermissionMask[1 << ROLES.length];
+        table[0] = PermissionMask.EMPTY;
+        for (int combination = 1; combination < table.length; combination++) {
+            // Each entry extends a smaller, already computed combination by its lowest role
+            Role lowestRole = ROLES[Integer.numberOfTrailingZeros(combination)];
+            PermissionMask rolePermissions = PermissionMask.of(getPermissionsForRole(lowestRole));
+            table[combination] = table[combination & (combination - 1)].union(rolePermissions);
+        }
+        return table;
+    }
+}
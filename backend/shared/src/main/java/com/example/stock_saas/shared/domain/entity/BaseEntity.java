@@ -22,6 +22,7 @@ import java.util.UUID;
  * - Audit fields (created/updated by/at)
  * - Soft delete support
  * - Optimistic locking
+ * - Time-ordered (UUIDv7) primary keys
  */
 @Getter
 @Setter
@@ -32,7 +33,7 @@ import java.util.UUID;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
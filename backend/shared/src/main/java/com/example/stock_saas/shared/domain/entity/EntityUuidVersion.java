@@ -0,0 +1,21 @@
+package com.example.stock_saas.shared.domain.entity;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Per-entity override of the UUID version generated for its primary key.
+ * Takes precedence over the global stock_saas.id.uuid-version setting.
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EntityUuidVersion {
+
+    UuidVersion value();
+}
@@ -0,0 +1,18 @@
+package com.example.stock_saas.shared.domain.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates UUID primary keys with {@link TimeOrderedUuidGenerator}.
+ * Version 7 (time-ordered) by default; see {@link EntityUuidVersion} for overrides.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedUuid {
+}
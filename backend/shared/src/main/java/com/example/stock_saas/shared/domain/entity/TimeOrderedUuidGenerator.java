@@ -0,0 +1,84 @@
+package com.example.stock_saas.shared.domain.entity;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hibernate identifier generator emitting UUIDv7 (RFC 9562) values.
+ *
+ * Layout: 48-bit Unix epoch milliseconds, version 7, a 12-bit sequence that keeps
+ * IDs generated in the same millisecond monotonic on this node, variant, 62 random bits.
+ *
+ * The version can be chosen globally with the Hibernate setting
+ * {@value #UUID_VERSION_SETTING} (time-ordered | random, e.g. via
+ * spring.jpa.properties.stock_saas.id.uuid-version) or per entity with {@link EntityUuidVersion}.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    public static final String UUID_VERSION_SETTING = "stock_saas.id.uuid-version";
+
+    /**
+     * Last issued (epochMillis << 12 | sequence), shared by all generators of this JVM
+     */
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    private static final ClassValue<UuidVersion> ENTITY_VERSIONS = new ClassValue<>() {
+        @Override
+        protected UuidVersion computeValue(Class<?> type) {
+            EntityUuidVersion override = type.getAnnotation(EntityUuidVersion.class);
+            return override != null ? override.value() : null;
+        }
+    };
+
+    private final UuidVersion defaultVersion;
+
+    public TimeOrderedUuidGenerator(TimeOrderedUuid config, Member member, GeneratorCreationContext context) {
+        Object setting = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(UUID_VERSION_SETTING);
+        this.defaultVersion = setting == null
+                ? UuidVersion.TIME_ORDERED
+                : UuidVersion.valueOf(setting.toString().trim().toUpperCase().replace('-', '_'));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        UuidVersion version = owner != null ? ENTITY_VERSIONS.get(owner.getClass()) : null;
+        if (version == null) {
+            version = defaultVersion;
+        }
+        return version == UuidVersion.RANDOM ? UUID.randomUUID() : timeOrdered();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    /**
+     * Generate a new UUIDv7
+     */
+    public static UUID timeOrdered() {
+        long now = System.currentTimeMillis() << 12;
+        long timestampAndSequence = LAST_TIMESTAMP_AND_SEQUENCE.updateAndGet(last -> Math.max(now, last + 1));
+
+        long mostSigBits = ((timestampAndSequence >>> 12) << 16)  // 48-bit millis
+                | 0x7000L                                            // version 7
+                | (timestampAndSequence & 0x0FFFL);                  // 12-bit sequence
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL)
+                | 0x8000000000000000L;                               // IETF variant
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.stock_saas.shared.domain.entity;
+
+/**
+ * UUID flavours available for entity primary keys.
+ */
+public enum UuidVersion {
+
+    /**
+     * Random UUID (version 4); scatters inserts across the primary key index
+     */
+    RANDOM,
+
+    /**
+     * Time-ordered UUID (version 7); new rows land at the right edge of the index
+     */
+    TIME_ORDERED
+}
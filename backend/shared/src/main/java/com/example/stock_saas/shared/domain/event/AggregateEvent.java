@@ -0,0 +1,20 @@
+package com.example.stock_saas.shared.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Domain event about a single aggregate.
+ * Lets infrastructure (caches, search indexes) react to changes without knowing each event type.
+ */
+public interface AggregateEvent extends DomainEvent {
+
+    /**
+     * Entity class of the aggregate root
+     */
+    Class<?> getAggregateType();
+
+    /**
+     * Identifier of the aggregate root
+     */
+    UUID getAggregateId();
+}
@@ -23,6 +23,16 @@ public abstract class BaseDomainEvent implements DomainEvent {
         this.triggeredBy = triggeredBy;
     }
 
+    /**
+     * Rehydrate an event that already occurred (e.g. read back from the outbox)
+     */
+    protected BaseDomainEvent(UUID eventId, Instant occurredAt, UUID tenantId, UUID triggeredBy) {
+        this.eventId = eventId;
+        this.occurredAt = occurredAt;
+        this.tenantId = tenantId;
+        this.triggeredBy = triggeredBy;
+    }
+
     @Override
     public String toString() {
         return String.format("%s[eventId=%s, tenantId=%s, occurredAt=%s]",
@@ -0,0 +1,51 @@
+package com.example.stock_saas.shared.domain.event;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A user's roles or direct permissions changed.
+ * Published by the operations guarded by {@link Permission#USER_ASSIGN_ROLE} and
+ * {@link Permission#USER_MANAGE_PERMISSIONS}; cached principals of the user must be dropped.
+ */
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserAccessChangedEvent extends BaseDomainEvent {
+
+    private final UUID userId;
+    private final Permission change;
+
+    public UserAccessChangedEvent(UUID tenantId, UUID triggeredBy, UUID userId, Permission change) {
+        super(tenantId, triggeredBy);
+        this.userId = userId;
+        this.change = requireAccessChange(change);
+    }
+
+    /**
+     * Rehydrate an event read back from the outbox or a transport (JSON or binary codec)
+     */
+    @JsonCreator
+    public UserAccessChangedEvent(@JsonProperty("eventId") UUID eventId,
+                                     @JsonProperty("occurredAt") Instant occurredAt,
+                                     @JsonProperty("tenantId") UUID tenantId,
+                                     @JsonProperty("triggeredBy") UUID triggeredBy,
+                                     @JsonProperty("userId") UUID userId,
+                                     @JsonProperty("change") Permission change) {
+        super(eventId, occurredAt, tenantId, triggeredBy);
+        this.userId = userId;
+        this.change = requireAccessChange(change);
+    }
+
+    private static Permission requireAccessChange(Permission change) {
+        if (change != Permission.USER_ASSIGN_ROLE && change != Permission.USER_MANAGE_PERMISSIONS) {
+            throw new IllegalArgumentException("Not a user access change: " + change);
+        }
+        return change;
+    }
+}
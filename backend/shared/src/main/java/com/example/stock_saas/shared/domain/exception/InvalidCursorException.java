@@ -0,0 +1,11 @@
+package com.example.stock_saas.shared.domain.exception;
+
+/**
+ * Exception when a pagination cursor is malformed, tampered with or issued for another tenant.
+ */
+public class InvalidCursorException extends DomainException {
+
+    public InvalidCursorException() {
+        super("Invalid or expired pagination cursor", "INVALID_CURSOR");
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.stock_saas.shared.domain.exception;
+
+/**
+ * Exception when concurrent writers keep conflicting on the same entity (optimistic locking)
+ * and the command could not be completed within its retry budget.
+ */
+public class OptimisticLockConflictException extends DomainException {
+
+    public OptimisticLockConflictException(String resourceType, int attempts, Throwable cause) {
+        super(
+                String.format("%s was modified concurrently, gave up after %d attempts", resourceType, attempts),
+                "CONCURRENT_MODIFICATION",
+                cause
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Message telling other nodes to drop a key from their local tier
+ *
+ * @param origin    node that published the message
+ * @param cacheName two-tier cache holding the key
+ * @param key       tenant-qualified cache key
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    private static final char SEPARATOR = '\n';
+
+    public byte[] encode() {
+        return (origin + SEPARATOR + cacheName + SEPARATOR + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static CacheInvalidation decode(byte[] bytes) {
+        String message = new String(bytes, StandardCharsets.UTF_8);
+        int first = message.indexOf(SEPARATOR);
+        int second = message.indexOf(SEPARATOR, first + 1);
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("Malformed cache invalidation message: " + message);
+        }
+        return new CacheInvalidation(message.substring(0, first), message.substring(first + 1, second),
+                message.substring(second + 1));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcast channel for {@link CacheInvalidation} messages between nodes
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
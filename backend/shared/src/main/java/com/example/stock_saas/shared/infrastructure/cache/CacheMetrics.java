@@ -0,0 +1,87 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit/miss counters of the second-level cache, per region and per tenant
+ */
+public class CacheMetrics {
+
+    static final String SHARED_TENANT = "shared";
+
+    private final ConcurrentMap<String, Counters> regions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counters> tenants = new ConcurrentHashMap<>();
+
+    void nearHit(String region, UUID tenantId) {
+        region(region).nearHits.increment();
+        tenant(tenantId).nearHits.increment();
+    }
+
+    void remoteHit(String region, UUID tenantId) {
+        region(region).remoteHits.increment();
+        tenant(tenantId).remoteHits.increment();
+    }
+
+    void miss(String region, UUID tenantId) {
+        region(region).misses.increment();
+        tenant(tenantId).misses.increment();
+    }
+
+    void put(String region, UUID tenantId) {
+        region(region).puts.increment();
+        tenant(tenantId).puts.increment();
+    }
+
+    void budgetRejection(String region, UUID tenantId) {
+        region(region).budgetRejections.increment();
+        tenant(tenantId).budgetRejections.increment();
+    }
+
+    public List<CacheStats> getRegionStats() {
+        return regions.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .toList();
+    }
+
+    public List<CacheStats> getTenantStats() {
+        return tenants.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .toList();
+    }
+
+    private Counters region(String region) {
+        return regions.computeIfAbsent(region, r -> new Counters());
+    }
+
+    private Counters tenant(UUID tenantId) {
+        return tenants.computeIfAbsent(tenantId != null ? tenantId.toString() : SHARED_TENANT, t -> new Counters());
+    }
+
+    /**
+     * Snapshot of cache counters for a region or tenant
+     */
+    public record CacheStats(String name, long nearHits, long remoteHits, long misses, long puts, long budgetRejections) {
+
+        public double hitRatio() {
+            long hits = nearHits + remoteHits;
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder nearHits = new LongAdder();
+        private final LongAdder remoteHits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder puts = new LongAdder();
+        private final LongAdder budgetRejections = new LongAdder();
+
+        private CacheStats snapshot(String name) {
+            return new CacheStats(name, nearHits.sum(), remoteHits.sum(), misses.sum(), puts.sum(), budgetRejections.sum());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Hibernate second-level and query cache settings (prefix: app.cache.l2).
+ *
+ * @param enabled           register {@link TenantAwareRegionFactory} with Hibernate
+ * @param queryCache        enable the Hibernate query cache
+ * @param ttlMs             time to live of entries in the backing store
+ * @param nearCacheSize     maximum entries kept in-process per region; 0 disables the near cache
+ * @param nearCacheTtlMs    time to live of near cache entries (bounds staleness across nodes)
+ * @param tenantBudgetBytes bytes a tenant may write to the backing store per ttl window
+ */
+@ConfigurationProperties(prefix = "app.cache.l2")
+public record CacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("true") boolean queryCache,
+        @DefaultValue("600000") long ttlMs,
+        @DefaultValue("10000") int nearCacheSize,
+        @DefaultValue("1000") long nearCacheTtlMs,
+        @DefaultValue("67108864") long tenantBudgetBytes) {
+}
@@ -0,0 +1,55 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import org.springframework.core.ConfigurableObjectInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Java serialization of values written to the {@link CacheStore}.
+ *
+ * The store is shared between nodes, so reads only accept the classes cached values are made
+ * of (JDK value types and collections, Hibernate cache entries and their Serializable[] state,
+ * application classes); any other class in the stream fails the read like a corrupt entry.
+ */
+final class CacheSerialization {
+
+    private static final ObjectInputFilter ALLOWED_CLASSES = ObjectInputFilter.Config.createFilter(
+            "maxdepth=64;maxarray=1000000;"
+                    + "java.lang.*;java.io.Serializable;java.math.*;java.time.*;java.util.*;java.sql.*;"
+                    + "org.hibernate.cache.**;org.hibernate.bytecode.enhance.spi.**;"
+                    + "com.example.stock_saas.**;!*");
+
+    private CacheSerialization() {
+        // Utility class
+    }
+
+    static byte[] serialize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cache value is not serializable: " + value.getClass().getName(), ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IOException if the bytes are not a readable value (corrupt, written by an incompatible
+     *                     version or containing a class outside the allow-list)
+     */
+    static Object deserialize(byte[] bytes, int offset, int length) throws IOException {
+        try (ObjectInputStream in = new ConfigurableObjectInputStream(
+                new ByteArrayInputStream(bytes, offset, length), CacheSerialization.class.getClassLoader())) {
+            in.setObjectInputFilter(ALLOWED_CLASSES);
+            return in.readObject();
+        } catch (ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+/**
+ * Minimal key-value operations the second-level cache needs from its backing store
+ */
+public interface CacheStore {
+
+    /**
+     * @return the value, or null if absent or expired
+     */
+    byte[] get(byte[] key);
+
+    void set(byte[] key, byte[] value, long ttlMs);
+
+    void delete(byte[] key);
+
+    /**
+     * Delete every key starting with the prefix
+     */
+    void deleteByPrefix(byte[] prefix);
+
+    /**
+     * Add to a counter, creating it with the given time to live if absent
+     *
+     * @return the counter value after the increment
+     */
+    long increment(byte[] key, long delta, long ttlMs);
+}
@@ -0,0 +1,31 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Backing store and metrics shared by the second-level cache and the two-tier caches.
+ * app.cache.store selects Redis (default) or the in-process stand-in.
+ */
+@Configuration
+public class CacheStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache", name = "store", havingValue = "redis", matchIfMissing = true)
+    public CacheStore redisCacheStore(RedisConnectionFactory connectionFactory) {
+        return new RedisCacheStore(connectionFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache", name = "store", havingValue = "memory")
+    public CacheStore inMemoryCacheStore() {
+        return new InMemoryCacheStore();
+    }
+
+    @Bean
+    public CacheMetrics cacheMetrics() {
+        return new CacheMetrics();
+    }
+}
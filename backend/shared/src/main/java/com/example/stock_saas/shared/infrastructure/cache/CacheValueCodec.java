@@ -0,0 +1,34 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import java.io.IOException;
+
+/**
+ * Converts {@link TwoTierCache} values to and from the bytes kept in the shared store
+ */
+public interface CacheValueCodec<V> {
+
+    byte[] encode(V value);
+
+    /**
+     * @throws IOException if the bytes are not a readable value; the entry is then treated as a miss
+     */
+    V decode(byte[] bytes) throws IOException;
+
+    /**
+     * Java serialization, for values without a dedicated codec
+     */
+    @SuppressWarnings("unchecked")
+    static <V> CacheValueCodec<V> javaSerialization() {
+        return new CacheValueCodec<>() {
+            @Override
+            public byte[] encode(V value) {
+                return CacheSerialization.serialize(value);
+            }
+
+            @Override
+            public V decode(byte[] bytes) throws IOException {
+                return (V) CacheSerialization.deserialize(bytes, 0, bytes.length);
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+/**
+ * Count-min sketch of 4-bit counters estimating how often keys were accessed (TinyLFU).
+ * Counters are halved once the number of samples reaches ten times the cache size,
+ * so the estimate follows changes in popularity. Not thread-safe; guarded by the owning cache.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int counterMask;
+    private final int sampleSize;
+    private int samples;
+
+    FrequencySketch(int maximumSize) {
+        int words = Math.max(1, Integer.highestOneBit(Math.max(1, maximumSize - 1)) << 1);
+        this.table = new long[words];
+        this.counterMask = words * 16 - 1;
+        this.sampleSize = Math.max(10, 10 * maximumSize);
+    }
+
+    /**
+     * Estimated access count of the key, at most 15
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (long seed : SEEDS) {
+            int counter = counterIndex(hash, seed);
+            frequency = Math.min(frequency, (int) ((table[counter >>> 4] >>> ((counter & 15) << 2)) & 0xF));
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (long seed : SEEDS) {
+            int counter = counterIndex(hash, seed);
+            int word = counter >>> 4;
+            int shift = (counter & 15) << 2;
+            if (((table[word] >>> shift) & 0xF) < MAX_COUNT) {
+                table[word] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++samples >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        samples /= 2;
+    }
+
+    private int counterIndex(int hash, long seed) {
+        long h = (hash + seed) * seed;
+        h += h >>> 32;
+        return (int) h & counterMask;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process {@link CacheInvalidationBus} delivering messages synchronously.
+ * Stand-in for Redis pub/sub in tests and single-node development; several cache managers
+ * sharing one bus behave like separate nodes.
+ */
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
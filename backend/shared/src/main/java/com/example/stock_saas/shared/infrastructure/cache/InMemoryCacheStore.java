@@ -0,0 +1,76 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-process {@link CacheStore} with Redis semantics (per-entry expiry, atomic counters).
+ * Stand-in for Redis in tests and single-node development (app.cache.store=memory).
+ */
+public class InMemoryCacheStore implements CacheStore {
+
+    private final ConcurrentMap<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(byte[] key) {
+        Entry entry = live(ByteBuffer.wrap(key));
+        return entry != null ? entry.value : null;
+    }
+
+    @Override
+    public void set(byte[] key, byte[] value, long ttlMs) {
+        entries.put(ByteBuffer.wrap(key.clone()), new Entry(value, expiry(ttlMs)));
+    }
+
+    @Override
+    public void delete(byte[] key) {
+        entries.remove(ByteBuffer.wrap(key));
+    }
+
+    @Override
+    public void deleteByPrefix(byte[] prefix) {
+        entries.keySet().removeIf(key -> key.remaining() >= prefix.length
+                && Arrays.equals(key.array(), 0, prefix.length, prefix, 0, prefix.length));
+    }
+
+    @Override
+    public long increment(byte[] key, long delta, long ttlMs) {
+        Entry updated = entries.compute(ByteBuffer.wrap(key.clone()), (k, entry) -> {
+            if (entry == null || entry.isExpired()) {
+                return new Entry(ByteBuffer.allocate(Long.BYTES).putLong(0, delta).array(), expiry(ttlMs));
+            }
+            long value = ByteBuffer.wrap(entry.value).getLong(0) + delta;
+            return new Entry(ByteBuffer.allocate(Long.BYTES).putLong(0, value).array(), entry.expiresAt);
+        });
+        return ByteBuffer.wrap(updated.value).getLong(0);
+    }
+
+    /**
+     * Number of live entries
+     */
+    public int size() {
+        entries.values().removeIf(Entry::isExpired);
+        return entries.size();
+    }
+
+    private Entry live(ByteBuffer key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.isExpired()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private static long expiry(long ttlMs) {
+        return ttlMs > 0 ? System.currentTimeMillis() + ttlMs : Long.MAX_VALUE;
+    }
+
+    private record Entry(byte[] value, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheInvalidationBus} on Redis pub/sub.
+ * Delivery is at most once; the local tier's expiry bounds staleness if a message is lost.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String channel;
+    private final byte[] channelBytes;
+
+    public RedisCacheInvalidationBus(RedisConnectionFactory connectionFactory,
+                                     RedisMessageListenerContainer listenerContainer, String channel) {
+        this.connectionFactory = connectionFactory;
+        this.listenerContainer = listenerContainer;
+        this.channel = channel;
+        this.channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.publish(channelBytes, invalidation.encode());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to broadcast invalidation of {} in cache {}: {}",
+                    invalidation.key(), invalidation.cacheName(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(CacheInvalidation.decode(message.getBody()));
+            } catch (RuntimeException ex) {
+                log.warn("Ignoring cache invalidation message: {}", ex.getMessage());
+            }
+        }, new ChannelTopic(channel));
+    }
+}
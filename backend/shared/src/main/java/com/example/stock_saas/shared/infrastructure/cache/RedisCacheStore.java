@@ -0,0 +1,92 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link CacheStore} on Redis
+ */
+@RequiredArgsConstructor
+public class RedisCacheStore implements CacheStore {
+
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    // Expiry is set in the same atomic step as the increment, and repaired on any key left without one
+    private static final byte[] INCREMENT_SCRIPT = """
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if redis.call('PTTL', KEYS[1]) < 0 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return value
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisConnectionFactory connectionFactory;
+
+    @Override
+    public byte[] get(byte[] key) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return connection.stringCommands().get(key);
+        }
+    }
+
+    @Override
+    public void set(byte[] key, byte[] value, long ttlMs) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.stringCommands().set(key, value, Expiration.milliseconds(ttlMs),
+                    RedisStringCommands.SetOption.upsert());
+        }
+    }
+
+    @Override
+    public void delete(byte[] key) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.keyCommands().del(key);
+        }
+    }
+
+    @Override
+    public void deleteByPrefix(byte[] prefix) {
+        String pattern = new String(prefix, StandardCharsets.UTF_8).replaceAll("([*?\\[\\]\\\\])", "\\\\$1") + "*";
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(pattern)
+                .count(DELETE_BATCH_SIZE)
+                .build();
+        try (RedisConnection connection = connectionFactory.getConnection();
+             Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            List<byte[]> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == DELETE_BATCH_SIZE) {
+                    connection.keyCommands().del(batch.toArray(byte[][]::new));
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                connection.keyCommands().del(batch.toArray(byte[][]::new));
+            }
+        }
+    }
+
+    @Override
+    public long increment(byte[] key, long delta, long ttlMs) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Long value = connection.scriptingCommands().eval(INCREMENT_SCRIPT, ReturnType.INTEGER, 1,
+                    key, ascii(delta), ascii(ttlMs));
+            return value != null ? value : delta;
+        }
+    }
+
+    private static byte[] ascii(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+/**
+ * Kind of Hibernate cache region, deciding how entries are scoped to tenants
+ */
+public enum RegionKind {
+    /**
+     * Entity, collection and natural-id data. Keys are global (ids are unique across tenants);
+     * each entry records the tenant that cached it and is only served back to that tenant.
+     */
+    ENTITY,
+
+    /**
+     * Query results. Keys are namespaced by tenant since results depend on the tenant filter.
+     */
+    QUERY,
+
+    /**
+     * Table update timestamps. Shared by all tenants and never held in the near cache.
+     */
+    TIMESTAMPS
+}
@@ -0,0 +1,42 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Hibernate second-level and query cache (app.cache.l2.enabled=true).
+ * Entities opt in with @Cacheable and @Cache(usage = CacheConcurrencyStrategy.READ_WRITE);
+ * queries opt in with the org.hibernate.cacheable hint.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+@ConditionalOnProperty(prefix = "app.cache.l2", name = "enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public TenantAwareRegionFactory tenantAwareRegionFactory(CacheStore cacheStore, CacheProperties properties,
+                                                             CacheMetrics cacheMetrics) {
+        return new TenantAwareRegionFactory(cacheStore, properties, cacheMetrics);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernateCustomizer(TenantAwareRegionFactory regionFactory,
+                                                                             CacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.queryCache());
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, regionFactory);
+            hibernateProperties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE");
+        };
+    }
+
+    @Bean
+    public SecondLevelCacheInvalidator secondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheInvalidator(entityManagerFactory);
+    }
+}
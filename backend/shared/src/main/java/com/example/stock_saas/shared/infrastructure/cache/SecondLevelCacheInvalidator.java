@@ -0,0 +1,47 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import com.example.stock_saas.shared.domain.event.AggregateEvent;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Evicts aggregates from the second-level cache when their domain events are published.
+ * Covers changes Hibernate does not see itself (native SQL, other services writing the same tables).
+ */
+@Slf4j
+public class SecondLevelCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private volatile Set<Class<?>> entityTypes;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAggregateEvent(AggregateEvent event) {
+        if (event.getAggregateId() == null || !entityTypes().contains(event.getAggregateType())) {
+            return;
+        }
+        log.debug("Evicting {}#{} after {}", event.getAggregateType().getSimpleName(), event.getAggregateId(),
+                event.getEventType());
+        entityManagerFactory.getCache().evict(event.getAggregateType(), event.getAggregateId());
+    }
+
+    private Set<Class<?>> entityTypes() {
+        Set<Class<?>> types = entityTypes;
+        if (types == null) {
+            types = entityManagerFactory.getMetamodel().getEntities().stream()
+                    .map(EntityType::getJavaType)
+                    .collect(Collectors.toUnmodifiableSet());
+            entityTypes = types;
+        }
+        return types;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.SimpleCacheKeysFactory;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Hibernate region factory storing second-level and query cache regions in a {@link CacheStore}
+ * (Redis in production) with a near cache per region.
+ *
+ * Concurrency is left to Hibernate's access strategies: READ_WRITE entities lock entries while
+ * they are updated and compare @Version values before replacing them.
+ */
+public class TenantAwareRegionFactory extends RegionFactoryTemplate {
+
+    /**
+     * Soft-lock and timestamps pre-invalidation timeout, in {@link #nextTimestamp()} units (milliseconds)
+     */
+    static final long LOCK_TIMEOUT_MS = 60_000;
+
+    private final CacheStore store;
+    private final CacheProperties properties;
+    private final CacheMetrics metrics;
+    private final TenantCacheBudget budget;
+
+    public TenantAwareRegionFactory(CacheStore store, CacheProperties properties, CacheMetrics metrics) {
+        this.store = store;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.budget = new TenantCacheBudget(store, properties.tenantBudgetBytes(), properties.ttlMs());
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        // Store and settings are provided by Spring
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        // Store lifecycle is managed by Spring
+    }
+
+    @Override
+    protected CacheKeysFactory getImplicitCacheKeysFactory() {
+        // Bare ids as entity keys: regions are per entity type and tenants are separated by the storage
+        return SimpleCacheKeysFactory.INSTANCE;
+    }
+
+    @Override
+    public long nextTimestamp() {
+        // Wall clock, comparable across nodes sharing the timestamps region
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public long getTimeout() {
+        // The inherited timeout is in SimpleTimestamper units (ms << 12) and would hold locks for days
+        return LOCK_TIMEOUT_MS;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return storage(regionConfig.getRegionName(), RegionKind.ENTITY);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return storage(regionName, RegionKind.QUERY);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return storage(regionName, RegionKind.TIMESTAMPS);
+    }
+
+    private TenantCacheRegionStorage storage(String regionName, RegionKind kind) {
+        TinyLfuCache<ByteBuffer, Object> nearCache = kind == RegionKind.TIMESTAMPS || properties.nearCacheSize() == 0
+                ? null
+                : new TinyLfuCache<>(properties.nearCacheSize(), properties.nearCacheTtlMs());
+        return new TenantCacheRegionStorage(regionName, kind, store, nearCache, metrics, budget, properties.ttlMs());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Per-tenant write budget of the backing store.
+ * Counts bytes each tenant wrote during the current ttl window; since every entry expires within
+ * that window, the count is an upper bound of the tenant's resident memory.
+ */
+@RequiredArgsConstructor
+public class TenantCacheBudget {
+
+    private final CacheStore store;
+    private final long budgetBytes;
+    private final long windowMs;
+
+    /**
+     * Charge the tenant for a write
+     *
+     * @return false if the write would exceed the tenant's budget
+     */
+    public boolean tryCharge(UUID tenantId, int bytes) {
+        if (budgetBytes <= 0) {
+            return true;
+        }
+        String tenant = tenantId != null ? tenantId.toString() : CacheMetrics.SHARED_TENANT;
+        byte[] key = ("l2:budget:" + tenant).getBytes(StandardCharsets.UTF_8);
+        return store.increment(key, bytes, windowMs) <= budgetBytes;
+    }
+}
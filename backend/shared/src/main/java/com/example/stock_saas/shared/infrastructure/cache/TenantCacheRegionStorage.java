@@ -0,0 +1,206 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Storage of one Hibernate cache region: near cache in front of the shared {@link CacheStore}.
+ *
+ * Store keys are "l2:{region}:" followed, for query regions, by "{tenant}:" and then the Hibernate key.
+ * Entity keys are bare ids, so store values carry the tenant that cached them and are only served to
+ * that tenant; code running outside a tenant context misses, and its entity writes evict instead of
+ * caching. Shared entries (timestamps, query results cached outside a tenant) have no owner.
+ * Store failures are logged and treated as misses; the cache never fails a database read.
+ */
+@Slf4j
+public class TenantCacheRegionStorage implements DomainDataStorageAccess {
+
+    private static final byte NO_OWNER = 0;
+    private static final byte OWNER = 1;
+
+    private final String regionName;
+    private final RegionKind kind;
+    private final CacheStore store;
+    private final TinyLfuCache<ByteBuffer, Object> nearCache;
+    private final CacheMetrics metrics;
+    private final TenantCacheBudget budget;
+    private final long ttlMs;
+    private final byte[] regionPrefix;
+
+    public TenantCacheRegionStorage(String regionName, RegionKind kind, CacheStore store,
+                                    TinyLfuCache<ByteBuffer, Object> nearCache,
+                                    CacheMetrics metrics, TenantCacheBudget budget, long ttlMs) {
+        this.regionName = regionName;
+        this.kind = kind;
+        this.store = store;
+        this.nearCache = nearCache;
+        this.metrics = metrics;
+        this.budget = budget;
+        this.ttlMs = ttlMs;
+        this.regionPrefix = ("l2:" + regionName + ":").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        UUID tenantId = TenantContext.getTenantIdOrNull();
+        byte[] storeKey = storeKey(key, tenantId);
+        ByteBuffer nearKey = ByteBuffer.wrap(storeKey);
+
+        if (nearCache != null && nearCache.getIfPresent(nearKey) instanceof Owned owned && owned.readableBy(tenantId)) {
+            metrics.nearHit(regionName, tenantId);
+            return owned.value();
+        }
+
+        byte[] payload;
+        try {
+            payload = store.get(storeKey);
+        } catch (RuntimeException ex) {
+            log.warn("Cache region {} read failed, falling back to database: {}", regionName, ex.getMessage());
+            payload = null;
+        }
+        Owned owned = payload != null ? decode(payload) : null;
+        if (owned == null || !owned.readableBy(tenantId)) {
+            metrics.miss(regionName, tenantId);
+            return null;
+        }
+        if (nearCache != null) {
+            nearCache.put(nearKey, owned);
+        }
+        metrics.remoteHit(regionName, tenantId);
+        return owned.value();
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        UUID tenantId = TenantContext.getTenantIdOrNull();
+        byte[] storeKey = storeKey(key, tenantId);
+        ByteBuffer nearKey = ByteBuffer.wrap(storeKey);
+        UUID owner = kind == RegionKind.TIMESTAMPS ? null : tenantId;
+
+        try {
+            if (kind == RegionKind.ENTITY && tenantId == null) {
+                // Entries cached outside a tenant context would be readable by every tenant; drop instead
+                evictData(key);
+                return;
+            }
+            byte[] payload = encode(owner, value);
+            if (kind != RegionKind.TIMESTAMPS && !budget.tryCharge(tenantId, payload.length)) {
+                // Drop the previous entry too: it may be a stale version this put was replacing
+                metrics.budgetRejection(regionName, tenantId);
+                store.delete(storeKey);
+                if (nearCache != null) {
+                    nearCache.invalidate(nearKey);
+                }
+                return;
+            }
+            store.set(storeKey, payload, ttlMs);
+        } catch (RuntimeException ex) {
+            log.warn("Cache region {} write failed: {}", regionName, ex.getMessage());
+            if (nearCache != null) {
+                nearCache.invalidate(nearKey);
+            }
+            return;
+        }
+        if (nearCache != null) {
+            nearCache.put(nearKey, new Owned(owner, value));
+        }
+        metrics.put(regionName, tenantId);
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        UUID tenantId = TenantContext.getTenantIdOrNull();
+        byte[] payload = store.get(storeKey(key, tenantId));
+        Owned owned = payload != null ? decode(payload) : null;
+        return owned != null && owned.readableBy(tenantId);
+    }
+
+    @Override
+    public void evictData() {
+        if (nearCache != null) {
+            nearCache.invalidateAll();
+        }
+        store.deleteByPrefix(regionPrefix);
+    }
+
+    @Override
+    public void evictData(Object key) {
+        byte[] storeKey = storeKey(key, TenantContext.getTenantIdOrNull());
+        if (nearCache != null) {
+            nearCache.invalidate(ByteBuffer.wrap(storeKey));
+        }
+        store.delete(storeKey);
+    }
+
+    @Override
+    public void release() {
+        if (nearCache != null) {
+            nearCache.invalidateAll();
+        }
+    }
+
+    public String getRegionName() {
+        return regionName;
+    }
+
+    private byte[] storeKey(Object key, UUID tenantId) {
+        byte[] keyBytes = keyBytes(key);
+        byte[] tenantBytes = kind == RegionKind.QUERY
+                ? ((tenantId != null ? tenantId.toString() : CacheMetrics.SHARED_TENANT) + ":").getBytes(StandardCharsets.UTF_8)
+                : new byte[0];
+        return ByteBuffer.allocate(regionPrefix.length + tenantBytes.length + keyBytes.length)
+                .put(regionPrefix)
+                .put(tenantBytes)
+                .put(keyBytes)
+                .array();
+    }
+
+    /**
+     * Compact form for the usual id keys (simple keys factory), Java serialization for the rest
+     */
+    private static byte[] keyBytes(Object key) {
+        if (key instanceof UUID || key instanceof String || key instanceof Number) {
+            return key.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return CacheSerialization.serialize(key);
+    }
+
+    private static byte[] encode(UUID owner, Object value) {
+        byte[] body = CacheSerialization.serialize(value);
+        ByteBuffer buffer = ByteBuffer.allocate(1 + (owner != null ? 16 : 0) + body.length);
+        if (owner != null) {
+            buffer.put(OWNER).putLong(owner.getMostSignificantBits()).putLong(owner.getLeastSignificantBits());
+        } else {
+            buffer.put(NO_OWNER);
+        }
+        return buffer.put(body).array();
+    }
+
+    private Owned decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        UUID owner = buffer.get() == OWNER ? new UUID(buffer.getLong(), buffer.getLong()) : null;
+        try {
+            return new Owned(owner, CacheSerialization.deserialize(payload, buffer.position(), buffer.remaining()));
+        } catch (IOException ex) {
+            log.warn("Discarding unreadable entry in cache region {}: {}", regionName, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Cached value with the tenant that cached it (null for shared entries)
+     */
+    private record Owned(UUID owner, Object value) {
+
+        boolean readableBy(UUID tenantId) {
+            return owner == null || owner.equals(tenantId);
+        }
+    }
+}
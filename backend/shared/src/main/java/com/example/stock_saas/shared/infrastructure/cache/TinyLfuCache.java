@@ -0,0 +1,247 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-process cache with W-TinyLFU eviction and expiry after write.
+ *
+ * - New entries enter a small LRU window (1% of the capacity)
+ * - Entries leaving the window compete with the main space's LRU victim; the one the
+ *   {@link FrequencySketch} saw more often stays, so one-off scans cannot flush popular entries
+ * - The main space is a segmented LRU: entries hit again while on probation are promoted to protected (80%)
+ *
+ * Reads are lock-free; access bookkeeping is skipped when the policy lock is contended,
+ * trading a little hit ratio for throughput as Caffeine's lossy read buffers do.
+ */
+public class TinyLfuCache<K, V> {
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final long ttlNanos;
+
+    // Guarded by lock; each list runs from least to most recently used
+    private final AccessOrderList<K, V> window = new AccessOrderList<>();
+    private final AccessOrderList<K, V> probation = new AccessOrderList<>();
+    private final AccessOrderList<K, V> protectedList = new AccessOrderList<>();
+
+    public TinyLfuCache(int maximumSize, long ttlMs) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (int) ((maximumSize - windowMaximum) * 0.8);
+        this.ttlNanos = ttlMs > 0 ? ttlMs * 1_000_000 : Long.MAX_VALUE;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * @return the cached value, or null if absent or expired
+     */
+    public V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            recordAccess(key, null);
+            return null;
+        }
+        if (System.nanoTime() - node.writtenAt >= ttlNanos) {
+            remove(key, node);
+            return null;
+        }
+        recordAccess(key, node);
+        return node.value;
+    }
+
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                node.writtenAt = System.nanoTime();
+                onAccess(node);
+                return;
+            }
+            node = new Node<>(key, value, System.nanoTime());
+            data.put(key, node);
+            node.list = window;
+            window.addLast(node);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            remove(key, node);
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedList.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    private void recordAccess(K key, Node<K, V> node) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.increment(key);
+            if (node != null && node.list != null) {
+                onAccess(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(K key, Node<K, V> node) {
+        lock.lock();
+        try {
+            if (data.remove(key, node) && node.list != null) {
+                node.list.unlink(node);
+                node.list = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.list == probation) {
+            probation.unlink(node);
+            node.list = protectedList;
+            protectedList.addLast(node);
+            if (protectedList.size > protectedMaximum) {
+                Node<K, V> demoted = protectedList.pollFirst();
+                demoted.list = probation;
+                probation.addLast(demoted);
+            }
+        } else {
+            node.list.moveToBack(node);
+        }
+    }
+
+    private void evict() {
+        while (window.size > windowMaximum) {
+            Node<K, V> candidate = window.pollFirst();
+            candidate.list = probation;
+            probation.addLast(candidate);
+        }
+        while (data.size() > maximumSize) {
+            Node<K, V> victim = probation.first();
+            Node<K, V> candidate = probation.last();
+            Node<K, V> evicted;
+            if (victim == null) {
+                evicted = protectedList.first() != null ? protectedList.first() : window.first();
+            } else if (victim == candidate) {
+                evicted = victim;
+            } else {
+                evicted = sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+            }
+            evicted.list.unlink(evicted);
+            evicted.list = null;
+            data.remove(evicted.key, evicted);
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private volatile long writtenAt;
+        private AccessOrderList<K, V> list;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(K key, V value, long writtenAt) {
+            this.key = key;
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    /**
+     * Intrusive doubly-linked list, head is the least recently used node
+     */
+    private static final class AccessOrderList<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private int size;
+
+        Node<K, V> first() {
+            return head;
+        }
+
+        Node<K, V> last() {
+            return tail;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = head;
+            if (node != null) {
+                unlink(node);
+            }
+            return node;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != tail) {
+                unlink(node);
+                addLast(node);
+            }
+        }
+
+        void unlink(Node<K, V> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+}
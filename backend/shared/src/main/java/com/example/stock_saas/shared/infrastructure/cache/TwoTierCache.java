@@ -0,0 +1,225 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of reference data with a local W-TinyLFU tier in front of the shared {@link CacheStore}.
+ *
+ * - Reads hit the local tier first, then the store, then the loader
+ * - Concurrent misses for the same key on a node share one load (single flight)
+ * - Invalidations remove the key from the store and broadcast it so every node drops its local copy
+ *
+ * Create instances through {@link TwoTierCacheManager}.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private final String name;
+    private final TwoTierCacheSpec spec;
+    private final CacheValueCodec<V> codec;
+    private final TinyLfuCache<String, V> local;
+    private final CacheStore store;
+    private final CacheMetrics metrics;
+    private final TwoTierCacheManager manager;
+    private final ConcurrentMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    // Bumped by every put and invalidation so loads started before it do not repopulate stale values
+    private final AtomicLong invalidations = new AtomicLong();
+
+    TwoTierCache(String name, TwoTierCacheSpec spec, CacheValueCodec<V> codec, CacheStore store,
+                 CacheMetrics metrics, TwoTierCacheManager manager) {
+        this.name = name;
+        this.spec = spec;
+        this.codec = codec;
+        this.local = new TinyLfuCache<>(spec.maximumSize(), spec.localTtlMs());
+        this.store = store;
+        this.metrics = metrics;
+        this.manager = manager;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TwoTierCacheSpec getSpec() {
+        return spec;
+    }
+
+    /**
+     * Get the cached value, loading it once per node on a miss
+     *
+     * @param loader called without any cache lock held; a null result is returned but not cached
+     */
+    public V get(String key, Supplier<? extends V> loader) {
+        UUID tenantId = TenantContext.getTenantIdOrNull();
+        String qualifiedKey = qualify(tenantId, key);
+
+        V value = local.getIfPresent(qualifiedKey);
+        if (value != null) {
+            metrics.nearHit(name, tenantId);
+            return value;
+        }
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(qualifiedKey, load);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            value = loadThrough(qualifiedKey, tenantId, loader);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(qualifiedKey, load);
+        }
+    }
+
+    /**
+     * @return the cached value from either tier, or null
+     */
+    public V getIfPresent(String key) {
+        UUID tenantId = TenantContext.getTenantIdOrNull();
+        String qualifiedKey = qualify(tenantId, key);
+        V value = local.getIfPresent(qualifiedKey);
+        if (value != null) {
+            metrics.nearHit(name, tenantId);
+            return value;
+        }
+        value = readStore(qualifiedKey);
+        if (value != null) {
+            local.put(qualifiedKey, value);
+            metrics.remoteHit(name, tenantId);
+        } else {
+            metrics.miss(name, tenantId);
+        }
+        return value;
+    }
+
+    public void put(String key, V value) {
+        UUID tenantId = TenantContext.getTenantIdOrNull();
+        String qualifiedKey = qualify(tenantId, key);
+        invalidations.incrementAndGet();
+        writeStore(qualifiedKey, value);
+        local.put(qualifiedKey, value);
+        metrics.put(name, tenantId);
+        manager.broadcast(name, qualifiedKey);
+    }
+
+    /**
+     * Remove the key for the current tenant on every node
+     */
+    public void invalidate(String key) {
+        invalidate(TenantContext.getTenantIdOrNull(), key);
+    }
+
+    /**
+     * Remove the key for the given tenant on every node
+     */
+    public void invalidate(UUID tenantId, String key) {
+        String qualifiedKey = qualify(tenantId, key);
+        invalidations.incrementAndGet();
+        local.invalidate(qualifiedKey);
+        deleteStore(qualifiedKey);
+        manager.broadcast(name, qualifiedKey);
+    }
+
+    /**
+     * Drop a key from the local tier only (invalidation received from another node)
+     */
+    void evictLocal(String qualifiedKey) {
+        invalidations.incrementAndGet();
+        local.invalidate(qualifiedKey);
+    }
+
+    private V loadThrough(String qualifiedKey, UUID tenantId, Supplier<? extends V> loader) {
+        long generation = invalidations.get();
+        V value = readStore(qualifiedKey);
+        if (value != null) {
+            metrics.remoteHit(name, tenantId);
+        } else {
+            metrics.miss(name, tenantId);
+            value = loader.get();
+            if (value == null) {
+                return null;
+            }
+            if (invalidations.get() == generation) {
+                writeStore(qualifiedKey, value);
+                if (invalidations.get() != generation) {
+                    // A put or invalidation landed between the check and the write; it may have been overwritten
+                    deleteStore(qualifiedKey);
+                }
+            }
+        }
+        if (invalidations.get() == generation) {
+            local.put(qualifiedKey, value);
+            if (invalidations.get() != generation) {
+                local.invalidate(qualifiedKey);
+            }
+        }
+        return value;
+    }
+
+    private V readStore(String qualifiedKey) {
+        try {
+            byte[] bytes = store.get(storeKey(qualifiedKey));
+            return bytes != null ? codec.decode(bytes) : null;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Cache {} failed to read {}: {}", name, qualifiedKey, ex.getMessage());
+            return null;
+        }
+    }
+
+    private void writeStore(String qualifiedKey, V value) {
+        try {
+            store.set(storeKey(qualifiedKey), codec.encode(value), spec.remoteTtlMs());
+        } catch (RuntimeException ex) {
+            log.warn("Cache {} failed to write {}: {}", name, qualifiedKey, ex.getMessage());
+        }
+    }
+
+    private void deleteStore(String qualifiedKey) {
+        try {
+            store.delete(storeKey(qualifiedKey));
+        } catch (RuntimeException ex) {
+            log.warn("Cache {} failed to delete {}: {}", name, qualifiedKey, ex.getMessage());
+        }
+    }
+
+    private String qualify(UUID tenantId, String key) {
+        if (!spec.tenantScoped()) {
+            return key;
+        }
+        return (tenantId != null ? tenantId.toString() : CacheMetrics.SHARED_TENANT) + ":" + key;
+    }
+
+    private byte[] storeKey(String qualifiedKey) {
+        return ("cache:" + name + ":" + qualifiedKey).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
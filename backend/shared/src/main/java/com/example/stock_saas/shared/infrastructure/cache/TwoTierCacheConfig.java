@@ -0,0 +1,45 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Enables two-tier reference data caches (app.cache.two-tier.enabled=true)
+ */
+@Configuration
+@EnableConfigurationProperties(TwoTierCacheProperties.class)
+@ConditionalOnProperty(prefix = "app.cache.two-tier", name = "enabled", havingValue = "true")
+public class TwoTierCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.two-tier", name = "bus", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.two-tier", name = "bus", havingValue = "redis", matchIfMissing = true)
+    public CacheInvalidationBus redisCacheInvalidationBus(RedisConnectionFactory connectionFactory,
+                                                          RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                                                          TwoTierCacheProperties properties) {
+        return new RedisCacheInvalidationBus(connectionFactory, cacheInvalidationListenerContainer, properties.channel());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.two-tier", name = "bus", havingValue = "memory")
+    public CacheInvalidationBus inMemoryCacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+
+    @Bean
+    public TwoTierCacheManager twoTierCacheManager(CacheStore cacheStore, CacheInvalidationBus cacheInvalidationBus,
+                                                   CacheMetrics cacheMetrics) {
+        return new TwoTierCacheManager(cacheStore, cacheInvalidationBus, cacheMetrics);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import com.example.stock_saas.shared.domain.event.AggregateEvent;
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import com.example.stock_saas.shared.infrastructure.event.DomainEventPublicationListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates {@link TwoTierCache}s and keeps their local tiers coherent across nodes.
+ *
+ * Usage:
+ * TwoTierCache<ProductView> products = cacheManager.create("products", TwoTierCacheSpec.builder()
+ *         .tenantScoped(true)
+ *         .aggregateTypes(Set.of(Product.class))
+ *         .build());
+ * ProductView view = products.get(id.toString(), () -> loadView(id));
+ */
+@Slf4j
+public class TwoTierCacheManager implements DomainEventPublicationListener {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache<?>> caches = new ConcurrentHashMap<>();
+    private final CacheStore store;
+    private final CacheInvalidationBus bus;
+    private final CacheMetrics metrics;
+
+    public TwoTierCacheManager(CacheStore store, CacheInvalidationBus bus, CacheMetrics metrics) {
+        this.store = store;
+        this.bus = bus;
+        this.metrics = metrics;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Create a cache storing values with Java serialization; names are unique per node
+     */
+    public <V> TwoTierCache<V> create(String name, TwoTierCacheSpec spec) {
+        return create(name, spec, CacheValueCodec.javaSerialization());
+    }
+
+    /**
+     * Create a cache storing values in the shared store with the given codec; names are unique per node
+     */
+    public <V> TwoTierCache<V> create(String name, TwoTierCacheSpec spec, CacheValueCodec<V> codec) {
+        TwoTierCache<V> cache = new TwoTierCache<>(name, spec, codec, store, metrics, this);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("Cache already exists: " + name);
+        }
+        return cache;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> TwoTierCache<V> getCache(String name) {
+        return (TwoTierCache<V>) caches.get(name);
+    }
+
+    @Override
+    public void onPublish(DomainEvent event) {
+        if (event instanceof AggregateEvent aggregateEvent) {
+            invalidateAfterCommit(aggregateEvent);
+        }
+    }
+
+    /**
+     * Invalidate the aggregate in every cache bound to its type once the current transaction commits
+     * (immediately when there is no transaction)
+     */
+    public void invalidateAfterCommit(AggregateEvent event) {
+        List<TwoTierCache<?>> affected = caches.values().stream()
+                .filter(cache -> cache.getSpec().aggregateTypes().contains(event.getAggregateType()))
+                .toList();
+        if (affected.isEmpty() || event.getAggregateId() == null) {
+            return;
+        }
+        DomainEventPublicationListener.afterCommit(() -> {
+            for (TwoTierCache<?> cache : affected) {
+                cache.invalidate(event.getTenantId(), event.getAggregateId().toString());
+            }
+        });
+    }
+
+    void broadcast(String cacheName, String qualifiedKey) {
+        bus.publish(new CacheInvalidation(nodeId, cacheName, qualifiedKey));
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        TwoTierCache<?> cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            log.debug("Evicting {} from cache {} on request of node {}", invalidation.key(),
+                    invalidation.cacheName(), invalidation.origin());
+            cache.evictLocal(invalidation.key());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Two-tier reference data cache settings (prefix: app.cache.two-tier).
+ *
+ * @param enabled register {@link TwoTierCacheManager}
+ * @param bus     invalidation broadcast: redis (pub/sub), or memory for tests and single-node development
+ * @param channel Redis pub/sub channel carrying invalidations
+ */
+@ConfigurationProperties(prefix = "app.cache.two-tier")
+public record TwoTierCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("redis") String bus,
+        @DefaultValue("stock-saas:cache-invalidation") String channel) {
+}
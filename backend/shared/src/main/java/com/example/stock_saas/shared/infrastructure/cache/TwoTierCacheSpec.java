@@ -0,0 +1,36 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import lombok.Builder;
+
+import java.util.Set;
+
+/**
+ * Settings of a single {@link TwoTierCache}
+ *
+ * @param maximumSize    entries kept in the local tier
+ * @param localTtlMs     expiry of local entries; bounds staleness when an invalidation message is lost
+ * @param remoteTtlMs    expiry of entries in the shared store
+ * @param tenantScoped   qualify keys with the current tenant
+ * @param aggregateTypes entity classes whose {@code AggregateEvent}s invalidate the entry keyed by aggregate ID
+ */
+@Builder
+public record TwoTierCacheSpec(
+        int maximumSize,
+        long localTtlMs,
+        long remoteTtlMs,
+        boolean tenantScoped,
+        Set<Class<?>> aggregateTypes) {
+
+    public TwoTierCacheSpec {
+        if (maximumSize <= 0) {
+            maximumSize = 10_000;
+        }
+        if (localTtlMs <= 0) {
+            localTtlMs = 60_000;
+        }
+        if (remoteTtlMs <= 0) {
+            remoteTtlMs = 600_000;
+        }
+        aggregateTypes = aggregateTypes != null ? Set.copyOf(aggregateTypes) : Set.of();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hook called synchronously by {@link DomainEventPublisher} for every published event,
+ * whatever the delivery path (direct, outbox or sharded lanes).
+ * Meant for infrastructure that must react as soon as the transaction commits, such as cache invalidation.
+ */
+public interface DomainEventPublicationListener {
+
+    /**
+     * Called in the publisher's transaction; defer side effects with {@link #afterCommit(Runnable)}
+     */
+    void onPublish(DomainEvent event);
+
+    /**
+     * Run the action once the current transaction commits, or immediately when there is no transaction
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -3,14 +3,25 @@ package com.example.stock_saas.shared.infrastructure.event;
 import com.example.stock_saas.shared.domain.event.DomainEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Publisher for domain events using Spring's event mechanism.
  * Events are published AFTER successful transaction commit.
+ *
+ * When the outbox is enabled (app.events.outbox.enabled=true), events are written
+ * to the outbox table in the caller's transaction ({@link OutboxWriter}) and delivered
+ * asynchronously by {@link OutboxDispatcher}.
+ * When sharded dispatch is enabled (app.events.sharded.enabled=true), events are handed
+ * to {@link TenantShardedEventDispatcher} after commit and delivered on per-tenant lanes.
+ * Every event is also handed to the {@link DomainEventPublicationListener}s (e.g. cache invalidation).
  */
 @Slf4j
 @Component
@@ -18,6 +29,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class DomainEventPublisher {
 
     private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<OutboxWriter> outboxWriter;
+    private final ObjectProvider<TenantShardedEventDispatcher> shardedDispatcher;
+    private final ObjectProvider<DomainEventPublicationListener> publicationListeners;
 
     /**
      * Publish a domain event.
@@ -27,9 +41,19 @@ public class DomainEventPublisher {
      */
     @Transactional(propagation = Propagation.MANDATORY)
     public void publish(DomainEvent event) {
-        log.info("Publishing domain event: {}", event.getEventType());
-        log.debug("Event details: {}", event);
+        log.debug("Publishing domain event: {}", event);
+        notifyListeners(event);
 
+        OutboxWriter outbox = outboxWriter.getIfAvailable();
+        if (outbox != null) {
+            outbox.write(List.of(event));
+            return;
+        }
+        TenantShardedEventDispatcher dispatcher = shardedDispatcher.getIfAvailable();
+        if (dispatcher != null && dispatcher.handles(event)) {
+            dispatcher.dispatchAfterCommit(List.of(event));
+            return;
+        }
         eventPublisher.publishEvent(event);
     }
 
@@ -38,9 +62,38 @@ public class DomainEventPublisher {
      */
     @Transactional(propagation = Propagation.MANDATORY)
     public void publishAll(DomainEvent... events) {
+        OutboxWriter outbox = outboxWriter.getIfAvailable();
+        if (outbox != null) {
+            for (DomainEvent event : events) {
+                log.debug("Publishing domain event: {}", event);
+                notifyListeners(event);
+            }
+            outbox.write(List.of(events));
+            return;
+        }
+        TenantShardedEventDispatcher dispatcher = shardedDispatcher.getIfAvailable();
+        if (dispatcher == null) {
+            for (DomainEvent event : events) {
+                publish(event);
+            }
+            return;
+        }
+
+        // Sharded events go to the lanes in a single handoff; the rest are published directly
+        List<DomainEvent> sharded = new ArrayList<>(events.length);
         for (DomainEvent event : events) {
-            publish(event);
+            if (dispatcher.handles(event)) {
+                log.debug("Publishing domain event: {}", event);
+                notifyListeners(event);
+                sharded.add(event);
+            } else {
+                publish(event);
+            }
         }
+        dispatcher.dispatchAfterCommit(sharded);
     }
-}
 
+    private void notifyListeners(DomainEvent event) {
+        publicationListeners.orderedStream().forEach(listener -> listener.onPublish(event));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+
+/**
+ * Converts domain events to and from bytes for persistence (outbox) or transport.
+ */
+public interface DomainEventSerializer {
+
+    /**
+     * Encode an event
+     */
+    byte[] serialize(DomainEvent event);
+
+    /**
+     * Decode an event previously encoded with {@link #serialize(DomainEvent)}
+     *
+     * @param eventType value of {@link DomainEvent#getEventType()} at serialization time
+     */
+    DomainEvent deserialize(String eventType, byte[] payload);
+}
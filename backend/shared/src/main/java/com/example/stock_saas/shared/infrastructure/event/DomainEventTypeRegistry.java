@@ -0,0 +1,70 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps event type identifiers to concrete DomainEvent classes.
+ * Concrete events under the application package are registered at startup
+ * by their simple class name (the default {@link DomainEvent#getEventType()}).
+ * Events overriding getEventType() must be registered explicitly.
+ */
+@Slf4j
+@Component
+public class DomainEventTypeRegistry {
+
+    private static final String BASE_PACKAGE = "com.example.stock_saas";
+
+    private final Map<String, Class<? extends DomainEvent>> types = new ConcurrentHashMap<>();
+
+    public DomainEventTypeRegistry() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(DomainEvent.class));
+
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), getClass().getClassLoader());
+            put(type.getSimpleName(), type.asSubclass(DomainEvent.class));
+        }
+        log.debug("Registered {} domain event types", types.size());
+    }
+
+    /**
+     * Register an event class under a type identifier
+     */
+    public void register(String eventType, Class<? extends DomainEvent> type) {
+        put(eventType, type);
+    }
+
+    private void put(String eventType, Class<? extends DomainEvent> type) {
+        Class<? extends DomainEvent> existing = types.putIfAbsent(eventType, type);
+        if (existing != null && existing != type) {
+            throw new IllegalStateException(String.format(
+                    "Event type '%s' already registered for %s", eventType, existing.getName()));
+        }
+    }
+
+    /**
+     * Resolve the class registered for an event type
+     */
+    public Optional<Class<? extends DomainEvent>> find(String eventType) {
+        return Optional.ofNullable(types.get(eventType));
+    }
+
+    /**
+     * Resolve the class registered for an event type
+     * @throws IllegalArgumentException if the type is unknown
+     */
+    public Class<? extends DomainEvent> get(String eventType) {
+        return find(eventType)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown domain event type: " + eventType));
+    }
+}
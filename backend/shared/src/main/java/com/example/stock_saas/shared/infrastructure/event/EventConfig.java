@@ -0,0 +1,15 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Domain event infrastructure configuration.
+ * Enables scheduling for the outbox dispatcher.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({OutboxProperties.class, ShardedDispatchProperties.class})
+public class EventConfig {
+}
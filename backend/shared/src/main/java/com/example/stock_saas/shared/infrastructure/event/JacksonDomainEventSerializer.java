@@ -0,0 +1,31 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * JSON serializer for domain events (default, app.events.codec=json).
+ * Event classes must be deserializable by Jackson (e.g. a @JsonCreator constructor
+ * delegating to the rehydration constructor of BaseDomainEvent).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.events", name = "codec", havingValue = "json", matchIfMissing = true)
+public class JacksonDomainEventSerializer implements DomainEventSerializer {
+
+    private final JsonMapper jsonMapper;
+    private final DomainEventTypeRegistry typeRegistry;
+
+    @Override
+    public byte[] serialize(DomainEvent event) {
+        return jsonMapper.writeValueAsBytes(event);
+    }
+
+    @Override
+    public DomainEvent deserialize(String eventType, byte[] payload) {
+        return jsonMapper.readValue(payload, typeRegistry.get(eventType));
+    }
+}
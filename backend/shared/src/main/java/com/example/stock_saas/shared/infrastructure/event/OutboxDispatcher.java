@@ -0,0 +1,215 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drains the transactional outbox in batches and publishes the events to Spring listeners.
+ *
+ * Guarantees:
+ * - At-least-once delivery: an event is removed from the outbox only after its listeners ran
+ * - Each event is published in a transaction of its own, so @TransactionalEventListener
+ *   consumers run (see {@link TransactionalEventDelivery})
+ * - Single dispatcher per event: a node first leases a batch (claimedBy, claimedUntil) and
+ *   only dispatches what it claimed; other nodes skip live leases
+ * - Per-tenant ordering: each tenant's events are dispatched sequentially in outbox order.
+ *   A node holds back a tenant's events while an older pending event of that tenant is not
+ *   leased to it, and a failure stops that tenant's lane until the failed event is retried
+ * - Failed events are retried with exponential backoff (retryBackoffMs doubling up to
+ *   maxRetryBackoffMs); the tenant's later events wait for the retry
+ * - Tenants are dispatched in parallel on a bounded (or virtual-thread) executor
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.events.outbox", name = "enabled", havingValue = "true")
+public class OutboxDispatcher implements DisposableBean {
+
+    private final UUID nodeId = UUID.randomUUID();
+    private final OutboxEventRepository outboxEventRepository;
+    private final DomainEventSerializer serializer;
+    private final TransactionalEventDelivery delivery;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final ExecutorService executor;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            DomainEventSerializer serializer,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            OutboxProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.serializer = serializer;
+        this.delivery = new TransactionalEventDelivery(eventPublisher, transactionManager);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.executor = properties.virtualThreads()
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(properties.dispatcherThreads());
+    }
+
+    /**
+     * Drain pending events until a round comes back partial or with failures
+     */
+    @Scheduled(initialDelayString = "${app.events.outbox.poll-interval-ms:500}",
+            fixedDelayString = "${app.events.outbox.poll-interval-ms:500}")
+    public void dispatchPending() {
+        while (dispatchBatch() == properties.batchSize()) {
+            log.debug("Outbox batch fully dispatched, draining next batch");
+        }
+    }
+
+    /**
+     * Claim and dispatch one batch of pending events
+     *
+     * @return number of events successfully published, 0 if any event failed or was held back
+     */
+    public int dispatchBatch() {
+        Claim claim = transactionTemplate.execute(status -> claimBatch());
+        if (claim == null || claim.lanes().isEmpty()) {
+            if (claim != null && !claim.heldBack().isEmpty()) {
+                releaseClaims(claim.heldBack());
+            }
+            return 0;
+        }
+
+        List<Future<LaneResult>> results = new ArrayList<>(claim.lanes().size());
+        for (List<OutboxEvent> lane : claim.lanes().values()) {
+            results.add(executor.submit(() -> dispatchLane(lane)));
+        }
+
+        List<Long> published = new ArrayList<>(claim.size());
+        Map<Long, String> failed = new HashMap<>();
+        for (Future<LaneResult> result : results) {
+            try {
+                LaneResult laneResult = result.get();
+                published.addAll(laneResult.published());
+                if (laneResult.failedId() != null) {
+                    failed.put(laneResult.failedId(), laneResult.error());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException ex) {
+                log.error("Outbox lane dispatch failed unexpectedly", ex.getCause());
+            }
+        }
+
+        // Everything claimed but not published goes back to the pool: failures, the rest of
+        // their lanes and held back events
+        Set<Long> unpublished = new HashSet<>(claim.heldBack());
+        for (List<OutboxEvent> lane : claim.lanes().values()) {
+            for (OutboxEvent outboxEvent : lane) {
+                unpublished.add(outboxEvent.getId());
+            }
+        }
+        published.forEach(unpublished::remove);
+
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventRepository.deleteAllByIdInBatch(published);
+            for (OutboxEvent outboxEvent : outboxEventRepository.findAllById(failed.keySet())) {
+                Instant retryAt = now.plusMillis(properties.retryDelayMs(outboxEvent.getAttempts() + 1));
+                outboxEvent.recordFailure(failed.get(outboxEvent.getId()), properties.maxAttempts(), retryAt);
+                if (outboxEvent.getStatus() == OutboxEvent.Status.FAILED) {
+                    log.error("Outbox event {} ({}) parked after {} attempts: {}",
+                            outboxEvent.getEventId(), outboxEvent.getEventType(),
+                            outboxEvent.getAttempts(), outboxEvent.getLastError());
+                }
+            }
+            if (!unpublished.isEmpty()) {
+                outboxEventRepository.release(unpublished, nodeId);
+            }
+        });
+
+        log.debug("Outbox batch: {} published, {} failed, {} held back",
+                published.size(), failed.size(), claim.heldBack().size());
+        return failed.isEmpty() && claim.heldBack().isEmpty() ? published.size() : 0;
+    }
+
+    /**
+     * Lease the oldest unclaimed events and split them into per-tenant lanes in outbox order,
+     * holding back each tenant's events that are newer than a pending event another node holds
+     */
+    private Claim claimBatch() {
+        Instant now = Instant.now();
+        List<Long> candidates = outboxEventRepository.findClaimableIds(now, Limit.of(properties.batchSize()));
+        if (!candidates.isEmpty()) {
+            outboxEventRepository.claim(candidates, nodeId, now.plusMillis(properties.claimTimeoutMs()), now);
+        }
+        List<OutboxEvent> claimed = outboxEventRepository.findClaimedBy(nodeId);
+        if (claimed.isEmpty()) {
+            return new Claim(Map.of(), List.of(), 0);
+        }
+
+        Map<UUID, Long> firstForeign = new HashMap<>();
+        for (Object[] row : outboxEventRepository.findOldestNotClaimedBy(nodeId, claimed.getLast().getId())) {
+            firstForeign.put((UUID) row[0], (Long) row[1]);
+        }
+
+        Map<UUID, List<OutboxEvent>> lanes = new LinkedHashMap<>();
+        List<Long> heldBack = new ArrayList<>();
+        for (OutboxEvent outboxEvent : claimed) {
+            Long foreign = firstForeign.get(outboxEvent.getTenantId());
+            if (foreign != null && foreign < outboxEvent.getId()) {
+                heldBack.add(outboxEvent.getId());
+            } else {
+                lanes.computeIfAbsent(outboxEvent.getTenantId(), tenantId -> new ArrayList<>()).add(outboxEvent);
+            }
+        }
+        return new Claim(lanes, heldBack, claimed.size());
+    }
+
+    private void releaseClaims(List<Long> ids) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.release(ids, nodeId));
+    }
+
+    private LaneResult dispatchLane(List<OutboxEvent> lane) {
+        List<Long> published = new ArrayList<>(lane.size());
+        for (OutboxEvent outboxEvent : lane) {
+            try {
+                DomainEvent event = serializer.deserialize(outboxEvent.getEventType(), outboxEvent.getPayload());
+                delivery.deliver(event);
+                published.add(outboxEvent.getId());
+            } catch (RuntimeException ex) {
+                log.warn("Failed to dispatch outbox event {} ({}): {}",
+                        outboxEvent.getEventId(), outboxEvent.getEventType(), ex.getMessage());
+                // Stop the lane so later events of this tenant keep their order
+                return new LaneResult(published, outboxEvent.getId(), ex.getMessage());
+            }
+        }
+        return new LaneResult(published, null, null);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private record Claim(Map<UUID, List<OutboxEvent>> lanes, List<Long> heldBack, int size) {
+    }
+
+    private record LaneResult(List<Long> published, Long failedId, String error) {
+    }
+}
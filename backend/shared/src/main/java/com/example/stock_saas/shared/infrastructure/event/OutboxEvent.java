@@ -0,0 +1,110 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Domain event stored in the transactional outbox.
+ * Written in the same transaction as the business change and drained by {@link OutboxDispatcher}.
+ * Not a BaseEntity: the dispatcher works across tenants, outside any tenant context.
+ * A dispatcher node claims pending events with a lease (claimedBy, claimedUntil) before dispatching them.
+ */
+@Getter
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_id", columnList = "status, id"),
+        @Index(name = "idx_outbox_events_claimed_by", columnList = "claimed_by"),
+        @Index(name = "idx_outbox_events_tenant_status_id", columnList = "tenant_id, status, id"),
+        @Index(name = "idx_outbox_events_tenant_next_attempt", columnList = "tenant_id, next_attempt_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    /**
+     * Monotonic sequence; dispatch order within a tenant follows it
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, unique = true, updatable = false)
+    private UUID eventId;
+
+    @Column(name = "tenant_id", updatable = false)
+    private UUID tenantId;
+
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, updatable = false, length = 65536)
+    private byte[] payload;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private Instant occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /**
+     * Earliest time a failed event is retried, null until its first failure and once parked
+     */
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    /**
+     * Dispatcher node holding the lease, null when unclaimed
+     */
+    @Column(name = "claimed_by")
+    private UUID claimedBy;
+
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+
+    /**
+     * Create a pending outbox entry for an event
+     */
+    public static OutboxEvent pending(DomainEvent event, byte[] payload) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.eventId = event.getEventId();
+        outboxEvent.tenantId = event.getTenantId();
+        outboxEvent.eventType = event.getEventType();
+        outboxEvent.payload = payload;
+        outboxEvent.occurredAt = event.getOccurredAt();
+        outboxEvent.status = Status.PENDING;
+        return outboxEvent;
+    }
+
+    /**
+     * Record a failed delivery; park the event once attempts are exhausted,
+     * otherwise hold it back until {@code retryAt}
+     */
+    public void recordFailure(String error, int maxAttempts, Instant retryAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+            this.nextAttemptAt = null;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+
+    public enum Status {
+        PENDING,
+        FAILED
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for transactional outbox entries.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Oldest pending events without a live lease, in dispatch order. Skips events waiting for
+     * their retry and, to keep tenant order, every later event of a tenant with such an event.
+     * Only waiting events have a future nextAttemptAt, so the check needs no status and runs
+     * on the tenant/nextAttemptAt index instead of walking the tenant's pending events.
+     */
+    @Query("""
+            select e.id from OutboxEvent e
+            where e.status = com.example.stock_saas.shared.infrastructure.event.OutboxEvent.Status.PENDING
+              and (e.claimedUntil is null or e.claimedUntil < :now)
+              and (e.nextAttemptAt is null or e.nextAttemptAt <= :now)
+              and not exists (
+                  select 1 from OutboxEvent r
+                  where r.tenantId = e.tenantId
+                    and r.nextAttemptAt > :now
+                    and r.id < e.id)
+            order by e.id
+            """)
+    List<Long> findClaimableIds(@Param("now") Instant now, Limit limit);
+
+    /**
+     * Lease the given events to a node, skipping those another node claimed in the meantime
+     *
+     * @return number of events claimed
+     */
+    @Modifying
+    @Query("""
+            update OutboxEvent e set e.claimedBy = :owner, e.claimedUntil = :until
+            where e.id in :ids
+              and e.status = com.example.stock_saas.shared.infrastructure.event.OutboxEvent.Status.PENDING
+              and (e.claimedUntil is null or e.claimedUntil < :now)
+            """)
+    int claim(@Param("ids") Collection<Long> ids, @Param("owner") UUID owner,
+              @Param("until") Instant until, @Param("now") Instant now);
+
+    /**
+     * Pending events leased to a node, in dispatch order
+     */
+    @Query("""
+            select e from OutboxEvent e
+            where e.claimedBy = :owner
+              and e.status = com.example.stock_saas.shared.infrastructure.event.OutboxEvent.Status.PENDING
+            order by e.id
+            """)
+    List<OutboxEvent> findClaimedBy(@Param("owner") UUID owner);
+
+    /**
+     * Per tenant, the oldest pending event below {@code beforeId} that is not leased to the node;
+     * the node's later events of that tenant must wait for it
+     *
+     * @return rows of [tenantId, id]
+     */
+    @Query("""
+            select e.tenantId, min(e.id) from OutboxEvent e
+            where e.status = com.example.stock_saas.shared.infrastructure.event.OutboxEvent.Status.PENDING
+              and e.id < :beforeId
+              and (e.claimedBy is null or e.claimedBy <> :owner)
+            group by e.tenantId
+            """)
+    List<Object[]> findOldestNotClaimedBy(@Param("owner") UUID owner, @Param("beforeId") Long beforeId);
+
+    /**
+     * Give up the node's leases on the given events
+     */
+    @Modifying
+    @Query("""
+            update OutboxEvent e set e.claimedBy = null, e.claimedUntil = null
+            where e.id in :ids and e.claimedBy = :owner
+            """)
+    int release(@Param("ids") Collection<Long> ids, @Param("owner") UUID owner);
+}
@@ -0,0 +1,42 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Transactional outbox settings (prefix: app.events.outbox).
+ *
+ * @param enabled           write events to the outbox instead of publishing them in the caller's transaction
+ * @param batchSize         maximum number of events drained per dispatch round
+ * @param pollIntervalMs    delay between dispatch rounds
+ * @param maxAttempts       attempts before an event is parked as FAILED
+ * @param retryBackoffMs    delay before the first retry of a failed event; doubles with every further failure
+ * @param maxRetryBackoffMs upper bound of the retry delay
+ * @param claimTimeoutMs    lease a node holds on the events it claimed; must exceed the time a batch takes
+ *                          to dispatch, after which another node may claim (and redeliver) them
+ * @param dispatcherThreads size of the dispatch pool when virtual threads are disabled
+ * @param virtualThreads    dispatch tenant lanes on virtual threads
+ */
+@ConfigurationProperties(prefix = "app.events.outbox")
+public record OutboxProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("500") long pollIntervalMs,
+        @DefaultValue("10") int maxAttempts,
+        @DefaultValue("1000") long retryBackoffMs,
+        @DefaultValue("300000") long maxRetryBackoffMs,
+        @DefaultValue("60000") long claimTimeoutMs,
+        @DefaultValue("8") int dispatcherThreads,
+        @DefaultValue("true") boolean virtualThreads) {
+
+    /**
+     * Delay before retrying an event that has failed {@code attempts} times
+     */
+    public long retryDelayMs(int attempts) {
+        int doublings = Math.clamp(attempts - 1, 0, 62);
+        if (retryBackoffMs > maxRetryBackoffMs >> doublings) {
+            return maxRetryBackoffMs;
+        }
+        return retryBackoffMs << doublings;
+    }
+}
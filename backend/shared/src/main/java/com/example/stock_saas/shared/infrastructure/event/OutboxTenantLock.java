@@ -0,0 +1,40 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * One row per tenant that transactions writing to the outbox lock before inserting their events.
+ * Holding the row lock until commit serializes a tenant's outbox writers, so a later writer
+ * gets a higher outbox id and commits after the earlier one (see {@link OutboxWriter}).
+ */
+@Getter
+@Entity
+@Table(name = "outbox_tenant_locks")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxTenantLock {
+
+    /**
+     * Tenant id, or {@link OutboxWriter#NO_TENANT} for events without a tenant
+     */
+    @Id
+    @Column(name = "tenant_key")
+    private UUID tenantKey;
+
+    /**
+     * Outbox writes by the tenant; bumped to take the row lock
+     */
+    @Column(name = "writes", nullable = false)
+    private long writes;
+
+    OutboxTenantLock(UUID tenantKey) {
+        this.tenantKey = tenantKey;
+    }
+}
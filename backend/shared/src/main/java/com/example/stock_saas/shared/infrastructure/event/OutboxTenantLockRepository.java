@@ -0,0 +1,23 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+/**
+ * Repository for the per-tenant outbox write locks.
+ */
+public interface OutboxTenantLockRepository extends JpaRepository<OutboxTenantLock, UUID> {
+
+    /**
+     * Take the tenant's row lock until the end of the current transaction
+     *
+     * @return 0 if the tenant has no lock row yet
+     */
+    @Modifying
+    @Query("update OutboxTenantLock l set l.writes = l.writes + 1 where l.tenantKey = :tenantKey")
+    int lock(@Param("tenantKey") UUID tenantKey);
+}
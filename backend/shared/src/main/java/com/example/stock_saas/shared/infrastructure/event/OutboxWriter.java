@@ -0,0 +1,87 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Writes domain events to the transactional outbox in the caller's transaction.
+ * Only present when the outbox is enabled, so {@link DomainEventPublisher} needs neither
+ * the outbox repository nor a serializer otherwise.
+ *
+ * The dispatcher orders a tenant's events by outbox id, but identity values are handed out
+ * at insert time, not at commit: a transaction that inserts later can commit first and
+ * have its event dispatched before the earlier one becomes visible. Before inserting, the
+ * writer therefore locks the tenant's {@link OutboxTenantLock} row until commit, so a
+ * tenant's outbox writers run one at a time and commit in id order. Transactions of
+ * different tenants do not wait for each other; publish late in long transactions to keep
+ * the lock short.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.events.outbox", name = "enabled", havingValue = "true")
+public class OutboxWriter {
+
+    /**
+     * Lock key for events without a tenant
+     */
+    static final UUID NO_TENANT = new UUID(0, 0);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxTenantLockRepository tenantLockRepository;
+    private final DomainEventSerializer serializer;
+    private final TransactionTemplate lockCreation;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository,
+                        OutboxTenantLockRepository tenantLockRepository,
+                        DomainEventSerializer serializer,
+                        PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.tenantLockRepository = tenantLockRepository;
+        this.serializer = serializer;
+        this.lockCreation = new TransactionTemplate(transactionManager);
+        this.lockCreation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Store the events as pending outbox entries, in the given order
+     */
+    public void write(List<? extends DomainEvent> events) {
+        // Sorted, so transactions writing for several tenants lock them in the same order
+        TreeSet<UUID> tenantKeys = new TreeSet<>();
+        List<OutboxEvent> outboxEvents = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            tenantKeys.add(Objects.requireNonNullElse(event.getTenantId(), NO_TENANT));
+            outboxEvents.add(OutboxEvent.pending(event, serializer.serialize(event)));
+        }
+        tenantKeys.forEach(this::lockTenant);
+        outboxEventRepository.saveAll(outboxEvents);
+    }
+
+    private void lockTenant(UUID tenantKey) {
+        if (tenantLockRepository.lock(tenantKey) > 0) {
+            return;
+        }
+        try {
+            lockCreation.executeWithoutResult(status -> {
+                if (!tenantLockRepository.existsById(tenantKey)) {
+                    tenantLockRepository.saveAndFlush(new OutboxTenantLock(tenantKey));
+                }
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // Created concurrently by another writer
+        }
+        if (tenantLockRepository.lock(tenantKey) == 0) {
+            throw new IllegalStateException("Outbox lock row missing for tenant " + tenantKey);
+        }
+    }
+}
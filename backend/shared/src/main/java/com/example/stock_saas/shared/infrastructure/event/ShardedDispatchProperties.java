@@ -0,0 +1,22 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+/**
+ * Tenant-sharded event dispatch settings (prefix: app.events.sharded).
+ *
+ * @param enabled       dispatch events on per-tenant lanes after commit instead of on the request thread
+ * @param lanes         number of single-consumer lanes; tenants are hashed onto them
+ * @param queueCapacity maximum queued batches per lane before publishers block
+ * @param eventTypes    event types routed through the lanes; empty means all types
+ */
+@ConfigurationProperties(prefix = "app.events.sharded")
+public record ShardedDispatchProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("8") int lanes,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue Set<String> eventTypes) {
+}
@@ -0,0 +1,231 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispatches domain events on N single-consumer lanes, selected by hashing the event's tenant ID.
+ *
+ * - Strict ordering per tenant: a tenant always maps to the same lane, and a lane is FIFO
+ * - Parallelism across tenants: one tenant's burst only delays tenants sharing its lane
+ * - Events are enqueued after the publishing transaction commits
+ * - A full lane blocks publishers (backpressure) rather than dropping events
+ * - Each event is published in a transaction of its own, so @TransactionalEventListener
+ *   consumers run (see {@link TransactionalEventDelivery})
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.events.sharded", name = "enabled", havingValue = "true")
+public class TenantShardedEventDispatcher implements DisposableBean {
+
+    private final TransactionalEventDelivery delivery;
+    private final ShardedDispatchProperties properties;
+    private final Lane[] lanes;
+
+    public TenantShardedEventDispatcher(ApplicationEventPublisher eventPublisher,
+                                        PlatformTransactionManager transactionManager,
+                                        ShardedDispatchProperties properties,
+                                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (properties.lanes() < 1) {
+            throw new IllegalArgumentException("app.events.sharded.lanes must be at least 1");
+        }
+        this.delivery = new TransactionalEventDelivery(eventPublisher, transactionManager);
+        this.properties = properties;
+        this.lanes = new Lane[properties.lanes()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i, properties.queueCapacity(), virtualThreads);
+            lanes[i].start();
+        }
+        log.info("Started tenant-sharded event dispatcher with {} lanes", lanes.length);
+    }
+
+    /**
+     * Check if an event type is routed through the lanes
+     */
+    public boolean handles(DomainEvent event) {
+        return properties.eventTypes().isEmpty() || properties.eventTypes().contains(event.getEventType());
+    }
+
+    /**
+     * Enqueue events once the current transaction commits (immediately if there is none).
+     * Events of the same lane are handed off as a single batch.
+     */
+    public void dispatchAfterCommit(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(events);
+                }
+            });
+        } else {
+            enqueue(events);
+        }
+    }
+
+    /**
+     * Per-lane queue depth and lag
+     */
+    public List<LaneStats> getLaneStats() {
+        List<LaneStats> stats = new ArrayList<>(lanes.length);
+        for (Lane lane : lanes) {
+            stats.add(lane.stats());
+        }
+        return stats;
+    }
+
+    void enqueue(List<DomainEvent> events) {
+        if (events.size() == 1) {
+            DomainEvent event = events.get(0);
+            lanes[laneFor(event.getTenantId())].put(events);
+            return;
+        }
+
+        List<List<DomainEvent>> perLane = new ArrayList<>(lanes.length);
+        for (int i = 0; i < lanes.length; i++) {
+            perLane.add(null);
+        }
+        for (DomainEvent event : events) {
+            int lane = laneFor(event.getTenantId());
+            List<DomainEvent> laneEvents = perLane.get(lane);
+            if (laneEvents == null) {
+                laneEvents = new ArrayList<>();
+                perLane.set(lane, laneEvents);
+            }
+            laneEvents.add(event);
+        }
+        for (int i = 0; i < lanes.length; i++) {
+            if (perLane.get(i) != null) {
+                lanes[i].put(perLane.get(i));
+            }
+        }
+    }
+
+    private int laneFor(UUID tenantId) {
+        if (tenantId == null) {
+            return 0;
+        }
+        int hash = tenantId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+        for (Lane lane : lanes) {
+            lane.thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Snapshot of a lane's state
+     *
+     * @param lane        lane index
+     * @param queueDepth  events enqueued but not yet dispatched (including the one being dispatched)
+     * @param enqueued    events enqueued since startup
+     * @param dispatched  events dispatched since startup
+     * @param lagMillis   queueing delay of the most recently dispatched batch
+     */
+    public record LaneStats(int lane, long queueDepth, long enqueued, long dispatched, long lagMillis) {
+    }
+
+    private record Batch(List<DomainEvent> events, long enqueuedAtNanos) {
+    }
+
+    private final class Lane implements Runnable {
+
+        private final int index;
+        private final BlockingQueue<Batch> queue;
+        private final Thread thread;
+        private final AtomicLong enqueued = new AtomicLong();
+        private final AtomicLong dispatched = new AtomicLong();
+        private volatile long lastLagNanos;
+        private volatile boolean running = true;
+
+        private Lane(int index, int capacity, boolean virtualThread) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            Thread.Builder builder = virtualThread ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+            this.thread = builder.name("event-lane-" + index).unstarted(this);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        private void stop() {
+            running = false;
+            thread.interrupt();
+        }
+
+        private void put(List<DomainEvent> events) {
+            if (!running) {
+                throw new IllegalStateException("Event lane " + index + " is stopped");
+            }
+            enqueued.addAndGet(events.size());
+            try {
+                queue.put(new Batch(events, System.nanoTime()));
+            } catch (InterruptedException ex) {
+                enqueued.addAndGet(-events.size());
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while enqueuing events on lane " + index, ex);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    dispatch(queue.take());
+                } catch (InterruptedException ex) {
+                    // Stop requested; drain below
+                }
+            }
+            Batch remaining;
+            while ((remaining = queue.poll()) != null) {
+                dispatch(remaining);
+            }
+        }
+
+        private void dispatch(Batch batch) {
+            lastLagNanos = System.nanoTime() - batch.enqueuedAtNanos();
+            for (DomainEvent event : batch.events()) {
+                try {
+                    delivery.deliver(event);
+                } catch (RuntimeException ex) {
+                    log.error("Listener failed for event {} on lane {}", event, index, ex);
+                }
+                dispatched.incrementAndGet();
+            }
+        }
+
+        private LaneStats stats() {
+            // Dispatched first: it never exceeds the enqueued count read after it
+            long dispatchedEvents = dispatched.get();
+            long enqueuedEvents = enqueued.get();
+            return new LaneStats(index, enqueuedEvents - dispatchedEvents, enqueuedEvents, dispatchedEvents,
+                    TimeUnit.NANOSECONDS.toMillis(lastLagNanos));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Publishes an event to Spring listeners on behalf of a dispatcher running after the
+ * business transaction committed.
+ *
+ * Each event is published in its tenant context, inside a short transaction of its own:
+ * consumers are @TransactionalEventListener methods (see {@link DomainEventPublisher}),
+ * which silently skip events published outside a transaction. They run once that
+ * transaction commits, exactly as they would after the business transaction.
+ *
+ * Exceptions of synchronous and BEFORE_COMMIT listeners reach the dispatcher;
+ * Spring logs and swallows those of AFTER_COMMIT listeners.
+ */
+final class TransactionalEventDelivery {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    TransactionalEventDelivery(ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    void deliver(DomainEvent event) {
+        if (event.getTenantId() == null) {
+            publishInTransaction(event);
+            return;
+        }
+        TenantContext.executeInTenantContext(event.getTenantId(), () -> {
+            publishInTransaction(event);
+            return null;
+        });
+    }
+
+    private void publishInTransaction(DomainEvent event) {
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+    }
+}
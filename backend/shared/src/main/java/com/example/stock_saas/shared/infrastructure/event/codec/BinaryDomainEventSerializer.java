@@ -0,0 +1,77 @@
+package com.example.stock_saas.shared.infrastructure.event.codec;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import com.example.stock_saas.shared.infrastructure.event.DomainEventSerializer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary serializer for domain events (app.events.codec=binary).
+ *
+ * Layout: format byte, event type, body schema version, eventId, tenantId,
+ * triggeredBy, occurredAt (epoch micros), then the codec-specific body.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.events", name = "codec", havingValue = "binary")
+public class BinaryDomainEventSerializer implements DomainEventSerializer {
+
+    static final int FORMAT_VERSION = 1;
+
+    private final DomainEventCodecRegistry codecRegistry;
+
+    @Override
+    public byte[] serialize(DomainEvent event) {
+        DomainEventCodec<DomainEvent> codec = codecRegistry.codecFor(event.getEventType());
+
+        BinaryEventWriter writer = new BinaryEventWriter(128);
+        writer.writeByte(FORMAT_VERSION)
+                .writeString(event.getEventType())
+                .writeVarInt(codec.version())
+                .writeUuid(event.getEventId())
+                .writeNullableUuid(event.getTenantId())
+                .writeNullableUuid(event.getTriggeredBy())
+                .writeInstantMicros(event.getOccurredAt());
+        codec.encode(event, writer);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public DomainEvent deserialize(String eventType, byte[] payload) {
+        DomainEvent event = decode(ByteBuffer.wrap(payload));
+        if (!event.getEventType().equals(eventType)) {
+            throw new IllegalArgumentException(String.format(
+                    "Payload holds event type '%s' but '%s' was expected", event.getEventType(), eventType));
+        }
+        return event;
+    }
+
+    /**
+     * Decode an event straight from a buffer (e.g. a Redis message) without copying it
+     */
+    public DomainEvent decode(ByteBuffer buffer) {
+        BinaryEventReader reader = new BinaryEventReader(buffer);
+        int format = reader.readByte();
+        if (format != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported event format version: " + format);
+        }
+
+        EventHeader header = new EventHeader(
+                reader.readString(),
+                reader.readVarInt(),
+                reader.readUuid(),
+                reader.readNullableUuid(),
+                reader.readNullableUuid(),
+                reader.readInstantMicros());
+        DomainEventCodec<DomainEvent> codec = codecRegistry.codecFor(header.eventType());
+        if (header.schemaVersion() > codec.version()) {
+            throw new IllegalArgumentException(String.format(
+                    "Event %s has schema version %d, newer than supported version %d",
+                    header.eventType(), header.schemaVersion(), codec.version()));
+        }
+        return codec.decode(header, header.schemaVersion(), reader);
+    }
+}
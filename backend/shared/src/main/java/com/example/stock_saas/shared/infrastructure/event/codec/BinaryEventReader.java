@@ -0,0 +1,157 @@
+package com.example.stock_saas.shared.infrastructure.event.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Reader for the compact binary event format (see {@link BinaryEventWriter}).
+ * Reads directly from the given ByteBuffer without copying it; the buffer's
+ * position advances as values are read. Fixed-width values and length prefixes are
+ * checked against the remaining bytes, so a truncated or corrupt payload fails with an IllegalArgumentException.
+ */
+public final class BinaryEventReader {
+
+    private final ByteBuffer buffer;
+
+    public BinaryEventReader(ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    public int readByte() {
+        require(Byte.BYTES);
+        return buffer.get() & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        require(Byte.BYTES);
+        return buffer.get() != 0;
+    }
+
+    public int readInt() {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    public long readLong() {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    public int readVarInt() {
+        int value = readRawVarInt();
+        if (value < 0) {
+            throw new IllegalArgumentException("Malformed varint: " + Integer.toUnsignedString(value));
+        }
+        return value;
+    }
+
+    /**
+     * Zigzag-encoded signed varint (see {@link BinaryEventWriter#writeSignedVarInt(int)})
+     */
+    public int readSignedVarInt() {
+        int zigzag = readRawVarInt();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public UUID readUuid() {
+        require(2 * Long.BYTES);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    public UUID readNullableUuid() {
+        return readBoolean() ? readUuid() : null;
+    }
+
+    public Instant readInstantMicros() {
+        long micros = readLong();
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    public Instant readNullableInstantMicros() {
+        return readBoolean() ? readInstantMicros() : null;
+    }
+
+    public String readString() {
+        int length = readLength();
+        if (length < 0) {
+            return null;
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    public byte[] readBytes() {
+        int length = readLength();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    public BigDecimal readDecimal() {
+        byte[] unscaled = readBytes();
+        if (unscaled == null) {
+            return null;
+        }
+        if (unscaled.length == 0) {
+            throw new IllegalArgumentException("Malformed decimal: empty unscaled value");
+        }
+        return new BigDecimal(new BigInteger(unscaled), readSignedVarInt());
+    }
+
+    public int remaining() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Fixed-width value: fails like a truncated length prefix instead of with a BufferUnderflowException
+     */
+    private void require(int bytes) {
+        if (bytes > buffer.remaining()) {
+            throw new IllegalArgumentException(String.format(
+                    "Truncated event payload: %d bytes needed, %d remaining", bytes, buffer.remaining()));
+        }
+    }
+
+    /**
+     * Length prefix of a string or byte array: -1 for null, otherwise checked against the remaining bytes
+     */
+    private int readLength() {
+        int length = readVarInt() - 1;
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException(String.format(
+                    "Truncated event payload: %d bytes announced, %d remaining", length, buffer.remaining()));
+        }
+        return length;
+    }
+
+    private int readRawVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Truncated event payload: unterminated varint");
+            }
+            int b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.stock_saas.shared.infrastructure.event.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Growable big-endian buffer for the compact binary event format.
+ *
+ * Encoding rules:
+ * - UUIDs are two longs (16 bytes), nullable UUIDs are prefixed with a presence byte
+ * - Instants are epoch microseconds (8 bytes)
+ * - Strings and byte arrays are prefixed with an unsigned varint length (0 = null, n + 1 = n bytes)
+ * - Signed varints are zigzag-encoded (small magnitudes of either sign take one byte)
+ */
+public final class BinaryEventWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public BinaryEventWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeBoolean(boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    public BinaryEventWriter writeInt(int value) {
+        ensureCapacity(4);
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+
+    /**
+     * Unsigned LEB128 varint (1 byte for values below 128)
+     */
+    public BinaryEventWriter writeVarInt(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Varint must be non-negative: " + value);
+        }
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Zigzag-encoded signed varint
+     */
+    public BinaryEventWriter writeSignedVarInt(int value) {
+        int zigzag = (value << 1) ^ (value >> 31);
+        ensureCapacity(5);
+        while ((zigzag & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        buffer[position++] = (byte) zigzag;
+        return this;
+    }
+
+    public BinaryEventWriter writeUuid(UUID value) {
+        return writeLong(value.getMostSignificantBits()).writeLong(value.getLeastSignificantBits());
+    }
+
+    public BinaryEventWriter writeNullableUuid(UUID value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        return writeByte(1).writeUuid(value);
+    }
+
+    public BinaryEventWriter writeInstantMicros(Instant value) {
+        return writeLong(Math.addExact(Math.multiplyExact(value.getEpochSecond(), 1_000_000L), value.getNano() / 1_000));
+    }
+
+    public BinaryEventWriter writeNullableInstantMicros(Instant value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        return writeByte(1).writeInstantMicros(value);
+    }
+
+    public BinaryEventWriter writeString(String value) {
+        if (value == null) {
+            return writeVarInt(0);
+        }
+        return writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public BinaryEventWriter writeBytes(byte[] value) {
+        if (value == null) {
+            return writeVarInt(0);
+        }
+        writeVarInt(value.length + 1);
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+        return this;
+    }
+
+    /**
+     * Decimal as the unscaled value's two's-complement bytes (null when absent) followed by
+     * the scale as a signed varint; the scale is negative for values such as 1E+3
+     */
+    public BinaryEventWriter writeDecimal(BigDecimal value) {
+        if (value == null) {
+            return writeBytes(null);
+        }
+        writeBytes(value.unscaledValue().toByteArray());
+        return writeSignedVarInt(value.scale());
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = position + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.stock_saas.shared.infrastructure.event.codec;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+
+/**
+ * Binary body encoder/decoder for one event type.
+ * Implementations are Spring beans and are picked up by {@link DomainEventCodecRegistry}.
+ *
+ * Schema versioning: {@link #version()} is written with every event; decode()
+ * receives the version the payload was written with, so older payloads
+ * (e.g. still sitting in the outbox) remain readable after the body changes.
+ */
+public interface DomainEventCodec<E extends DomainEvent> {
+
+    /**
+     * Event class handled by this codec
+     */
+    Class<E> eventClass();
+
+    /**
+     * Event type identifier, must match {@link DomainEvent#getEventType()}
+     */
+    default String eventType() {
+        return eventClass().getSimpleName();
+    }
+
+    /**
+     * Current schema version of the body written by {@link #encode}
+     */
+    int version();
+
+    /**
+     * Write the event body (header fields are written by the serializer)
+     */
+    void encode(E event, BinaryEventWriter writer);
+
+    /**
+     * Read an event body written with the given schema version
+     */
+    E decode(EventHeader header, int version, BinaryEventReader reader);
+}
@@ -0,0 +1,43 @@
+package com.example.stock_saas.shared.infrastructure.event.codec;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of binary event codecs, keyed by event type.
+ */
+@Slf4j
+@Component
+public class DomainEventCodecRegistry {
+
+    private final Map<String, DomainEventCodec<?>> codecs = new HashMap<>();
+
+    public DomainEventCodecRegistry(ObjectProvider<DomainEventCodec<?>> codecs) {
+        codecs.orderedStream().forEach(codec -> {
+            DomainEventCodec<?> existing = this.codecs.putIfAbsent(codec.eventType(), codec);
+            if (existing != null) {
+                throw new IllegalStateException(String.format("Duplicate codecs for event type '%s': %s and %s",
+                        codec.eventType(), existing.getClass().getName(), codec.getClass().getName()));
+            }
+        });
+        log.debug("Registered {} domain event codecs", this.codecs.size());
+    }
+
+    /**
+     * Resolve the codec for an event type
+     * @throws IllegalArgumentException if no codec is registered
+     */
+    @SuppressWarnings("unchecked")
+    public DomainEventCodec<DomainEvent> codecFor(String eventType) {
+        DomainEventCodec<?> codec = codecs.get(eventType);
+        if (codec == null) {
+            throw new IllegalArgumentException("No binary codec registered for event type: " + eventType);
+        }
+        return (DomainEventCodec<DomainEvent>) codec;
+    }
+}
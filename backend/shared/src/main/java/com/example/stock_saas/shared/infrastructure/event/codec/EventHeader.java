@@ -0,0 +1,12 @@
+package com.example.stock_saas.shared.infrastructure.event.codec;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Common fields of every encoded event, decoded before the event body.
+ * Codecs pass them to the rehydration constructor of BaseDomainEvent.
+ */
+public record EventHeader(String eventType, int schemaVersion, UUID eventId,
+                          UUID tenantId, UUID triggeredBy, Instant occurredAt) {
+}
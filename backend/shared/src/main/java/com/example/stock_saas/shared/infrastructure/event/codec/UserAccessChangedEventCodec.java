@@ -0,0 +1,34 @@
+package com.example.stock_saas.shared.infrastructure.event.codec;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.domain.event.UserAccessChangedEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Body: userId, then the permission code of the change (codes stay stable when the enum is reordered).
+ */
+@Component
+public class UserAccessChangedEventCodec implements DomainEventCodec<UserAccessChangedEvent> {
+
+    @Override
+    public Class<UserAccessChangedEvent> eventClass() {
+        return UserAccessChangedEvent.class;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void encode(UserAccessChangedEvent event, BinaryEventWriter writer) {
+        writer.writeUuid(event.getUserId())
+                .writeString(event.getChange().getCode());
+    }
+
+    @Override
+    public UserAccessChangedEvent decode(EventHeader header, int version, BinaryEventReader reader) {
+        return new UserAccessChangedEvent(header.eventId(), header.occurredAt(), header.tenantId(),
+                header.triggeredBy(), reader.readUuid(), Permission.fromCode(reader.readString()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Compacted base quantity of a stock counter. Only compaction writes it, with an atomic
+ * increment; the current balance is this quantity plus the remaining {@link StockDelta} rows.
+ */
+@Getter
+@Entity
+@Table(name = "stock_balances", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_balances_key", columnNames = {"tenant_id", "sku_id", "warehouse_id"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private UUID tenantId;
+
+    @Column(name = "sku_id", nullable = false, updatable = false)
+    private UUID skuId;
+
+    @Column(name = "warehouse_id", nullable = false, updatable = false)
+    private UUID warehouseId;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    @Column(name = "compacted_at", nullable = false)
+    private Instant compactedAt;
+
+    static StockBalance of(StockCounterKey key, long quantity, Instant compactedAt) {
+        StockBalance balance = new StockBalance();
+        balance.tenantId = key.tenantId();
+        balance.skuId = key.skuId();
+        balance.warehouseId = key.warehouseId();
+        balance.quantity = quantity;
+        balance.compactedAt = compactedAt;
+        return balance;
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory balances of stock counters.
+ *
+ * A balance is the value read from the database when it was loaded plus a striped
+ * {@link LongAdder} of the deltas this node committed since, so hot counters take writes
+ * without any shared lock. To load a consistent snapshot, every counter tracks its
+ * in-flight and completed local writes: a database read that overlapped a local write
+ * (whose delta may or may not be part of the read) is not trusted, and the counter is
+ * re-read later instead. Writes of other nodes are picked up by re-reading after
+ * {@code refreshAfterNanos}.
+ *
+ * Counters with nothing in flight and no fresh snapshot carry no information, so
+ * {@link #evictIdle()} drops them; otherwise the map would keep every counter ever touched.
+ */
+final class StockCounterCache {
+
+    private final ConcurrentMap<StockCounterKey, Counter> counters = new ConcurrentHashMap<>();
+    private final long refreshAfterNanos;
+
+    StockCounterCache(long refreshAfterNanos) {
+        this.refreshAfterNanos = refreshAfterNanos;
+    }
+
+    /**
+     * Announce a local write before its delta row is inserted; must be followed by
+     * {@link #complete(PendingWrite, boolean)} once the transaction has finished
+     */
+    PendingWrite beginWrite(StockCounterKey key, long delta) {
+        while (true) {
+            Counter counter = counter(key);
+            counter.inFlight.incrementAndGet();
+            // Evicted between lookup and increment: a later load would not see this write, retry
+            if (counters.get(key) == counter) {
+                return new PendingWrite(counter, delta);
+            }
+            counter.inFlight.decrementAndGet();
+        }
+    }
+
+    void complete(PendingWrite write, boolean committed) {
+        Counter counter = write.counter();
+        if (committed) {
+            Snapshot snapshot = counter.snapshot;
+            if (snapshot != null) {
+                snapshot.sinceLoad.add(write.delta());
+            }
+        }
+        counter.completed.incrementAndGet();
+        counter.inFlight.decrementAndGet();
+    }
+
+    /**
+     * Cached balance, empty when not loaded or due for a re-read
+     */
+    OptionalLong getIfFresh(StockCounterKey key) {
+        Counter counter = counters.get(key);
+        Snapshot snapshot = counter != null ? counter.snapshot : null;
+        if (snapshot == null || !snapshot.isFresh(refreshAfterNanos)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(snapshot.value());
+    }
+
+    /**
+     * Read the balance from the database and cache it unless a local write overlapped the read
+     *
+     * @return the database balance
+     */
+    long load(StockCounterKey key, LongSupplier database) {
+        Counter counter = counter(key);
+        long seen = counter.completed.get();
+        boolean quiet = counter.inFlight.get() == 0;
+        long value = database.getAsLong();
+        if (quiet) {
+            Snapshot snapshot = new Snapshot(value);
+            counter.snapshot = snapshot;
+            // Installed before re-checking, so a write completing from now on lands in the new snapshot
+            if (counter.inFlight.get() != 0 || counter.completed.get() != seen) {
+                snapshot.expire();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Compare the cached balance with the database
+     *
+     * @return the mismatch, or null when consistent, not cached or not comparable (writes in flight)
+     */
+    Mismatch verify(StockCounterKey key, LongSupplier database) {
+        Counter counter = counters.get(key);
+        Snapshot snapshot = counter != null ? counter.snapshot : null;
+        if (snapshot == null) {
+            return null;
+        }
+        long seen = counter.completed.get();
+        if (counter.inFlight.get() != 0) {
+            return null;
+        }
+        long cached = snapshot.value();
+        long actual = database.getAsLong();
+        if (counter.inFlight.get() != 0 || counter.completed.get() != seen || cached == actual) {
+            return null;
+        }
+        counter.snapshot = null;
+        return new Mismatch(key, cached, actual);
+    }
+
+    /**
+     * Counters of the tenant with a cached balance
+     */
+    List<StockCounterKey> cachedKeys(UUID tenantId) {
+        List<StockCounterKey> keys = new ArrayList<>();
+        counters.forEach((key, counter) -> {
+            if (key.tenantId().equals(tenantId) && counter.snapshot != null) {
+                keys.add(key);
+            }
+        });
+        return keys;
+    }
+
+    /**
+     * Drop counters with no write in flight and no fresh snapshot
+     *
+     * @return number of evicted counters
+     */
+    int evictIdle() {
+        int evicted = 0;
+        for (StockCounterKey key : counters.keySet()) {
+            if (counters.computeIfPresent(key, (k, counter) -> isIdle(counter) ? null : counter) == null) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    void invalidate(StockCounterKey key) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.snapshot = null;
+        }
+    }
+
+    private Counter counter(StockCounterKey key) {
+        return counters.computeIfAbsent(key, k -> new Counter());
+    }
+
+    private boolean isIdle(Counter counter) {
+        Snapshot snapshot = counter.snapshot;
+        return counter.inFlight.get() == 0 && (snapshot == null || !snapshot.isFresh(refreshAfterNanos));
+    }
+
+    record PendingWrite(Counter counter, long delta) {
+    }
+
+    record Mismatch(StockCounterKey key, long cached, long actual) {
+    }
+
+    static final class Counter {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong completed = new AtomicLong();
+        private volatile Snapshot snapshot;
+    }
+
+    private static final class Snapshot {
+        private final long base;
+        private final LongAdder sinceLoad = new LongAdder();
+        private final long loadedAtNanos = System.nanoTime();
+        private volatile boolean expired;
+
+        Snapshot(long base) {
+            this.base = base;
+        }
+
+        long value() {
+            return base + sinceLoad.sum();
+        }
+
+        boolean isFresh(long refreshAfterNanos) {
+            return !expired && (refreshAfterNanos <= 0 || System.nanoTime() - loadedAtNanos < refreshAfterNanos);
+        }
+
+        void expire() {
+            expired = true;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Delta-row stock counters (app.inventory.counters.enabled=true).
+ */
+@Configuration
+@EnableConfigurationProperties(StockCounterProperties.class)
+@ConditionalOnProperty(prefix = "app.inventory.counters", name = "enabled", havingValue = "true")
+public class StockCounterConfig {
+
+    @Bean
+    public StockCounterEngine stockCounterEngine(EntityManager entityManager,
+                                                 PlatformTransactionManager transactionManager,
+                                                 StockCounterProperties properties) {
+        return new StockCounterEngine(entityManager, transactionManager, properties);
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import com.example.stock_saas.shared.infrastructure.security.SecurityUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention-free stock quantities for hot SKUs.
+ *
+ * Instead of updating one versioned stock row (where every writer of a bestselling SKU
+ * serializes on the optimistic lock), each adjustment appends a signed {@link StockDelta}
+ * row. The balance of a counter is its {@link StockBalance} base quantity plus the pending
+ * deltas; a scheduled compaction periodically folds deltas into the base row, which leaves
+ * the balance unchanged. Reads are served from an in-memory {@link StockCounterCache}
+ * that committed local writes update through striped adders.
+ *
+ * The engine only tracks quantities: rules such as "no negative stock" belong to the
+ * calling service (use {@link #getExactBalance(UUID, UUID)} for such checks).
+ */
+@Slf4j
+public class StockCounterEngine {
+
+    private static final String BALANCE_SQL = """
+            SELECT COALESCE((SELECT b.quantity FROM stock_balances b
+                             WHERE b.tenant_id = ?1 AND b.sku_id = ?2 AND b.warehouse_id = ?3), 0)
+                 + COALESCE((SELECT SUM(d.quantity) FROM stock_deltas d
+                             WHERE d.tenant_id = ?1 AND d.sku_id = ?2 AND d.warehouse_id = ?3), 0)
+            """;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final StockCounterProperties properties;
+    private final StockCounterCache cache;
+
+    public StockCounterEngine(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                              StockCounterProperties properties) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.cache = new StockCounterCache(TimeUnit.MILLISECONDS.toNanos(properties.refreshAfterMs()));
+    }
+
+    /**
+     * Add a signed quantity to the current tenant's counter, as part of the caller's transaction
+     */
+    @Transactional
+    public void adjust(UUID skuId, UUID warehouseId, long quantity) {
+        if (quantity == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Stock adjustments need transaction synchronization");
+        }
+        StockCounterKey key = StockCounterKey.of(skuId, warehouseId);
+        StockCounterCache.PendingWrite write = cache.beginWrite(key, quantity);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.complete(write, status == STATUS_COMMITTED);
+            }
+        });
+        entityManager.persist(StockDelta.of(key, quantity));
+    }
+
+    /**
+     * Current balance of the current tenant's counter, cached
+     */
+    public long getBalance(UUID skuId, UUID warehouseId) {
+        StockCounterKey key = StockCounterKey.of(skuId, warehouseId);
+        OptionalLong cached = cache.getIfFresh(key);
+        return cached.isPresent() ? cached.getAsLong() : cache.load(key, () -> readBalance(key));
+    }
+
+    /**
+     * Current balance read from the database (base row plus pending deltas)
+     */
+    public long getExactBalance(UUID skuId, UUID warehouseId) {
+        return readBalance(StockCounterKey.of(skuId, warehouseId));
+    }
+
+    /**
+     * Consistency check of the current tenant's cached balances against the database
+     * (requires INVENTORY_RECONCILE); mismatched counters are evicted and reloaded on next read
+     */
+    public StockReconciliation reconcile() {
+        if (!SecurityUtils.hasPermission(Permission.INVENTORY_RECONCILE)) {
+            throw new AccessDeniedException("Reconciling stock counters requires " + Permission.INVENTORY_RECONCILE.getCode());
+        }
+        UUID tenantId = TenantContext.getTenantId();
+        List<StockCounterKey> keys = cache.cachedKeys(tenantId);
+        List<StockReconciliation.Mismatch> mismatches = new ArrayList<>();
+        for (StockCounterKey key : keys) {
+            StockCounterCache.Mismatch mismatch = cache.verify(key, () -> readBalance(key));
+            if (mismatch != null) {
+                log.warn("Stock counter {}/{} of tenant {} drifted: cached {}, database {}",
+                        key.skuId(), key.warehouseId(), tenantId, mismatch.cached(), mismatch.actual());
+                mismatches.add(new StockReconciliation.Mismatch(
+                        key.skuId(), key.warehouseId(), mismatch.cached(), mismatch.actual()));
+            }
+        }
+        return new StockReconciliation(tenantId, keys.size(), mismatches);
+    }
+
+    /**
+     * Fold pending deltas into the base rows, one transaction per counter, then evict
+     * idle counters from the cache
+     *
+     * @return number of folded delta rows
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.counters.compaction-interval-ms:5000}")
+    public long compact() {
+        List<StockCounterKey> keys = readOnlyTransaction.execute(status -> entityManager.createQuery("""
+                        select distinct new com.example.stock_saas.shared.infrastructure.inventory.StockCounterKey(
+                            d.tenantId, d.skuId, d.warehouseId)
+                        from StockDelta d
+                        """, StockCounterKey.class)
+                .setMaxResults(properties.compactionBatchSize())
+                .getResultList());
+
+        long folded = 0;
+        for (StockCounterKey key : keys) {
+            try {
+                Integer count = TenantContext.executeInTenantContext(key.tenantId(),
+                        () -> transactionTemplate.execute(status -> fold(key)));
+                folded += count != null ? count : 0;
+            } catch (RuntimeException ex) {
+                if (!isCompactionConflict(ex)) {
+                    log.error("Compaction of stock counter {} failed", key, ex);
+                    continue;
+                }
+                // Another node compacted the same counter; whatever is left is picked up next round
+                log.debug("Compaction of stock counter {} skipped: {}", key, ex.getMessage());
+            }
+        }
+        if (folded > 0) {
+            log.debug("Compacted {} stock deltas of {} counters", folded, keys.size());
+        }
+        int evicted = cache.evictIdle();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle stock counters from the cache", evicted);
+        }
+        return folded;
+    }
+
+    private int fold(StockCounterKey key) {
+        List<Object[]> deltas = entityManager.createQuery("""
+                        select d.id, d.quantity from StockDelta d
+                        where d.tenantId = :tenantId and d.skuId = :skuId and d.warehouseId = :warehouseId
+                        order by d.id
+                        """, Object[].class)
+                .setParameter("tenantId", key.tenantId())
+                .setParameter("skuId", key.skuId())
+                .setParameter("warehouseId", key.warehouseId())
+                .setMaxResults(properties.maxDeltasPerFold())
+                .getResultList();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = new ArrayList<>(deltas.size());
+        long sum = 0;
+        for (Object[] delta : deltas) {
+            ids.add((Long) delta[0]);
+            sum += (Long) delta[1];
+        }
+
+        // Deleting first locks the rows; a concurrent compactor then deletes fewer and rolls back
+        int deleted = entityManager.createQuery("delete from StockDelta d where d.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        if (deleted != ids.size()) {
+            throw new ConcurrentCompactionException("Deltas of " + key + " were compacted concurrently");
+        }
+
+        Instant now = Instant.now();
+        int updated = entityManager.createQuery("""
+                        update StockBalance b set b.quantity = b.quantity + :sum, b.compactedAt = :now
+                        where b.tenantId = :tenantId and b.skuId = :skuId and b.warehouseId = :warehouseId
+                        """)
+                .setParameter("sum", sum)
+                .setParameter("now", now)
+                .setParameter("tenantId", key.tenantId())
+                .setParameter("skuId", key.skuId())
+                .setParameter("warehouseId", key.warehouseId())
+                .executeUpdate();
+        if (updated == 0) {
+            entityManager.persist(StockBalance.of(key, sum, now));
+        }
+        return ids.size();
+    }
+
+    /**
+     * Whether a failed fold lost a race with another compactor (the deltas were already
+     * folded, or the rows were locked or changed underneath it) rather than hit a real error
+     */
+    static boolean isCompactionConflict(RuntimeException ex) {
+        return ex instanceof ConcurrentCompactionException
+                || ex instanceof ConcurrencyFailureException
+                || ex instanceof OptimisticLockException
+                || ex instanceof PessimisticLockException
+                || ex instanceof LockTimeoutException;
+    }
+
+    private long readBalance(StockCounterKey key) {
+        Number balance = readOnlyTransaction.execute(status -> (Number) entityManager.createNativeQuery(BALANCE_SQL)
+                .setParameter(1, key.tenantId())
+                .setParameter(2, key.skuId())
+                .setParameter(3, key.warehouseId())
+                .getSingleResult());
+        return balance != null ? balance.longValue() : 0;
+    }
+
+    /**
+     * A concurrent compactor deleted some of the deltas this fold read
+     */
+    static class ConcurrentCompactionException extends IllegalStateException {
+
+        ConcurrentCompactionException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+
+import java.util.UUID;
+
+/**
+ * Identity of a stock counter: one balance per tenant, SKU and warehouse.
+ */
+public record StockCounterKey(UUID tenantId, UUID skuId, UUID warehouseId) {
+
+    /**
+     * Key of the current tenant
+     */
+    public static StockCounterKey of(UUID skuId, UUID warehouseId) {
+        return new StockCounterKey(TenantContext.getTenantId(), skuId, warehouseId);
+    }
+}
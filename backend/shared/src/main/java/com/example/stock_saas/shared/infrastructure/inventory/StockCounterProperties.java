@@ -0,0 +1,23 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Delta-row stock counters (prefix: app.inventory.counters).
+ *
+ * @param enabled              register {@link StockCounterEngine}
+ * @param refreshAfterMs       age after which a cached balance is re-read from the database,
+ *                             which picks up writes of other nodes; 0 never re-reads (single node)
+ * @param compactionIntervalMs pause between compaction rounds
+ * @param compactionBatchSize  counters compacted per round at most
+ * @param maxDeltasPerFold     delta rows folded into a balance per transaction at most
+ */
+@ConfigurationProperties(prefix = "app.inventory.counters")
+public record StockCounterProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000") long refreshAfterMs,
+        @DefaultValue("5000") long compactionIntervalMs,
+        @DefaultValue("500") int compactionBatchSize,
+        @DefaultValue("1000") int maxDeltasPerFold) {
+}
@@ -0,0 +1,53 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Signed quantity change of a stock counter, appended by {@link StockCounterEngine}.
+ * Not a BaseEntity: rows are insert-only until compaction folds them into the
+ * {@link StockBalance}, so concurrent writers never contend on a version column.
+ */
+@Getter
+@Entity
+@Table(name = "stock_deltas", indexes = {
+        @Index(name = "idx_stock_deltas_key", columnList = "tenant_id, sku_id, warehouse_id, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private UUID tenantId;
+
+    @Column(name = "sku_id", nullable = false, updatable = false)
+    private UUID skuId;
+
+    @Column(name = "warehouse_id", nullable = false, updatable = false)
+    private UUID warehouseId;
+
+    @Column(name = "quantity", nullable = false, updatable = false)
+    private long quantity;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    static StockDelta of(StockCounterKey key, long quantity) {
+        StockDelta delta = new StockDelta();
+        delta.tenantId = key.tenantId();
+        delta.skuId = key.skuId();
+        delta.warehouseId = key.warehouseId();
+        delta.quantity = quantity;
+        delta.createdAt = Instant.now();
+        return delta;
+    }
+}
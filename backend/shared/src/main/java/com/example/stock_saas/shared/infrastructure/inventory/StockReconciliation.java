@@ -0,0 +1,20 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of {@link StockCounterEngine#reconcile()}: cached balances of a tenant that did not
+ * match the database (base row plus pending deltas). Mismatched counters have been evicted.
+ *
+ * @param checked counters compared
+ */
+public record StockReconciliation(UUID tenantId, int checked, List<Mismatch> mismatches) {
+
+    public boolean isConsistent() {
+        return mismatches.isEmpty();
+    }
+
+    public record Mismatch(UUID skuId, UUID warehouseId, long cached, long actual) {
+    }
+}
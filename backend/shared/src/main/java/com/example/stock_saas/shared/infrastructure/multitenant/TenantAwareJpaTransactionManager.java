@@ -0,0 +1,35 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA transaction manager that enables the tenant filter when a transaction begins.
+ * Joined transactions reuse the outer session, so the filter is activated once per
+ * session and tenant rather than on every repository call.
+ */
+public class TenantAwareJpaTransactionManager extends JpaTransactionManager {
+
+    private final transient TenantFilterEnabler tenantFilterEnabler;
+
+    public TenantAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory,
+                                            TenantFilterEnabler tenantFilterEnabler) {
+        super(entityManagerFactory);
+        this.tenantFilterEnabler = tenantFilterEnabler;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+
+        EntityManagerHolder holder =
+                (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        if (holder != null) {
+            tenantFilterEnabler.activateForSession(holder.getEntityManager().unwrap(Session.class));
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Grants database connections to tenants with per-tenant quotas and weighted-fair queuing.
+ *
+ * - A tenant never holds more connections than its tier's maxConnections
+ * - When connections are contended, the next free one goes to the waiting tenant with the
+ *   lowest (active + 1) / weight, so a tenant running heavy reports cannot starve the others
+ * - Within a tenant, waiters are served first-come first-served
+ *
+ * Tenant ID null stands for work outside any tenant context (platform jobs) and uses the default tier.
+ * Tenants holding no connection and idle for longer than idleEvictionMs are forgotten (with their
+ * stats), so the bookkeeping does not grow with every tenant ever served.
+ * Uses a ReentrantLock (not synchronized) so waiting virtual threads do not pin their carriers.
+ */
+public class TenantConnectionScheduler {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int capacity;
+    private final Map<String, TenantPoolProperties.Tier> tiers;
+    private final String defaultTier;
+    private final long idleEvictionNanos;
+    private final Map<UUID, String> tierAssignments = new ConcurrentHashMap<>();
+
+    // Guarded by lock
+    private final Map<UUID, TenantState> tenants = new HashMap<>();
+    private final Set<TenantState> waitingTenants = new LinkedHashSet<>();
+    private int available;
+    private long lastEvictionNanos = System.nanoTime();
+
+    public TenantConnectionScheduler(int capacity, Map<String, TenantPoolProperties.Tier> tiers, String defaultTier,
+                                     long idleEvictionMs) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.available = capacity;
+        this.tiers = Map.copyOf(tiers);
+        this.defaultTier = defaultTier;
+        this.idleEvictionNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictionMs);
+    }
+
+    /**
+     * Assign a tenant to a subscription tier (e.g. after a subscription change)
+     */
+    public void assignTier(UUID tenantId, String tier) {
+        if (!tiers.containsKey(tier)) {
+            throw new IllegalArgumentException("Unknown connection tier: " + tier);
+        }
+        tierAssignments.put(tenantId, tier);
+        lock.lock();
+        try {
+            TenantState state = tenants.get(tenantId);
+            if (state != null) {
+                state.tier = resolveTier(tenantId);
+                dispatch();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait for the tenant's turn to use a connection
+     *
+     * @return false if the timeout elapsed first
+     */
+    public boolean acquire(UUID tenantId, long timeout, TimeUnit unit) throws InterruptedException {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            if (start - lastEvictionNanos >= idleEvictionNanos) {
+                evictIdle(start);
+            }
+            TenantState state = tenants.computeIfAbsent(tenantId, id -> new TenantState(id, resolveTier(id)));
+            if (available > 0 && state.waiters.isEmpty() && state.active < state.tier.maxConnections()) {
+                grant(state);
+                return true;
+            }
+
+            Waiter waiter = new Waiter(lock.newCondition());
+            state.waiters.addLast(waiter);
+            waitingTenants.add(state);
+            long remaining = unit.toNanos(timeout);
+            try {
+                while (!waiter.granted) {
+                    if (remaining <= 0) {
+                        removeWaiter(state, waiter);
+                        state.timeouts++;
+                        return false;
+                    }
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException ex) {
+                if (waiter.granted) {
+                    releaseLocked(state);
+                } else {
+                    removeWaiter(state, waiter);
+                }
+                throw ex;
+            }
+
+            long waited = System.nanoTime() - start;
+            state.totalWaitNanos += waited;
+            state.maxWaitNanos = Math.max(state.maxWaitNanos, waited);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return a connection previously granted to the tenant
+     */
+    public void release(UUID tenantId) {
+        lock.lock();
+        try {
+            TenantState state = tenants.get(tenantId);
+            if (state == null || state.active == 0) {
+                throw new IllegalStateException("No connection held by tenant " + tenantId);
+            }
+            releaseLocked(state);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Per-tenant pool usage
+     */
+    public List<TenantPoolStats> getStats() {
+        lock.lock();
+        try {
+            List<TenantPoolStats> stats = new ArrayList<>(tenants.size());
+            for (TenantState state : tenants.values()) {
+                stats.add(new TenantPoolStats(state.tenantId, tierName(state.tenantId), state.active,
+                        state.waiters.size(), state.acquired, state.timeouts,
+                        TimeUnit.NANOSECONDS.toMillis(state.totalWaitNanos),
+                        TimeUnit.NANOSECONDS.toMillis(state.maxWaitNanos)));
+            }
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Forget tenants that hold no connection, have no waiter and were last used before
+     * the idle eviction delay. Runs at most once per delay, from acquire().
+     */
+    private void evictIdle(long now) {
+        lastEvictionNanos = now;
+        tenants.values().removeIf(state -> state.active == 0 && state.waiters.isEmpty()
+                && now - state.lastUsedNanos >= idleEvictionNanos);
+    }
+
+    private void grant(TenantState state) {
+        state.active++;
+        state.acquired++;
+        state.lastUsedNanos = System.nanoTime();
+        available--;
+    }
+
+    private void releaseLocked(TenantState state) {
+        state.active--;
+        state.lastUsedNanos = System.nanoTime();
+        available++;
+        dispatch();
+    }
+
+    /**
+     * Hand free connections to waiting tenants, lowest weighted share first
+     */
+    private void dispatch() {
+        while (available > 0 && !waitingTenants.isEmpty()) {
+            TenantState next = null;
+            double lowestShare = Double.MAX_VALUE;
+            for (TenantState state : waitingTenants) {
+                if (state.active >= state.tier.maxConnections()) {
+                    continue;
+                }
+                double share = (state.active + 1.0) / state.tier.weight();
+                if (share < lowestShare) {
+                    lowestShare = share;
+                    next = state;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+
+            Waiter waiter = next.waiters.pollFirst();
+            if (next.waiters.isEmpty()) {
+                waitingTenants.remove(next);
+            }
+            grant(next);
+            waiter.granted = true;
+            waiter.condition.signal();
+        }
+    }
+
+    private void removeWaiter(TenantState state, Waiter waiter) {
+        state.waiters.remove(waiter);
+        if (state.waiters.isEmpty()) {
+            waitingTenants.remove(state);
+        }
+    }
+
+    private String tierName(UUID tenantId) {
+        return tenantId != null ? tierAssignments.getOrDefault(tenantId, defaultTier) : defaultTier;
+    }
+
+    private TenantPoolProperties.Tier resolveTier(UUID tenantId) {
+        TenantPoolProperties.Tier tier = tiers.get(tierName(tenantId));
+        if (tier == null) {
+            // No explicit default tier configured: fair share of the pool
+            return new TenantPoolProperties.Tier(Math.max(1, capacity / 2), 1);
+        }
+        return tier;
+    }
+
+    /**
+     * Snapshot of a tenant's connection usage
+     */
+    public record TenantPoolStats(UUID tenantId, String tier, int activeConnections, int waiting,
+                                  long acquired, long timeouts, long totalWaitMillis, long maxWaitMillis) {
+    }
+
+    private static final class TenantState {
+        private final UUID tenantId;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private TenantPoolProperties.Tier tier;
+        private int active;
+        private long acquired;
+        private long timeouts;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+        private long lastUsedNanos = System.nanoTime();
+
+        private TenantState(UUID tenantId, TenantPoolProperties.Tier tier) {
+            this.tenantId = tenantId;
+            this.tier = tier;
+        }
+    }
+
+    private static final class Waiter {
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.stock_saas.shared.domain.exception.TenantMismatchException;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
 /**
  * Thread-local storage for current tenant context.
@@ -13,6 +14,9 @@ import java.util.UUID;
  * 1. Set tenant context from JWT after authentication
  * 2. All database queries automatically filtered by tenant_id
  * 3. Clear context after request completion
+ *
+ * Work handed to other threads must be wrapped ({@link #wrap(Runnable)} or
+ * {@link TenantContextTaskDecorator}) to carry the tenant along.
  */
 @Slf4j
 public class TenantContext {
@@ -72,19 +76,68 @@ public class TenantContext {
     }
 
     /**
-     * Execute a block with a specific tenant context
+     * Execute a block with a specific tenant context.
+     * The previous context (if any) is restored afterwards; nested calls for the
+     * tenant already in context run the action directly.
      */
     public static <T> T executeInTenantContext(UUID tenantId, TenantAction<T> action) {
-        UUID previousTenant = getTenantIdOrNull();
+        if (tenantId == null) {
+            throw new IllegalArgumentException("Tenant ID cannot be null");
+        }
+        if (tenantId.equals(CURRENT_TENANT.get())) {
+            return action.execute();
+        }
+        UUID previousTenant = swap(tenantId);
         try {
-            setTenantId(tenantId);
             return action.execute();
         } finally {
-            clear();
-            if (previousTenant != null) {
-                setTenantId(previousTenant);
+            swap(previousTenant);
+        }
+    }
+
+    /**
+     * Capture the caller's tenant context and apply it when the task runs on another thread
+     * (executors, @Async, CompletableFuture, virtual threads).
+     * Parallel streams run on the common pool and are not covered; wrap their work explicitly.
+     */
+    public static Runnable wrap(Runnable task) {
+        UUID tenantId = getTenantIdOrNull();
+        return () -> {
+            UUID previousTenant = swap(tenantId);
+            try {
+                task.run();
+            } finally {
+                swap(previousTenant);
             }
+        };
+    }
+
+    /**
+     * Capture the caller's tenant context for a Callable
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        UUID tenantId = getTenantIdOrNull();
+        return () -> {
+            UUID previousTenant = swap(tenantId);
+            try {
+                return task.call();
+            } finally {
+                swap(previousTenant);
+            }
+        };
+    }
+
+    /**
+     * Install the given tenant (or no tenant when null) and return the one it replaced
+     */
+    private static UUID swap(UUID tenantId) {
+        UUID previousTenant = CURRENT_TENANT.get();
+        if (tenantId != null) {
+            CURRENT_TENANT.set(tenantId);
+        } else {
+            CURRENT_TENANT.remove();
         }
+        return previousTenant;
     }
 
     @FunctionalInterface
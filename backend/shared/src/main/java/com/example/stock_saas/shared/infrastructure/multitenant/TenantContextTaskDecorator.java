@@ -0,0 +1,31 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Propagates the tenant context and the Spring Security context to asynchronous tasks.
+ * Picked up automatically by Spring Boot's task executors (@Async, virtual-thread executors);
+ * use {@link #decorate(Executor)} for executors created by hand (e.g. CompletableFuture).
+ */
+@Component
+public class TenantContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return new DelegatingSecurityContextRunnable(
+                TenantContext.wrap(runnable),
+                SecurityContextHolder.getContext());
+    }
+
+    /**
+     * Wrap an executor so every submitted task runs in the submitter's tenant and security context
+     */
+    public Executor decorate(Executor executor) {
+        return task -> executor.execute(decorate(task));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-entity-class position of the tenantId property in Hibernate's state arrays.
+ * Resolved once from the Hibernate metamodel at startup so {@link TenantInterceptor}
+ * can stamp the tenant with a direct array write instead of scanning property names.
+ * Classes not seen at startup are resolved on first use.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TenantEntityMetadata implements SmartInitializingSingleton {
+
+    public static final int NOT_MAPPED = -1;
+
+    private static final String TENANT_ID_PROPERTY = "tenantId";
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final Map<Class<?>, Integer> tenantIdIndexes = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return;
+        }
+        factory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    Class<?> type = persister.getMappedClass();
+                    if (BaseEntity.class.isAssignableFrom(type)) {
+                        tenantIdIndexes.put(type, indexOf(persister.getPropertyNames()));
+                    }
+                });
+        log.debug("Resolved tenantId state index for {} entity types", tenantIdIndexes.size());
+    }
+
+    /**
+     * Index of tenantId in the entity's state array, or {@link #NOT_MAPPED}
+     */
+    public int tenantIdIndex(Class<?> type, String[] propertyNames) {
+        Integer index = tenantIdIndexes.get(type);
+        if (index == null) {
+            index = indexOf(propertyNames);
+            tenantIdIndexes.put(type, index);
+        }
+        return index;
+    }
+
+    private static int indexOf(String[] propertyNames) {
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (TENANT_ID_PROPERTY.equals(propertyNames[i])) {
+                return i;
+            }
+        }
+        return NOT_MAPPED;
+    }
+}
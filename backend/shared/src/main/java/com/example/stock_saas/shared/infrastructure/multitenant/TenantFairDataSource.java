@@ -0,0 +1,110 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource that makes each tenant wait for its turn in the {@link TenantConnectionScheduler}
+ * before borrowing a pooled connection. The turn is given back when the connection is closed.
+ * Tenant is taken from {@link TenantContext} at the time the connection is requested.
+ */
+public class TenantFairDataSource extends DelegatingDataSource {
+
+    private final TenantConnectionScheduler scheduler;
+    private final long acquireTimeoutMs;
+
+    public TenantFairDataSource(DataSource targetDataSource, TenantConnectionScheduler scheduler, long acquireTimeoutMs) {
+        super(targetDataSource);
+        this.scheduler = scheduler;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public TenantConnectionScheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        UUID tenantId = acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(), tenantId);
+        } catch (SQLException | RuntimeException ex) {
+            scheduler.release(tenantId);
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        UUID tenantId = acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password), tenantId);
+        } catch (SQLException | RuntimeException ex) {
+            scheduler.release(tenantId);
+            throw ex;
+        }
+    }
+
+    private UUID acquire() throws SQLException {
+        UUID tenantId = TenantContext.getTenantIdOrNull();
+        try {
+            if (!scheduler.acquire(tenantId, acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Tenant " + tenantId + " connection request timed out after " + acquireTimeoutMs + "ms");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", ex);
+        }
+        return tenantId;
+    }
+
+    /**
+     * Proxy releasing the tenant's turn exactly once when the connection is closed
+     */
+    private Connection guard(Connection target, UUID tenantId) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            if (released.compareAndSet(false, true)) {
+                                try {
+                                    target.close();
+                                } finally {
+                                    scheduler.release(tenantId);
+                                }
+                            }
+                            return null;
+                        }
+                        case "isClosed" -> {
+                            if (released.get()) {
+                                return true;
+                            }
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        default -> {
+                        }
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+}
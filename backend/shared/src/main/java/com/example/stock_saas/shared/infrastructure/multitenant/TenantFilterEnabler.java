@@ -3,22 +3,43 @@ package com.example.stock_saas.shared.infrastructure.multitenant;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.Filter;
 import org.hibernate.Session;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Utility to enable Hibernate tenant filter on all queries.
  * This ensures automatic filtering by tenant_id at the database level.
+ *
+ * The filter is activated automatically at transaction begin by
+ * {@link TenantAwareJpaTransactionManager}; activation is skipped when the session
+ * already filters on the current tenant.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TenantFilterEnabler {
 
+    public static final String TENANT_FILTER = "tenantFilter";
+    public static final String TENANT_ID_PARAMETER = "tenantId";
+
+    /**
+     * Request attribute holding the number of filter activations for the current request
+     */
+    public static final String REQUEST_ACTIVATIONS_ATTRIBUTE = TenantFilterEnabler.class.getName() + ".activations";
+
+    /**
+     * Session property remembering which tenant the filter was enabled for
+     */
+    private static final String ACTIVE_TENANT_PROPERTY = TenantFilterEnabler.class.getName() + ".tenant";
+
     private final EntityManager entityManager;
+    private final LongAdder activations = new LongAdder();
+    private final LongAdder skippedActivations = new LongAdder();
 
     /**
      * Enable the tenant filter for the current session
@@ -28,13 +49,34 @@ public class TenantFilterEnabler {
             log.warn("Tenant filter requested but no tenant context set");
             return;
         }
+        activateForSession(entityManager.unwrap(Session.class));
+    }
+
+    /**
+     * Enable the tenant filter on a session for the current tenant, unless it is already
+     * enabled for that tenant. Does nothing without a tenant context.
+     *
+     * @return true if the filter was (re)activated
+     */
+    public boolean activateForSession(Session session) {
+        UUID tenantId = TenantContext.getTenantIdOrNull();
+        if (tenantId == null) {
+            return false;
+        }
 
-        UUID tenantId = TenantContext.getTenantId();
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("tenantFilter");
-        filter.setParameter("tenantId", tenantId);
+        if (tenantId.equals(session.getProperties().get(ACTIVE_TENANT_PROPERTY))
+                && session.getEnabledFilter(TENANT_FILTER) != null) {
+            skippedActivations.increment();
+            return false;
+        }
+
+        session.enableFilter(TENANT_FILTER).setParameter(TENANT_ID_PARAMETER, tenantId);
+        session.setProperty(ACTIVE_TENANT_PROPERTY, tenantId);
+        activations.increment();
+        countActivationForRequest();
 
         log.debug("Enabled tenant filter for tenant: {}", tenantId);
+        return true;
     }
 
     /**
@@ -42,7 +84,7 @@ public class TenantFilterEnabler {
      */
     public void disableTenantFilter() {
         Session session = entityManager.unwrap(Session.class);
-        session.disableFilter("tenantFilter");
+        session.disableFilter(TENANT_FILTER);
         log.warn("Tenant filter disabled - this should only be used in specific admin operations");
     }
 
@@ -51,7 +93,40 @@ public class TenantFilterEnabler {
      */
     public boolean isTenantFilterEnabled() {
         Session session = entityManager.unwrap(Session.class);
-        return session.getEnabledFilter("tenantFilter") != null;
+        return session.getEnabledFilter(TENANT_FILTER) != null;
     }
-}
 
+    /**
+     * Filter activations since startup
+     */
+    public long getActivationCount() {
+        return activations.sum();
+    }
+
+    /**
+     * Activations skipped because the session already filtered on the current tenant
+     */
+    public long getSkippedActivationCount() {
+        return skippedActivations.sum();
+    }
+
+    /**
+     * Filter activations performed during the current request (0 outside a request)
+     */
+    public static int getRequestActivationCount() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return 0;
+        }
+        Object count = attributes.getAttribute(REQUEST_ACTIVATIONS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return count instanceof Integer value ? value : 0;
+    }
+
+    private void countActivationForRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ACTIVATIONS_ATTRIBUTE, getRequestActivationCount() + 1,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+import java.util.UUID;
+
+/**
+ * Resolves the Hibernate tenant identifier from {@link TenantContext}.
+ * Sessions opened without a tenant context use the shared storage.
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    public static final String SHARED_TENANT_IDENTIFIER = "shared";
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        UUID tenantId = TenantContext.getTenantIdOrNull();
+        return tenantId != null ? tenantId.toString() : SHARED_TENANT_IDENTIFIER;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+
+    @Override
+    public boolean isRoot(String tenantIdentifier) {
+        return SHARED_TENANT_IDENTIFIER.equals(tenantIdentifier);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.stock_saas.shared.infrastructure.multitenant;
 
 import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.CallbackException;
 import org.hibernate.Interceptor;
@@ -15,8 +16,11 @@ import java.util.UUID;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class TenantInterceptor implements Interceptor {
 
+    private final TenantEntityMetadata tenantEntityMetadata;
+
     @Override
     public boolean onSave(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types)
             throws CallbackException {
@@ -29,16 +33,15 @@ public class TenantInterceptor implements Interceptor {
                 baseEntity.setTenantId(tenantId);
 
                 // Update state array for Hibernate
-                for (int i = 0; i < propertyNames.length; i++) {
-                    if ("tenantId".equals(propertyNames[i])) {
-                        state[i] = tenantId;
-                        log.debug("Auto-set tenant_id={} for {}", tenantId, entity.getClass().getSimpleName());
-                        return true;
-                    }
+                int index = tenantEntityMetadata.tenantIdIndex(entity.getClass(), propertyNames);
+                if (index != TenantEntityMetadata.NOT_MAPPED) {
+                    state[index] = tenantId;
+                    log.debug("Auto-set tenant_id={} for {}", tenantId, entity.getClass().getSimpleName());
+                    return true;
                 }
             } else {
                 // Validate tenant ID matches context (security check)
-                if (!baseEntity.getTenantId().equals(tenantId)) {
+                if (!tenantId.equals(baseEntity.getTenantId())) {
                     throw new CallbackException(
                             String.format("Tenant mismatch: entity has %s but context has %s",
                                     baseEntity.getTenantId(), tenantId)
@@ -59,7 +62,7 @@ public class TenantInterceptor implements Interceptor {
             UUID tenantId = TenantContext.getTenantId();
 
             // Always validate tenant ID on updates
-            if (!baseEntity.getTenantId().equals(tenantId)) {
+            if (!tenantId.equals(baseEntity.getTenantId())) {
                 throw new CallbackException(
                         String.format("Cannot update entity from different tenant: entity=%s, context=%s",
                                 baseEntity.getTenantId(), tenantId)
@@ -78,7 +81,7 @@ public class TenantInterceptor implements Interceptor {
             UUID tenantId = TenantContext.getTenantId();
 
             // Validate tenant ID on deletes
-            if (!baseEntity.getTenantId().equals(tenantId)) {
+            if (!tenantId.equals(baseEntity.getTenantId())) {
                 throw new CallbackException(
                         String.format("Cannot delete entity from different tenant: entity=%s, context=%s",
                                 baseEntity.getTenantId(), tenantId)
@@ -0,0 +1,22 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+/**
+ * How a tenant's data is isolated from other tenants.
+ */
+public enum TenantIsolationStrategy {
+
+    /**
+     * Shared tables, rows separated by tenant_id (Hibernate tenantFilter)
+     */
+    DISCRIMINATOR,
+
+    /**
+     * Dedicated schema in the shared database
+     */
+    SCHEMA,
+
+    /**
+     * Dedicated database
+     */
+    DATABASE
+}
@@ -0,0 +1,50 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Partitions the connection pool between tenants (app.multitenancy.pool.enabled=true).
+ * Wraps the application DataSource (bean app.multitenancy.pool.data-source-bean, "dataSource"
+ * by default) so one tenant's bulk job cannot hold every connection. Other DataSources, e.g.
+ * a dedicated reporting or tenant database pool, keep their own limits.
+ */
+@Configuration
+@EnableConfigurationProperties(TenantPoolProperties.class)
+@ConditionalOnProperty(prefix = "app.multitenancy.pool", name = "enabled", havingValue = "true")
+public class TenantPoolConfig {
+
+    @Bean
+    public TenantConnectionScheduler tenantConnectionScheduler(TenantPoolProperties properties) {
+        TenantConnectionScheduler scheduler = new TenantConnectionScheduler(
+                properties.capacity(), properties.tiers(), properties.defaultTier(), properties.idleEvictionMs());
+        for (Map.Entry<UUID, String> entry : properties.tenants().entrySet()) {
+            scheduler.assignTier(entry.getKey(), entry.getValue());
+        }
+        return scheduler;
+    }
+
+    @Bean
+    public static BeanPostProcessor tenantFairDataSourcePostProcessor(ObjectProvider<TenantConnectionScheduler> scheduler,
+                                                                      ObjectProvider<TenantPoolProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TenantFairDataSource)
+                        && beanName.equals(properties.getObject().dataSourceBean())) {
+                    return new TenantFairDataSource(dataSource, scheduler.getObject(),
+                            properties.getObject().acquireTimeoutMs());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-tenant connection quotas (prefix: app.multitenancy.pool).
+ *
+ * Example:
+ * app.multitenancy.pool.enabled=true
+ * app.multitenancy.pool.capacity=10
+ * app.multitenancy.pool.tiers.standard.max-connections=3
+ * app.multitenancy.pool.tiers.premium.max-connections=6
+ * app.multitenancy.pool.tiers.premium.weight=3
+ * app.multitenancy.pool.tenants.[uuid]=premium
+ *
+ * @param enabled          wrap the application DataSource with {@link TenantFairDataSource}
+ * @param dataSourceBean   name of the DataSource bean to wrap; other DataSources are left alone
+ * @param capacity         connections shared by all tenants; keep in line with the JDBC pool size
+ * @param acquireTimeoutMs maximum time a tenant waits for its turn
+ * @param idleEvictionMs   forget a tenant's queue state and stats after this long without connections
+ * @param defaultTier      tier of tenants without an explicit assignment
+ * @param tiers            tiers by name
+ * @param tenants          tier assignments by tenant ID
+ */
+@ConfigurationProperties(prefix = "app.multitenancy.pool")
+public record TenantPoolProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("dataSource") String dataSourceBean,
+        @DefaultValue("10") int capacity,
+        @DefaultValue("5000") long acquireTimeoutMs,
+        @DefaultValue("600000") long idleEvictionMs,
+        @DefaultValue("standard") String defaultTier,
+        @DefaultValue Map<String, Tier> tiers,
+        @DefaultValue Map<UUID, String> tenants) {
+
+    /**
+     * Quota of a subscription tier
+     *
+     * @param maxConnections concurrent connections a single tenant of this tier may hold
+     * @param weight         share of contended connections relative to other tiers
+     */
+    public record Tier(
+            @DefaultValue("3") int maxConnections,
+            @DefaultValue("1") int weight) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registers per-tenant storage routing with Hibernate (app.multitenancy.routing.enabled=true).
+ * Lets hot tenants move to a dedicated schema or database while the rest stay on the
+ * shared tables with the tenant_id discriminator.
+ */
+@Configuration
+@EnableConfigurationProperties(TenantRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.multitenancy.routing", name = "enabled", havingValue = "true")
+public class TenantRoutingConfig {
+
+    @Bean
+    public TenantRoutingConnectionProvider tenantRoutingConnectionProvider(DataSource dataSource,
+                                                                           TenantRoutingProperties properties) {
+        TenantRoutingConnectionProvider provider = new TenantRoutingConnectionProvider(dataSource);
+        for (Map.Entry<UUID, TenantRoutingProperties.TenantStorage> entry : properties.tenants().entrySet()) {
+            TenantRoutingProperties.TenantStorage storage = entry.getValue();
+            switch (storage.strategy()) {
+                case SCHEMA -> provider.routeToSchema(entry.getKey(), storage.schema());
+                case DATABASE -> provider.routeToDatabase(entry.getKey(), createDataSource(entry.getKey(), storage));
+                case DISCRIMINATOR -> {
+                    // Shared tables, nothing to route
+                }
+            }
+        }
+        return provider;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer tenantRoutingHibernateCustomizer(TenantRoutingConnectionProvider provider) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, provider);
+            hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new TenantIdentifierResolver());
+        };
+    }
+
+    private static DataSource createDataSource(UUID tenantId, TenantRoutingProperties.TenantStorage storage) {
+        if (storage.url() == null) {
+            throw new IllegalArgumentException("JDBC url is required for tenant " + tenantId);
+        }
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("tenant-" + tenantId);
+        config.setJdbcUrl(storage.url());
+        config.setUsername(storage.username());
+        config.setPassword(storage.password());
+        config.setMaximumPoolSize(storage.maximumPoolSize());
+        return new HikariDataSource(config);
+    }
+}
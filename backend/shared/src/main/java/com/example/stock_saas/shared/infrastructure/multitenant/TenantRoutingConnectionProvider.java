@@ -0,0 +1,136 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate connection provider routing each tenant to its storage:
+ * - DISCRIMINATOR (default): shared database, shared schema
+ * - SCHEMA: shared database, connection switched to the tenant's schema
+ * - DATABASE: the tenant's dedicated DataSource
+ */
+@Slf4j
+public class TenantRoutingConnectionProvider implements MultiTenantConnectionProvider<String>, Closeable {
+
+    private final DataSource sharedDataSource;
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private volatile String sharedSchema;
+
+    public TenantRoutingConnectionProvider(DataSource sharedDataSource) {
+        this.sharedDataSource = sharedDataSource;
+    }
+
+    /**
+     * Route a tenant to a dedicated schema of the shared database
+     */
+    public void routeToSchema(UUID tenantId, String schema) {
+        if (schema == null || schema.isBlank()) {
+            throw new IllegalArgumentException("Schema is required for tenant " + tenantId);
+        }
+        routes.put(tenantId.toString(), new Route(TenantIsolationStrategy.SCHEMA, schema, sharedDataSource));
+        log.info("Tenant {} routed to schema {}", tenantId, schema);
+    }
+
+    /**
+     * Route a tenant to a dedicated database
+     */
+    public void routeToDatabase(UUID tenantId, DataSource dataSource) {
+        routes.put(tenantId.toString(), new Route(TenantIsolationStrategy.DATABASE, null, dataSource));
+        log.info("Tenant {} routed to a dedicated database", tenantId);
+    }
+
+    /**
+     * Isolation strategy currently applied to a tenant
+     */
+    public TenantIsolationStrategy strategyFor(UUID tenantId) {
+        Route route = routes.get(tenantId.toString());
+        return route != null ? route.strategy() : TenantIsolationStrategy.DISCRIMINATOR;
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return sharedDataSource.getConnection();
+    }
+
+    @Override
+    public void releaseAnyConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public Connection getConnection(String tenantIdentifier) throws SQLException {
+        Route route = routes.get(tenantIdentifier);
+        if (route == null) {
+            return sharedDataSource.getConnection();
+        }
+
+        Connection connection = route.dataSource().getConnection();
+        if (route.strategy() == TenantIsolationStrategy.SCHEMA) {
+            if (sharedSchema == null) {
+                sharedSchema = connection.getSchema();
+            }
+            try {
+                connection.setSchema(route.schema());
+            } catch (SQLException ex) {
+                connection.close();
+                throw ex;
+            }
+        }
+        return connection;
+    }
+
+    @Override
+    public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+        Route route = routes.get(tenantIdentifier);
+        try {
+            // Pooled connections go back to the shared pool; don't leak the tenant schema
+            if (route != null && route.strategy() == TenantIsolationStrategy.SCHEMA && sharedSchema != null) {
+                connection.setSchema(sharedSchema);
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isInstance(this)) {
+            return unwrapType.cast(this);
+        }
+        throw new IllegalArgumentException("Cannot unwrap to " + unwrapType.getName());
+    }
+
+    /**
+     * Close dedicated tenant data sources
+     */
+    @Override
+    public void close() throws IOException {
+        for (Route route : routes.values()) {
+            if (route.strategy() == TenantIsolationStrategy.DATABASE && route.dataSource() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private record Route(TenantIsolationStrategy strategy, String schema, DataSource dataSource) {
+    }
+}
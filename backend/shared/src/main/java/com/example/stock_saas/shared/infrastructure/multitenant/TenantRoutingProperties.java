@@ -0,0 +1,41 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-tenant storage routing (prefix: app.multitenancy.routing).
+ * Tenants not listed use the shared database with the tenant_id discriminator.
+ *
+ * Example:
+ * app.multitenancy.routing.enabled=true
+ * app.multitenancy.routing.tenants.[uuid].strategy=SCHEMA
+ * app.multitenancy.routing.tenants.[uuid].schema=tenant_acme
+ */
+@ConfigurationProperties(prefix = "app.multitenancy.routing")
+public record TenantRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue Map<UUID, TenantStorage> tenants) {
+
+    /**
+     * Storage of one tenant
+     *
+     * @param strategy        isolation strategy
+     * @param schema          schema name (SCHEMA)
+     * @param url             JDBC URL (DATABASE)
+     * @param username        database user (DATABASE)
+     * @param password        database password (DATABASE)
+     * @param maximumPoolSize connection pool size of the dedicated database (DATABASE)
+     */
+    public record TenantStorage(
+            @DefaultValue("DISCRIMINATOR") TenantIsolationStrategy strategy,
+            String schema,
+            String url,
+            String username,
+            String password,
+            @DefaultValue("5") int maximumPoolSize) {
+    }
+}
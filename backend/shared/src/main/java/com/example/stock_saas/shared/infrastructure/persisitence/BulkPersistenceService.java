@@ -0,0 +1,155 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.domain.exception.TenantMismatchException;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Chunked bulk insert/update for any BaseEntity type (stock imports, inventory snapshots, ...).
+ *
+ * Inserts are persisted with JDBC batching, and the persistence context is flushed and
+ * cleared after every chunk so memory stays flat regardless of input size. Clearing
+ * detaches every entity of the current persistence context, including ones the caller
+ * loaded before the bulk call.
+ *
+ * Updates go through a stateless session sharing the transaction's connection: each chunk
+ * is one JDBC batch of UPDATE statements, without loading the rows first. Versions are
+ * still checked. The stateless session neither flushes dirty entities nor reads the state
+ * back after the auditing listener ran, so {@code TenantInterceptor.onFlushDirty} does not
+ * see these updates and updatedAt/updatedBy would keep their loaded values: the service
+ * checks the tenant ({@link #stampTenant}) and stamps the audit fields itself.
+ * Managed copies of the updated entities in the caller's persistence context are not refreshed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkPersistenceService {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final ObjectProvider<AuditingHandler> auditingHandler;
+
+    /**
+     * Insert new entities in chunks of {@link #DEFAULT_CHUNK_SIZE}
+     */
+    @Transactional
+    public <E extends BaseEntity> long insertAll(Stream<E> entities) {
+        return insertAll(entities, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Insert new entities in chunks
+     *
+     * @return number of inserted entities
+     */
+    @Transactional
+    public <E extends BaseEntity> long insertAll(Stream<E> entities, int chunkSize) {
+        requirePositive(chunkSize);
+        UUID tenantId = TenantContext.getTenantId();
+
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(chunkSize);
+
+        long count = 0;
+        try {
+            Iterator<E> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                E entity = iterator.next();
+                stampTenant(entity, tenantId);
+                entityManager.persist(entity);
+                if (++count % chunkSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+
+        log.debug("Bulk inserted {} entities in chunks of {}", count, chunkSize);
+        return count;
+    }
+
+    /**
+     * Update detached entities in chunks of {@link #DEFAULT_CHUNK_SIZE}
+     */
+    @Transactional
+    public <E extends BaseEntity> long updateAll(Stream<E> entities) {
+        return updateAll(entities, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Update detached entities in chunks (optimistic locking still applies)
+     *
+     * @return number of updated entities
+     */
+    @Transactional
+    public <E extends BaseEntity> long updateAll(Stream<E> entities, int chunkSize) {
+        requirePositive(chunkSize);
+        UUID tenantId = TenantContext.getTenantId();
+
+        Session session = entityManager.unwrap(Session.class);
+        // Pending changes of the caller are written first, the stateless session bypasses them
+        session.flush();
+
+        AuditingHandler auditing = auditingHandler.getIfAvailable();
+        long count = 0;
+        try (StatelessSession stateless = session.statelessWithOptions().connection().interceptor().open()) {
+            List<E> chunk = new ArrayList<>(chunkSize);
+            Iterator<E> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                E entity = iterator.next();
+                stampTenant(entity, tenantId);
+                if (auditing != null) {
+                    auditing.markModified(entity);
+                }
+                chunk.add(entity);
+                if (chunk.size() == chunkSize) {
+                    stateless.updateMultiple(chunk);
+                    count += chunk.size();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                stateless.updateMultiple(chunk);
+                count += chunk.size();
+            }
+        }
+
+        log.debug("Bulk updated {} entities in chunks of {}", count, chunkSize);
+        return count;
+    }
+
+    private static void requirePositive(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+    }
+
+    private void stampTenant(BaseEntity entity, UUID tenantId) {
+        if (entity.getTenantId() == null) {
+            entity.setTenantId(tenantId);
+        } else if (!entity.getTenantId().equals(tenantId)) {
+            throw new TenantMismatchException(tenantId, entity.getTenantId());
+        }
+    }
+}
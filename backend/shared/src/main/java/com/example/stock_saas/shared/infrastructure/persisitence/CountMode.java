@@ -0,0 +1,22 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+/**
+ * How {@link KeysetPaginationSupport} computes the total of a keyset page.
+ */
+public enum CountMode {
+
+    /**
+     * No total; the cheapest option for infinite scrolling
+     */
+    NONE,
+
+    /**
+     * Exact COUNT(*) over the filtered rows, only on the first page
+     */
+    EXACT,
+
+    /**
+     * Count capped at {@link PaginationProperties#estimateLimit()}, only on the first page
+     */
+    ESTIMATED
+}
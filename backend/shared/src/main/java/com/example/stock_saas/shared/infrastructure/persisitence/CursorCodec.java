@@ -0,0 +1,113 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.exception.InvalidCursorException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes keyset cursors as opaque, tamper-proof tokens.
+ *
+ * Layout before base64url: format version (1 byte), created_at in epoch micros (8),
+ * id (16) and a truncated HMAC-SHA256 (16). The MAC also covers the tenant id,
+ * so a cursor is only accepted by the tenant it was issued to.
+ */
+@Slf4j
+public class CursorCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int PAYLOAD_LENGTH = 1 + Long.BYTES + 2 * Long.BYTES;
+    private static final int MAC_LENGTH = 16;
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+
+    public CursorCodec(String secret) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            log.warn("No app.pagination.cursor-secret configured, cursors are only valid on this node until restart");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String encode(UUID tenantId, KeysetCursor cursor) {
+        ByteBuffer buffer = ByteBuffer.allocate(PAYLOAD_LENGTH + MAC_LENGTH);
+        buffer.put(FORMAT_VERSION)
+                .putLong(toMicros(cursor.createdAt()))
+                .putLong(cursor.id().getMostSignificantBits())
+                .putLong(cursor.id().getLeastSignificantBits());
+        buffer.put(sign(tenantId, buffer.array()), 0, MAC_LENGTH);
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws InvalidCursorException if the token is malformed, was altered or belongs to another tenant
+     */
+    public KeysetCursor decode(UUID tenantId, String token) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+        if (bytes.length != PAYLOAD_LENGTH + MAC_LENGTH || bytes[0] != FORMAT_VERSION) {
+            throw new InvalidCursorException();
+        }
+
+        byte[] expected = Arrays.copyOf(sign(tenantId, bytes), MAC_LENGTH);
+        byte[] actual = Arrays.copyOfRange(bytes, PAYLOAD_LENGTH, bytes.length);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new InvalidCursorException();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, PAYLOAD_LENGTH - 1);
+        long micros = buffer.getLong();
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        return new KeysetCursor(
+                Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L),
+                id);
+    }
+
+    private byte[] sign(UUID tenantId, byte[] message) {
+        Mac mac = macs.get();
+        mac.update(ByteBuffer.allocate(2 * Long.BYTES)
+                .putLong(tenantId.getMostSignificantBits())
+                .putLong(tenantId.getLeastSignificantBits())
+                .array());
+        mac.update(message, 0, PAYLOAD_LENGTH);
+        return mac.doFinal();
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise " + ALGORITHM, e);
+        }
+    }
+
+    private static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Constant-memory read of every (non-deleted) entity of the current tenant, oldest first.
+ *
+ * Rows are pulled from a JDBC cursor in fetch-size chunks and the persistence context is
+ * cleared after every chunk, so exports of millions of rows never hold more than one
+ * chunk of managed entities. The consumer must not keep references to the entities.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityStreamer {
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Stream with {@link #DEFAULT_FETCH_SIZE}
+     */
+    @Transactional(readOnly = true)
+    public <E extends BaseEntity> long forEach(Class<E> type, Specification<E> specification,
+                                               EntityConsumer<? super E> consumer) throws IOException {
+        return forEach(type, specification, DEFAULT_FETCH_SIZE, consumer);
+    }
+
+    /**
+     * Stream the entities matching the specification (may be null) to the consumer
+     *
+     * @return number of consumed entities
+     */
+    @Transactional(readOnly = true)
+    public <E extends BaseEntity> long forEach(Class<E> type, Specification<E> specification, int fetchSize,
+                                               EntityConsumer<? super E> consumer) throws IOException {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size must be positive: " + fetchSize);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(type);
+        Root<E> root = query.from(type);
+
+        List<Predicate> predicates = new ArrayList<>(3);
+        predicates.add(cb.equal(root.get("tenantId"), TenantContext.getTenantId()));
+        predicates.add(cb.isFalse(root.get("deleted")));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+
+        long count = 0;
+        try (Stream<E> entities = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<E> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++count % fetchSize == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        log.debug("Streamed {} {} entities", count, type.getSimpleName());
+        return count;
+    }
+
+    @FunctionalInterface
+    public interface EntityConsumer<E> {
+        void accept(E entity) throws IOException;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Version-only projections used to answer conditional requests without loading entities.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityVersionQuery {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Optimistic-lock version of a non-deleted entity of the current tenant
+     */
+    @Transactional(readOnly = true)
+    public <E extends BaseEntity> Optional<Long> findVersion(Class<E> type, UUID id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(type);
+        query.select(root.get("version"))
+                .where(
+                        cb.equal(root.get("id"), id),
+                        cb.equal(root.get("tenantId"), TenantContext.getTenantId()),
+                        cb.isFalse(root.get("deleted")));
+
+        List<Long> versions = entityManager.createQuery(query)
+                .setMaxResults(1)
+                .getResultList();
+        return versions.isEmpty() ? Optional.empty() : Optional.ofNullable(versions.get(0));
+    }
+
+    /**
+     * Aggregate version of all rows of the type for the current tenant.
+     * Any update (including a soft delete) changes the version sum and last update, a hard
+     * delete the count. An insert changes the count and, with time-ordered ids, the highest id,
+     * so a hard delete and an insert between two reads still change the version even when
+     * both happen within the timestamp resolution. The id is compared as text because
+     * PostgreSQL has no max() for uuid; UUIDv7 text sorts in creation order as well.
+     */
+    @Transactional(readOnly = true)
+    public <E extends BaseEntity> CollectionVersion collectionVersion(Class<E> type) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(type);
+        query.select(cb.tuple(
+                        cb.count(root),
+                        cb.sum(root.<Long>get("version")),
+                        cb.greatest(root.<Instant>get("updatedAt")),
+                        cb.greatest(root.get("id").as(String.class))))
+                .where(cb.equal(root.get("tenantId"), TenantContext.getTenantId()));
+
+        Tuple result = entityManager.createQuery(query).getSingleResult();
+        Long versionSum = result.get(1, Long.class);
+        return new CollectionVersion(
+                result.get(0, Long.class),
+                versionSum != null ? versionSum : 0,
+                result.get(2, Instant.class),
+                result.get(3, String.class));
+    }
+
+    /**
+     * @param lastUpdated null for an empty collection
+     * @param lastId      highest id as text, null for an empty collection
+     */
+    public record CollectionVersion(long count, long versionSum, Instant lastUpdated, String lastId) {
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.stock_saas.shared.infrastructure.persisitence;
 
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantAwareJpaTransactionManager;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantFilterEnabler;
 import com.example.stock_saas.shared.infrastructure.multitenant.TenantInterceptor;
 import com.example.stock_saas.shared.infrastructure.security.SecurityUtils;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.transaction.autoconfigure.TransactionManagerCustomizers;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.orm.jpa.JpaTransactionManager;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -37,5 +43,19 @@ public class JpaConfig {
     public org.hibernate.Interceptor hibernateInterceptor() {
         return tenantInterceptor;
     }
-}
 
+    /**
+     * Transaction manager enabling the tenant filter on every new transaction.
+     * Replaces Boot's JPA transaction manager, so it applies the same customizers
+     * (spring.transaction.* properties, execution listeners).
+     */
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                    TenantFilterEnabler tenantFilterEnabler,
+                                                    ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager =
+                new TenantAwareJpaTransactionManager(entityManagerFactory, tenantFilterEnabler);
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a keyset page, ordered by (created_at, id) descending.
+ */
+public record KeysetCursor(Instant createdAt, UUID id) {
+
+    public static KeysetCursor of(BaseEntity entity) {
+        return new KeysetCursor(entity.getCreatedAt(), entity.getId());
+    }
+}
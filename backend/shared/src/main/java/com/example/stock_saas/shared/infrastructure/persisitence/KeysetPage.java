@@ -0,0 +1,30 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset query.
+ *
+ * @param content        rows of this page
+ * @param size           requested page size
+ * @param nextCursor     opaque cursor of the following page, null on the last page
+ * @param totalElements  total rows, null when not counted
+ * @param totalEstimated whether {@code totalElements} is a lower bound rather than exact
+ */
+public record KeysetPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        Long totalElements,
+        boolean totalEstimated) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new KeysetPage<>(mapped, size, nextCursor, totalElements, totalEstimated);
+    }
+}
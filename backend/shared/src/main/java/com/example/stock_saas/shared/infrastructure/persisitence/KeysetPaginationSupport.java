@@ -0,0 +1,157 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaSubQuery;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset (cursor) pagination for any BaseEntity type, newest first.
+ *
+ * Alternative to Spring Data's {@code Page} for large tenant tables (stock movements,
+ * order lines, ...): instead of OFFSET, every page continues strictly after the
+ * (created_at, id) of the previous page's last row, so page 10 000 costs the same
+ * as page 1 given an index on (tenant_id, created_at, id). The total is optional
+ * and only computed for the first page (see {@link CountMode}).
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPaginationSupport {
+
+    private static final String TENANT_ID = "tenantId";
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+    private final CursorCodec cursorCodec;
+    private final PaginationProperties properties;
+
+    /**
+     * First or next page of all entities of the current tenant
+     */
+    @Transactional(readOnly = true)
+    public <E extends BaseEntity> KeysetPage<E> findPage(Class<E> type, String cursor, int size, CountMode countMode) {
+        return findPage(type, null, cursor, size, countMode);
+    }
+
+    /**
+     * First or next page of the entities of the current tenant matching the specification
+     *
+     * @param specification additional filter, may be null
+     * @param cursor        {@link KeysetPage#nextCursor()} of the previous page, null for the first page
+     * @throws com.example.stock_saas.shared.domain.exception.InvalidCursorException if the cursor was not issued to this tenant
+     */
+    @Transactional(readOnly = true)
+    public <E extends BaseEntity> KeysetPage<E> findPage(Class<E> type, Specification<E> specification,
+                                                         String cursor, int size, CountMode countMode) {
+        if (size < 1 || size > properties.maxSize()) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + properties.maxSize() + ": " + size);
+        }
+        UUID tenantId = TenantContext.getTenantId();
+        KeysetCursor after = cursor == null || cursor.isEmpty() ? null : cursorCodec.decode(tenantId, cursor);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(type);
+        Root<E> root = query.from(type);
+
+        List<Predicate> predicates = filter(root, query, cb, tenantId, specification);
+        if (after != null) {
+            // The OR alone only narrows by tenant: without the redundant upper bound, the
+            // database walks the index from the newest row and filters its way down to the cursor
+            predicates.add(cb.lessThanOrEqualTo(root.get(CREATED_AT), after.createdAt()));
+            predicates.add(cb.or(
+                    cb.lessThan(root.<Instant>get(CREATED_AT), after.createdAt()),
+                    cb.and(
+                            cb.equal(root.get(CREATED_AT), after.createdAt()),
+                            cb.lessThan(root.<UUID>get(ID), after.id()))));
+        }
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(root.get(CREATED_AT)), cb.desc(root.get(ID)));
+
+        // One extra row tells whether a next page exists without counting
+        List<E> rows = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? cursorCodec.encode(tenantId, KeysetCursor.of(content.get(size - 1)))
+                : null;
+
+        if (after != null || countMode == CountMode.NONE) {
+            return new KeysetPage<>(content, size, nextCursor, null, false);
+        }
+        if (!hasNext) {
+            return new KeysetPage<>(content, size, null, (long) content.size(), false);
+        }
+        return countMode == CountMode.EXACT
+                ? new KeysetPage<>(content, size, nextCursor, count(type, tenantId, specification), false)
+                : estimate(type, tenantId, specification, content, nextCursor, size);
+    }
+
+    private <E extends BaseEntity> long count(Class<E> type, UUID tenantId, Specification<E> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(type);
+        query.select(cb.count(root)).where(filter(root, query, cb, tenantId, specification).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Counts rows up to the configured limit; beyond it the limit is reported as a lower bound.
+     * The count runs over a subquery capped at limit + 1 rows, so the database stops scanning
+     * there and no ids are transferred.
+     */
+    private <E extends BaseEntity> KeysetPage<E> estimate(Class<E> type, UUID tenantId, Specification<E> specification,
+                                                          List<E> content, String nextCursor, int size) {
+        int limit = properties.estimateLimit();
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<Long> query = cb.createQuery(Long.class);
+        JpaSubQuery<Tuple> ids = query.subquery(Tuple.class);
+        Root<E> root = ids.from(type);
+        ids.multiselect(root.get(ID).alias(ID))
+                .where(filter(root, query, cb, tenantId, specification).toArray(Predicate[]::new))
+                .fetch(limit + 1);
+        query.select(cb.count(query.from(ids).get(ID)));
+
+        long counted = entityManager.createQuery(query).getSingleResult();
+        return counted > limit
+                ? new KeysetPage<>(content, size, nextCursor, (long) limit, true)
+                : new KeysetPage<>(content, size, nextCursor, counted, false);
+    }
+
+    /**
+     * The tenant predicate is explicit (on top of the Hibernate tenant filter) so the
+     * (tenant_id, created_at, id) index is usable for both filtering and ordering
+     */
+    private <E extends BaseEntity> List<Predicate> filter(Root<E> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                                          UUID tenantId, Specification<E> specification) {
+        List<Predicate> predicates = new ArrayList<>(3);
+        predicates.add(cb.equal(root.get(TENANT_ID), tenantId));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        return predicates;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Optimistic-lock retry configuration.
+ */
+@Configuration
+@EnableConfigurationProperties(OptimisticRetryProperties.class)
+public class OptimisticRetryConfig {
+
+    @Bean
+    public OptimisticRetryExecutor optimisticRetryExecutor(PlatformTransactionManager transactionManager,
+                                                           OptimisticRetryProperties properties) {
+        return new OptimisticRetryExecutor(transactionManager, properties);
+    }
+}
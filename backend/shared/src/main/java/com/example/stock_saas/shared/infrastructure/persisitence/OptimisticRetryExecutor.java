@@ -0,0 +1,144 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.exception.OptimisticLockConflictException;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StaleStateException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs idempotent commands against hot rows (stock levels under INVENTORY_ADJUST, SALES_SHIP,
+ * PURCHASE_RECEIVE, ...) and re-runs them when they lose an optimistic-lock race.
+ *
+ * Every attempt is a fresh transaction, so the command must re-read what it modifies and be
+ * safe to execute again; it must not be called inside an existing transaction. Between
+ * attempts the thread pauses for a random time up to an exponentially growing bound (full
+ * jitter), which spreads colliding writers apart. Once the entity type's policy is exhausted
+ * an {@link OptimisticLockConflictException} is thrown, answered with 409 by the
+ * GlobalExceptionHandler.
+ */
+@Slf4j
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticRetryProperties properties;
+    private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager, OptimisticRetryProperties properties) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * Execute the command in a transaction, retrying on optimistic-lock conflicts of the entity type
+     *
+     * @throws OptimisticLockConflictException when every attempt conflicted
+     */
+    public <T> T execute(Class<?> entityType, Supplier<T> command) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Optimistic retries need their own transactions, call outside of one");
+        }
+        OptimisticRetryProperties.Policy policy = properties.policyFor(entityType);
+        Counters stats = counters.computeIfAbsent(entityType.getSimpleName(), type -> new Counters());
+        stats.executions.increment();
+
+        long backoffMs = policy.initialBackoffMs();
+        for (int attempt = 1; ; attempt++) {
+            stats.attempts.increment();
+            try {
+                return transactionTemplate.execute(status -> command.get());
+            } catch (RuntimeException ex) {
+                if (!isConflict(ex)) {
+                    throw ex;
+                }
+                stats.conflicts.increment();
+                if (attempt >= policy.maxAttempts()) {
+                    stats.exhausted.increment();
+                    log.warn("Giving up on {} after {} conflicting attempts", entityType.getSimpleName(), attempt);
+                    throw new OptimisticLockConflictException(entityType.getSimpleName(), attempt, ex);
+                }
+                log.debug("Optimistic lock conflict on {} (attempt {}), retrying", entityType.getSimpleName(), attempt);
+                if (!sleep(ThreadLocalRandom.current().nextLong(backoffMs + 1))) {
+                    throw new OptimisticLockConflictException(entityType.getSimpleName(), attempt, ex);
+                }
+                backoffMs = Math.min(backoffMs * 2, policy.maxBackoffMs());
+            }
+        }
+    }
+
+    /**
+     * Execute a command without result
+     */
+    public void execute(Class<?> entityType, Runnable command) {
+        execute(entityType, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * Conflict counters per entity type
+     */
+    public List<ConflictStats> getStats() {
+        return counters.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .toList();
+    }
+
+    static boolean isConflict(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException
+                    || cause instanceof OptimisticLockException
+                    || cause instanceof StaleStateException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Snapshot of the optimistic-lock counters of an entity type
+     *
+     * @param executions commands executed
+     * @param attempts   transactions run, including retries
+     * @param conflicts  attempts that lost an optimistic-lock race
+     * @param exhausted  commands that failed with a conflict after all attempts
+     */
+    public record ConflictStats(String entityType, long executions, long attempts, long conflicts, long exhausted) {
+
+        public double conflictRate() {
+            return attempts == 0 ? 0.0 : (double) conflicts / attempts;
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+
+        ConflictStats snapshot(String entityType) {
+            return new ConflictStats(entityType, executions.sum(), attempts.sum(), conflicts.sum(), exhausted.sum());
+        }
+    }
+}
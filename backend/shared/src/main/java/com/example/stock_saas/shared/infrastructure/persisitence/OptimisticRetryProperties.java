@@ -0,0 +1,40 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Optimistic-lock retry policies (prefix: app.persistence.optimistic-retry).
+ *
+ * Example:
+ * app.persistence.optimistic-retry.defaults.max-attempts=5
+ * app.persistence.optimistic-retry.entities.StockLevel.max-attempts=10
+ * app.persistence.optimistic-retry.entities.StockLevel.max-backoff-ms=50
+ *
+ * @param defaults policy of entity types without their own entry
+ * @param entities policies by entity simple class name
+ */
+@ConfigurationProperties(prefix = "app.persistence.optimistic-retry")
+public record OptimisticRetryProperties(
+        @DefaultValue Policy defaults,
+        @DefaultValue Map<String, Policy> entities) {
+
+    public Policy policyFor(Class<?> entityType) {
+        return entities.getOrDefault(entityType.getSimpleName(), defaults);
+    }
+
+    /**
+     * Retry policy of an entity type
+     *
+     * @param maxAttempts      executions including the first one
+     * @param initialBackoffMs upper bound of the first (jittered) pause, doubled per retry
+     * @param maxBackoffMs     cap of the pause upper bound
+     */
+    public record Policy(
+            @DefaultValue("5") int maxAttempts,
+            @DefaultValue("5") long initialBackoffMs,
+            @DefaultValue("200") long maxBackoffMs) {
+    }
+}
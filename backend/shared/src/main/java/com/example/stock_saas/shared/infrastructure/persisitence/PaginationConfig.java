@@ -0,0 +1,18 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keyset pagination configuration.
+ */
+@Configuration
+@EnableConfigurationProperties(PaginationProperties.class)
+public class PaginationConfig {
+
+    @Bean
+    public CursorCodec cursorCodec(PaginationProperties properties) {
+        return new CursorCodec(properties.cursorSecret());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Keyset pagination settings (prefix: app.pagination).
+ *
+ * @param cursorSecret  HMAC key signing cursors; must be identical on every node.
+ *                      When blank a random per-process key is used, so cursors do not
+ *                      survive restarts or cross nodes
+ * @param maxSize       upper bound for the requested page size
+ * @param estimateLimit rows counted at most in {@link CountMode#ESTIMATED} mode
+ */
+@ConfigurationProperties(prefix = "app.pagination")
+public record PaginationProperties(
+        String cursorSecret,
+        @DefaultValue("200") int maxSize,
+        @DefaultValue("10000") int estimateLimit) {
+}
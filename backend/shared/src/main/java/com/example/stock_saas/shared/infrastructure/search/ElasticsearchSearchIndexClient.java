@@ -0,0 +1,102 @@
+package com.example.stock_saas.shared.infrastructure.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link SearchIndexClient} on the Elasticsearch Java client
+ */
+@RequiredArgsConstructor
+public class ElasticsearchSearchIndexClient implements SearchIndexClient {
+
+    private final ElasticsearchClient client;
+
+    @Override
+    public List<FailedOperation> bulk(List<IndexOperation> operations) throws IOException {
+        BulkRequest.Builder request = new BulkRequest.Builder();
+        for (IndexOperation operation : operations) {
+            request.operations(toBulkOperation(operation));
+        }
+        BulkResponse response = client.bulk(request.build());
+        if (!response.errors()) {
+            return List.of();
+        }
+
+        List<FailedOperation> failures = new ArrayList<>();
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            BulkResponseItem item = items.get(i);
+            if (item.error() != null) {
+                failures.add(new FailedOperation(operations.get(i), item.status(), item.error().reason()));
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public boolean exists(String indexOrAlias) throws IOException {
+        return client.indices().exists(e -> e.index(indexOrAlias)).value();
+    }
+
+    @Override
+    public void createIndex(String index) throws IOException {
+        client.indices().create(c -> c.index(index));
+    }
+
+    @Override
+    public void deleteIndex(String index) throws IOException {
+        client.indices().delete(d -> d.index(index));
+    }
+
+    @Override
+    public Set<String> pointAlias(String alias, String index) throws IOException {
+        Set<String> previous;
+        try {
+            previous = Set.copyOf(client.indices().getAlias(g -> g.name(alias)).aliases().keySet());
+        } catch (ElasticsearchException ex) {
+            if (ex.status() != 404) {
+                throw ex;
+            }
+            previous = Set.of();
+        }
+
+        Set<String> removed = previous;
+        client.indices().updateAliases(u -> {
+            for (String old : removed) {
+                u.actions(a -> a.remove(r -> r.index(old).alias(alias)));
+            }
+            return u.actions(a -> a.add(add -> add.index(index).alias(alias)));
+        });
+        return previous;
+    }
+
+    private static BulkOperation toBulkOperation(IndexOperation operation) {
+        if (operation.type() == IndexOperation.Type.DELETE) {
+            return BulkOperation.of(o -> o.delete(d -> d
+                    .index(operation.index())
+                    .id(operation.id())
+                    .routing(operation.routing())));
+        }
+        return BulkOperation.of(o -> o.index(i -> {
+            i.index(operation.index())
+                    .id(operation.id())
+                    .routing(operation.routing())
+                    .document(operation.document());
+            if (operation.version() != null) {
+                i.version(operation.version()).versionType(VersionType.External);
+            }
+            return i;
+        }));
+    }
+}
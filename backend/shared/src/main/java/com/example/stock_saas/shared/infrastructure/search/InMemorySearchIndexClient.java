@@ -0,0 +1,115 @@
+package com.example.stock_saas.shared.infrastructure.search;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process {@link SearchIndexClient} with Elasticsearch semantics for external versions, aliases
+ * and index auto-creation. Stand-in for Elasticsearch in tests and local development
+ * (app.search.indexing.client=memory); failures can be injected to exercise retries.
+ */
+public class InMemorySearchIndexClient implements SearchIndexClient {
+
+    private final Map<String, Map<String, StoredDocument>> indices = new ConcurrentHashMap<>();
+    private final Map<String, String> aliases = new ConcurrentHashMap<>();
+    private final AtomicInteger failingRequests = new AtomicInteger();
+    private final AtomicInteger rejectedItems = new AtomicInteger();
+
+    @Override
+    public synchronized List<FailedOperation> bulk(List<IndexOperation> operations) throws IOException {
+        if (failingRequests.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            throw new IOException("Simulated connection failure");
+        }
+
+        List<FailedOperation> failures = new ArrayList<>();
+        for (IndexOperation operation : operations) {
+            if (rejectedItems.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                failures.add(new FailedOperation(operation, 429, "Simulated rejection"));
+                continue;
+            }
+            Map<String, StoredDocument> index = indices.computeIfAbsent(resolve(operation.index()),
+                    name -> new ConcurrentHashMap<>());
+            if (operation.type() == IndexOperation.Type.DELETE) {
+                index.remove(operation.id());
+                continue;
+            }
+            StoredDocument existing = index.get(operation.id());
+            if (existing != null && operation.version() != null && existing.version() != null
+                    && existing.version() >= operation.version()) {
+                failures.add(new FailedOperation(operation, 409, "Version conflict"));
+                continue;
+            }
+            index.put(operation.id(), new StoredDocument(operation.routing(), Map.copyOf(operation.document()),
+                    operation.version()));
+        }
+        return failures;
+    }
+
+    @Override
+    public boolean exists(String indexOrAlias) {
+        return aliases.containsKey(indexOrAlias) || indices.containsKey(indexOrAlias);
+    }
+
+    @Override
+    public void createIndex(String index) {
+        indices.putIfAbsent(index, new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void deleteIndex(String index) {
+        indices.remove(index);
+    }
+
+    @Override
+    public synchronized Set<String> pointAlias(String alias, String index) throws IOException {
+        if (indices.containsKey(alias)) {
+            throw new IOException("An index named " + alias + " already exists");
+        }
+        String previous = aliases.put(alias, index);
+        Set<String> result = new HashSet<>();
+        if (previous != null) {
+            result.add(previous);
+        }
+        return result;
+    }
+
+    /**
+     * Fail the next whole bulk requests with an IOException
+     */
+    public void failNextRequests(int count) {
+        failingRequests.set(count);
+    }
+
+    /**
+     * Reject the next individual operations with status 429
+     */
+    public void rejectNextItems(int count) {
+        rejectedItems.set(count);
+    }
+
+    public StoredDocument get(String indexOrAlias, String id) {
+        Map<String, StoredDocument> index = indices.get(resolve(indexOrAlias));
+        return index != null ? index.get(id) : null;
+    }
+
+    public int count(String indexOrAlias) {
+        Map<String, StoredDocument> index = indices.get(resolve(indexOrAlias));
+        return index != null ? index.size() : 0;
+    }
+
+    private String resolve(String indexOrAlias) {
+        return aliases.getOrDefault(indexOrAlias, indexOrAlias);
+    }
+
+    /**
+     * Indexed document with its routing key and external version
+     */
+    public record StoredDocument(String routing, Map<String, Object> document, Long version) {
+    }
+}
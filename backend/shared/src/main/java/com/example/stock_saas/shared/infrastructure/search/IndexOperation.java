@@ -0,0 +1,35 @@
+package com.example.stock_saas.shared.infrastructure.search;
+
+import java.util.Map;
+
+/**
+ * Single bulk operation against a search index
+ *
+ * @param type     index (create or replace) or delete
+ * @param index    index or alias written to
+ * @param id       document ID (entity ID)
+ * @param routing  shard routing key (tenant ID), so a tenant's documents live on one shard
+ * @param document source for index operations
+ * @param version  entity @Version, applied as external version so stale writes never overwrite newer ones
+ */
+public record IndexOperation(Type type, String index, String id, String routing, Map<String, Object> document,
+                             Long version) {
+
+    public enum Type {
+        INDEX,
+        DELETE
+    }
+
+    public static IndexOperation index(String index, String id, String routing, Map<String, Object> document,
+                                       Long version) {
+        return new IndexOperation(Type.INDEX, index, id, routing, document, version);
+    }
+
+    public static IndexOperation delete(String index, String id, String routing) {
+        return new IndexOperation(Type.DELETE, index, id, routing, null, null);
+    }
+
+    IndexOperation withIndex(String otherIndex) {
+        return new IndexOperation(type, otherIndex, id, routing, document, version);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.stock_saas.shared.infrastructure.search;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+
+import java.util.Map;
+
+/**
+ * Maps an entity type to its search documents. Register implementations as Spring beans;
+ * changes are picked up from {@code AggregateEvent}s whose aggregate type is {@link #entityType()}.
+ */
+public interface SearchDocumentMapper<E extends BaseEntity> {
+
+    Class<E> entityType();
+
+    /**
+     * Alias searched by the application; physical indexes behind it are swapped on full reindex
+     */
+    String indexAlias();
+
+    /**
+     * Searchable fields of the entity; id and tenantId are added by the pipeline
+     */
+    Map<String, Object> toDocument(E entity);
+}
@@ -0,0 +1,54 @@
+package com.example.stock_saas.shared.infrastructure.search;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Search engine operations used by the indexing pipeline
+ */
+public interface SearchIndexClient {
+
+    /**
+     * Execute the operations in one bulk request
+     *
+     * @return operations that failed; empty when all succeeded
+     * @throws IOException if the request as a whole failed (all operations may be retried)
+     */
+    List<FailedOperation> bulk(List<IndexOperation> operations) throws IOException;
+
+    /**
+     * @return true if an index or alias with this name exists
+     */
+    boolean exists(String indexOrAlias) throws IOException;
+
+    void createIndex(String index) throws IOException;
+
+    void deleteIndex(String index) throws IOException;
+
+    /**
+     * Atomically move the alias to the index
+     *
+     * @return indexes the alias pointed to before
+     */
+    Set<String> pointAlias(String alias, String index) throws IOException;
+
+    /**
+     * Operation rejected by the search engine
+     *
+     * @param status HTTP-style status (409 version conflict, 429 rejected, 5xx server error)
+     */
+    record FailedOperation(IndexOperation operation, int status, String reason) {
+
+        /**
+         * The document already holds the same or a newer version
+         */
+        public boolean isVersionConflict() {
+            return status == 409;
+        }
+
+        public boolean isRetryable() {
+            return status == 429 || status >= 500;
+        }
+    }
+}
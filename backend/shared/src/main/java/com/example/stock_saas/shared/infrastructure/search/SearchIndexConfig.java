@@ -0,0 +1,79 @@
+package com.example.stock_saas.shared.infrastructure.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Incremental search indexing (app.search.indexing.enabled=true).
+ *
+ * A full reindex can be requested at startup with --search.reindex=alias[,alias...].
+ */
+@Configuration
+@EnableConfigurationProperties(SearchIndexProperties.class)
+@ConditionalOnProperty(prefix = "app.search.indexing", name = "enabled", havingValue = "true")
+public class SearchIndexConfig {
+
+    static final String REINDEX_OPTION = "search.reindex";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.search.indexing", name = "client", havingValue = "elasticsearch", matchIfMissing = true)
+    public SearchIndexClient elasticsearchSearchIndexClient(ElasticsearchClient elasticsearchClient) {
+        return new ElasticsearchSearchIndexClient(elasticsearchClient);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.search.indexing", name = "client", havingValue = "memory")
+    public SearchIndexClient inMemorySearchIndexClient() {
+        return new InMemorySearchIndexClient();
+    }
+
+    @Bean
+    public SearchIndexingPipeline searchIndexingPipeline(SearchIndexClient client, EntityManager entityManager,
+                                                         PlatformTransactionManager transactionManager,
+                                                         SearchIndexProperties properties,
+                                                         ObjectProvider<SearchDocumentMapper<?>> mappers,
+                                                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return new SearchIndexingPipeline(client, entityManager, readOnly(transactionManager), properties,
+                mappers.orderedStream().toList(), virtualThreads);
+    }
+
+    @Bean
+    public SearchReindexer searchReindexer(SearchIndexingPipeline pipeline, SearchIndexClient client,
+                                           EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                           SearchIndexProperties properties) {
+        return new SearchReindexer(pipeline, client, entityManager, readOnly(transactionManager),
+                properties.batchSize());
+    }
+
+    @Bean
+    public ApplicationRunner searchReindexRunner(SearchReindexer reindexer) {
+        return args -> {
+            List<String> aliases = args.getOptionValues(REINDEX_OPTION);
+            if (aliases == null) {
+                return;
+            }
+            for (String value : aliases) {
+                for (String alias : value.split(",")) {
+                    reindexer.reindex(alias.trim());
+                }
+            }
+        };
+    }
+
+    private static TransactionTemplate readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.stock_saas.shared.infrastructure.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Incremental search indexing settings (prefix: app.search.indexing).
+ *
+ * @param enabled          index aggregates changed by domain events
+ * @param client           elasticsearch, or memory for tests and local development
+ * @param queueCapacity    pending index requests before publishers are held back
+ * @param offerTimeoutMs   how long a committing publisher waits for queue space before the request is dropped
+ * @param batchSize        maximum operations per bulk request
+ * @param flushIntervalMs  maximum wait for a batch to fill up
+ * @param maxAttempts      bulk attempts before operations are given up on
+ * @param initialBackoffMs delay before the first retry, doubled on every further attempt
+ */
+@ConfigurationProperties(prefix = "app.search.indexing")
+public record SearchIndexProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("elasticsearch") String client,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("5000") long offerTimeoutMs,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1000") long flushIntervalMs,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("200") long initialBackoffMs) {
+}
@@ -0,0 +1,362 @@
+package com.example.stock_saas.shared.infrastructure.search;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.domain.event.AggregateEvent;
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import com.example.stock_saas.shared.infrastructure.event.DomainEventPublicationListener;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps search indexes in step with the database, fed by {@code AggregateEvent}s after commit.
+ *
+ * - Changed aggregates are queued by type and ID; repeated changes while queued coalesce into one request
+ * - A single worker drains the queue in batches, loads the current state of each aggregate and
+ *   writes it with one bulk request (deleted or missing aggregates are removed from the index)
+ * - Failed requests and retryable item failures (429, 5xx) are retried with exponential backoff;
+ *   while retrying, the queue fills up and committing publishers wait up to offerTimeoutMs (backpressure)
+ * - Documents carry the entity @Version as external version, so reordered writes never regress them,
+ *   and are routed by tenant ID
+ *
+ * Requests dropped on a full queue or after the last attempt are counted and logged; a full reindex
+ * ({@link SearchReindexer}) repairs them.
+ */
+@Slf4j
+public class SearchIndexingPipeline implements DomainEventPublicationListener, SmartLifecycle {
+
+    private final SearchIndexClient client;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SearchIndexProperties properties;
+    private final Map<Class<?>, SearchDocumentMapper<?>> mappers = new HashMap<>();
+    private final boolean virtualThreads;
+
+    private final BlockingQueue<IndexRequest> queue;
+    private final Set<IndexRequest> queued = ConcurrentHashMap.newKeySet();
+    // Alias -> index being rebuilt by a full reindex, which receives a copy of every write
+    private final Map<String, String> reindexTargets = new ConcurrentHashMap<>();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public SearchIndexingPipeline(SearchIndexClient client, EntityManager entityManager,
+                                  TransactionTemplate readOnlyTransaction, SearchIndexProperties properties,
+                                  List<SearchDocumentMapper<?>> mappers, boolean virtualThreads) {
+        this.client = client;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.properties = properties;
+        this.virtualThreads = virtualThreads;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        for (SearchDocumentMapper<?> mapper : mappers) {
+            if (this.mappers.put(mapper.entityType(), mapper) != null) {
+                throw new IllegalStateException("Duplicate search mapper for " + mapper.entityType().getName());
+            }
+        }
+    }
+
+    @Override
+    public void onPublish(DomainEvent event) {
+        if (event instanceof AggregateEvent aggregateEvent
+                && aggregateEvent.getAggregateId() != null
+                && mappers.containsKey(aggregateEvent.getAggregateType())) {
+            IndexRequest request = new IndexRequest(aggregateEvent.getAggregateType(),
+                    aggregateEvent.getAggregateId(), aggregateEvent.getTenantId());
+            DomainEventPublicationListener.afterCommit(() -> enqueue(request));
+        }
+    }
+
+    /**
+     * Queue an aggregate for (re)indexing, waiting up to offerTimeoutMs for space
+     *
+     * @return false if the request was dropped because the queue stayed full
+     */
+    public boolean enqueue(IndexRequest request) {
+        if (!queued.add(request)) {
+            coalesced.increment();
+            return true;
+        }
+        boolean accepted;
+        try {
+            accepted = queue.offer(request, properties.offerTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            queued.remove(request);
+            dropped.increment();
+            log.warn("Search indexing queue full, dropped {}#{}; run a reindex to repair",
+                    request.type().getSimpleName(), request.id());
+            return false;
+        }
+        enqueued.increment();
+        return true;
+    }
+
+    /**
+     * Drain everything currently queued on the caller's thread (tests, shutdown)
+     */
+    public void flush() {
+        List<IndexRequest> batch = new ArrayList<>();
+        while (queue.drainTo(batch, properties.batchSize()) > 0) {
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    public IndexingStats getStats() {
+        return new IndexingStats(queue.size(), enqueued.sum(), coalesced.sum(), dropped.sum(), written.sum(),
+                retried.sum(), failed.sum());
+    }
+
+    Map<Class<?>, SearchDocumentMapper<?>> getMappers() {
+        return mappers;
+    }
+
+    void startDualWrite(String alias, String index) {
+        reindexTargets.put(alias, index);
+    }
+
+    void stopDualWrite(String alias) {
+        reindexTargets.remove(alias);
+    }
+
+    /**
+     * Index or delete document for the entity in the given index
+     */
+    @SuppressWarnings("unchecked")
+    IndexOperation toOperation(SearchDocumentMapper<?> mapper, BaseEntity entity, String index) {
+        String id = entity.getId().toString();
+        String routing = entity.getTenantId() != null ? entity.getTenantId().toString() : null;
+        if (entity.isDeleted()) {
+            return IndexOperation.delete(index, id, routing);
+        }
+        Map<String, Object> document = new LinkedHashMap<>(((SearchDocumentMapper<BaseEntity>) mapper).toDocument(entity));
+        document.put("id", id);
+        document.put("tenantId", routing);
+        return IndexOperation.index(index, id, routing, document, entity.getVersion());
+    }
+
+    /**
+     * Write the operations, retrying failures with exponential backoff and jitter
+     */
+    void write(List<IndexOperation> operations) {
+        List<IndexOperation> pending = operations;
+        long backoffMs = properties.initialBackoffMs();
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            List<IndexOperation> retryable = new ArrayList<>();
+            try {
+                int rejected = 0;
+                for (SearchIndexClient.FailedOperation failure : client.bulk(pending)) {
+                    if (failure.isRetryable()) {
+                        retryable.add(failure.operation());
+                    } else if (!failure.isVersionConflict()) {
+                        rejected++;
+                        log.error("Search engine rejected {} {}/{}: {} {}", failure.operation().type(),
+                                failure.operation().index(), failure.operation().id(), failure.status(), failure.reason());
+                    }
+                }
+                failed.add(rejected);
+                written.add(pending.size() - retryable.size() - rejected);
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Bulk request of {} operations failed (attempt {}): {}", pending.size(), attempt, ex.getMessage());
+                retryable = pending;
+            }
+
+            if (retryable.isEmpty()) {
+                return;
+            }
+            if (attempt >= properties.maxAttempts()) {
+                failed.add(retryable.size());
+                log.error("Giving up on {} search operations after {} attempts; run a reindex to repair",
+                        retryable.size(), attempt);
+                return;
+            }
+            retried.add(retryable.size());
+            if (!sleep(backoffMs + ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1))) {
+                failed.add(retryable.size());
+                return;
+            }
+            backoffMs *= 2;
+            pending = retryable;
+        }
+    }
+
+    private void process(List<IndexRequest> batch) {
+        // Requests leave the coalescing set before their aggregates are read, so later changes queue again
+        for (IndexRequest request : batch) {
+            queued.remove(request);
+        }
+
+        Map<UUID, List<IndexRequest>> byTenant = new LinkedHashMap<>();
+        for (IndexRequest request : batch) {
+            byTenant.computeIfAbsent(request.tenantId(), tenant -> new ArrayList<>()).add(request);
+        }
+
+        List<IndexOperation> operations = new ArrayList<>(batch.size());
+        byTenant.forEach((tenantId, requests) -> {
+            try {
+                if (tenantId != null) {
+                    operations.addAll(TenantContext.executeInTenantContext(tenantId, () -> load(requests)));
+                } else {
+                    operations.addAll(load(requests));
+                }
+            } catch (RuntimeException ex) {
+                failed.add(requests.size());
+                log.error("Failed to load {} aggregates of tenant {} for indexing", requests.size(), tenantId, ex);
+            }
+        });
+        if (!operations.isEmpty()) {
+            write(operations);
+        }
+    }
+
+    private List<IndexOperation> load(List<IndexRequest> requests) {
+        return readOnlyTransaction.execute(status -> {
+            List<IndexOperation> operations = new ArrayList<>(requests.size());
+            for (IndexRequest request : requests) {
+                SearchDocumentMapper<?> mapper = mappers.get(request.type());
+                String alias = mapper.indexAlias();
+                Object entity = entityManager.find(request.type(), request.id());
+                IndexOperation operation = entity instanceof BaseEntity baseEntity
+                        ? toOperation(mapper, baseEntity, alias)
+                        : IndexOperation.delete(alias, request.id().toString(),
+                        request.tenantId() != null ? request.tenantId().toString() : null);
+                operations.add(operation);
+
+                String reindexTarget = reindexTargets.get(alias);
+                if (reindexTarget != null) {
+                    operations.add(operation.withIndex(reindexTarget));
+                }
+            }
+            entityManager.clear();
+            return operations;
+        });
+    }
+
+    private void runWorker() {
+        List<IndexRequest> batch = new ArrayList<>(properties.batchSize());
+        while (running) {
+            try {
+                IndexRequest first = queue.poll(properties.flushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                process(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Search indexing batch failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        for (SearchDocumentMapper<?> mapper : mappers.values()) {
+            ensureAlias(mapper.indexAlias());
+        }
+        running = true;
+        Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+        worker = builder.name("search-indexer").start(this::runWorker);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Search indexer stopped with {} requests queued; they will be picked up by the next reindex",
+                    queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Make sure the alias exists before the first write, so it is not auto-created as a plain index
+     */
+    private void ensureAlias(String alias) {
+        try {
+            if (!client.exists(alias)) {
+                String index = alias + "-initial";
+                client.createIndex(index);
+                client.pointAlias(alias, index);
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not prepare search alias {}: {}", alias, ex.getMessage());
+        }
+    }
+
+    /**
+     * Aggregate to (re)index
+     */
+    public record IndexRequest(Class<?> type, UUID id, UUID tenantId) {
+    }
+
+    /**
+     * Pipeline counters
+     *
+     * @param queueDepth requests waiting to be indexed
+     * @param enqueued   requests accepted
+     * @param coalesced  requests merged into one already queued
+     * @param dropped    requests dropped on a full queue
+     * @param written    operations applied by the search engine
+     * @param retried    operations retried
+     * @param failed     operations given up on
+     */
+    public record IndexingStats(int queueDepth, long enqueued, long coalesced, long dropped, long written,
+                               long retried, long failed) {
+    }
+}
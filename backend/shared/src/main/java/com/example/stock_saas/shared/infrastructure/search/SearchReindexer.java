@@ -0,0 +1,113 @@
+package com.example.stock_saas.shared.infrastructure.search;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds a search index from the database without downtime.
+ *
+ * All entities of the alias's type (every tenant) are streamed into a new physical index while
+ * incremental updates are written to both the live and the new index; the alias is then moved
+ * atomically and the previous index deleted.
+ */
+@Slf4j
+public class SearchReindexer {
+
+    private static final DateTimeFormatter INDEX_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final SearchIndexingPipeline pipeline;
+    private final SearchIndexClient client;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+
+    public SearchReindexer(SearchIndexingPipeline pipeline, SearchIndexClient client, EntityManager entityManager,
+                           TransactionTemplate readOnlyTransaction, int batchSize) {
+        this.pipeline = pipeline;
+        this.client = client;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Rebuild the index behind the alias
+     *
+     * @return number of indexed documents
+     */
+    public long reindex(String alias) {
+        SearchDocumentMapper<?> mapper = pipeline.getMappers().values().stream()
+                .filter(candidate -> candidate.indexAlias().equals(alias))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No search mapper for alias " + alias));
+        String index = alias + "-" + INDEX_SUFFIX.format(ZonedDateTime.now(ZoneOffset.UTC));
+        log.info("Reindexing {} into {}", alias, index);
+
+        try {
+            client.createIndex(index);
+            pipeline.startDualWrite(alias, index);
+            long count;
+            try {
+                count = copyAll(mapper, index);
+            } finally {
+                pipeline.stopDualWrite(alias);
+            }
+
+            Set<String> previous = client.pointAlias(alias, index);
+            for (String old : previous) {
+                client.deleteIndex(old);
+            }
+            log.info("Reindexed {} documents into {}, replacing {}", count, index, previous);
+            return count;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Reindex of " + alias + " failed", ex);
+        }
+    }
+
+    private <E extends BaseEntity> long copyAll(SearchDocumentMapper<E> mapper, String index) {
+        Long count = readOnlyTransaction.execute(status -> {
+            CriteriaQuery<E> query = entityManager.getCriteriaBuilder().createQuery(mapper.entityType());
+            query.select(query.from(mapper.entityType()));
+
+            long total = 0;
+            List<IndexOperation> batch = new ArrayList<>(batchSize);
+            try (Stream<E> entities = entityManager.createQuery(query)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, batchSize)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream()) {
+                Iterator<E> iterator = entities.iterator();
+                while (iterator.hasNext()) {
+                    E entity = iterator.next();
+                    if (entity.isDeleted()) {
+                        continue;
+                    }
+                    batch.add(pipeline.toOperation(mapper, entity, index));
+                    if (batch.size() == batchSize) {
+                        pipeline.write(batch);
+                        total += batch.size();
+                        batch = new ArrayList<>(batchSize);
+                        entityManager.clear();
+                    }
+                }
+            }
+            pipeline.write(batch);
+            return total + batch.size();
+        });
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.stock_saas.shared.infrastructure.security;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import com.example.stock_saas.shared.domain.event.UserAccessChangedEvent;
+import com.example.stock_saas.shared.infrastructure.cache.TwoTierCache;
+import com.example.stock_saas.shared.infrastructure.cache.TwoTierCacheManager;
+import com.example.stock_saas.shared.infrastructure.cache.TwoTierCacheSpec;
+import com.example.stock_saas.shared.infrastructure.event.DomainEventPublicationListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Cache of authenticated {@link UserPrincipal}s so they are not rebuilt from the user tables
+ * or token claims on every request.
+ *
+ * Entries are keyed by user ID, the user's access generation and token ID. Changing a user's
+ * roles or permissions ({@link UserAccessChangedEvent}) replaces the generation, which retires
+ * every cached principal of that user at once on all nodes; stale entries then expire in the store.
+ * The local tier holds decoded principals, the shared tier their {@link PrincipalCodec} form.
+ */
+@Slf4j
+public class PrincipalCache implements DomainEventPublicationListener {
+
+    private final TwoTierCache<UserPrincipal> principals;
+    private final TwoTierCache<String> generations;
+
+    public PrincipalCache(TwoTierCacheManager cacheManager, PrincipalCacheProperties properties) {
+        TwoTierCacheSpec spec = TwoTierCacheSpec.builder()
+                .maximumSize(properties.maximumSize())
+                .localTtlMs(properties.localTtlMs())
+                .remoteTtlMs(properties.remoteTtlMs())
+                .build();
+        this.principals = cacheManager.create("principals", spec, new PrincipalCodec());
+        this.generations = cacheManager.create("principal-generations", spec);
+    }
+
+    /**
+     * Get the principal of an authenticated token, building it on a miss
+     *
+     * @param tokenId token identifier (e.g. the JWT jti claim)
+     * @param loader  builds the principal from the user tables or token claims
+     */
+    public UserPrincipal get(UUID userId, String tokenId, Supplier<UserPrincipal> loader) {
+        String generation = generations.get(userId.toString(), PrincipalCache::newGeneration);
+        return principals.get(userId + ":" + generation + ":" + tokenId, loader);
+    }
+
+    /**
+     * Drop every cached principal of the user on all nodes; generation loads already in flight
+     * on this node do not reinstate the old generation
+     */
+    public void invalidateUser(UUID userId) {
+        log.debug("Invalidating cached principals of user {}", userId);
+        generations.put(userId.toString(), newGeneration());
+    }
+
+    /**
+     * Drop the cached principal of a single token (e.g. on logout)
+     */
+    public void invalidateToken(UUID userId, String tokenId) {
+        String generation = generations.getIfPresent(userId.toString());
+        if (generation != null) {
+            principals.invalidate(userId + ":" + generation + ":" + tokenId);
+        }
+    }
+
+    @Override
+    public void onPublish(DomainEvent event) {
+        if (event instanceof UserAccessChangedEvent accessChanged) {
+            DomainEventPublicationListener.afterCommit(() -> invalidateUser(accessChanged.getUserId()));
+        }
+    }
+
+    private static String newGeneration() {
+        return Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+    }
+}
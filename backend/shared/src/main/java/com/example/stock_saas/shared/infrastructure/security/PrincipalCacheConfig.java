@@ -0,0 +1,22 @@
+package com.example.stock_saas.shared.infrastructure.security;
+
+import com.example.stock_saas.shared.infrastructure.cache.TwoTierCacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link PrincipalCache} (app.security.principal-cache.enabled=true,
+ * on top of app.cache.two-tier.enabled=true)
+ */
+@Configuration
+@EnableConfigurationProperties(PrincipalCacheProperties.class)
+@ConditionalOnProperty(name = {"app.security.principal-cache.enabled", "app.cache.two-tier.enabled"}, havingValue = "true")
+public class PrincipalCacheConfig {
+
+    @Bean
+    public PrincipalCache principalCache(TwoTierCacheManager cacheManager, PrincipalCacheProperties properties) {
+        return new PrincipalCache(cacheManager, properties);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.stock_saas.shared.infrastructure.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Principal cache settings (prefix: app.security.principal-cache).
+ * Requires the two-tier cache (app.cache.two-tier.enabled=true).
+ *
+ * @param enabled     register {@link PrincipalCache}
+ * @param maximumSize principals kept in the local tier
+ * @param localTtlMs  expiry of local entries
+ * @param remoteTtlMs expiry of shared entries; keep at or below the access token lifetime
+ */
+@ConfigurationProperties(prefix = "app.security.principal-cache")
+public record PrincipalCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("50000") int maximumSize,
+        @DefaultValue("60000") long localTtlMs,
+        @DefaultValue("900000") long remoteTtlMs) {
+}
@@ -0,0 +1,96 @@
+package com.example.stock_saas.shared.infrastructure.security;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.common.constant.Role;
+import com.example.stock_saas.shared.infrastructure.cache.CacheValueCodec;
+import com.example.stock_saas.shared.infrastructure.event.codec.BinaryEventReader;
+import com.example.stock_saas.shared.infrastructure.event.codec.BinaryEventWriter;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Compact binary form of {@link UserPrincipal} for the shared cache tier (typically under 100 bytes).
+ *
+ * Layout: format version, id, tenant ID, username, email, roles and permissions as ordinal lists,
+ * account flags. The password hash is never written; cached principals are only used after authentication.
+ */
+public class PrincipalCodec implements CacheValueCodec<UserPrincipal> {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int ENABLED = 1;
+    private static final int ACCOUNT_NON_EXPIRED = 1 << 1;
+    private static final int ACCOUNT_NON_LOCKED = 1 << 2;
+    private static final int CREDENTIALS_NON_EXPIRED = 1 << 3;
+
+    private static final Role[] ROLES = Role.values();
+    private static final Permission[] PERMISSIONS = Permission.values();
+
+    @Override
+    public byte[] encode(UserPrincipal principal) {
+        BinaryEventWriter writer = new BinaryEventWriter(128)
+                .writeByte(FORMAT_VERSION)
+                .writeUuid(principal.getId())
+                .writeNullableUuid(principal.getTenantId())
+                .writeString(principal.getUsername())
+                .writeString(principal.getEmail());
+
+        Set<Role> roles = principal.getRoles() != null ? principal.getRoles() : Set.of();
+        writer.writeVarInt(roles.size());
+        for (Role role : roles) {
+            writer.writeVarInt(role.ordinal());
+        }
+        Set<Permission> permissions = principal.getPermissions() != null ? principal.getPermissions() : Set.of();
+        writer.writeVarInt(permissions.size());
+        for (Permission permission : permissions) {
+            writer.writeVarInt(permission.ordinal());
+        }
+
+        int flags = (principal.isEnabled() ? ENABLED : 0)
+                | (principal.isAccountNonExpired() ? ACCOUNT_NON_EXPIRED : 0)
+                | (principal.isAccountNonLocked() ? ACCOUNT_NON_LOCKED : 0)
+                | (principal.isCredentialsNonExpired() ? CREDENTIALS_NON_EXPIRED : 0);
+        return writer.writeByte(flags).toByteArray();
+    }
+
+    @Override
+    public UserPrincipal decode(byte[] bytes) throws IOException {
+        try {
+            BinaryEventReader reader = new BinaryEventReader(ByteBuffer.wrap(bytes));
+            int version = reader.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported principal format version: " + version);
+            }
+            UserPrincipal.UserPrincipalBuilder builder = UserPrincipal.builder()
+                    .id(reader.readUuid())
+                    .tenantId(reader.readNullableUuid())
+                    .username(reader.readString())
+                    .email(reader.readString());
+
+            Set<Role> roles = EnumSet.noneOf(Role.class);
+            for (int i = reader.readVarInt(); i > 0; i--) {
+                roles.add(ROLES[reader.readVarInt()]);
+            }
+            Set<Permission> permissions = EnumSet.noneOf(Permission.class);
+            for (int i = reader.readVarInt(); i > 0; i--) {
+                permissions.add(PERMISSIONS[reader.readVarInt()]);
+            }
+
+            int flags = reader.readByte();
+            return builder
+                    .roles(roles)
+                    .permissions(permissions)
+                    .enabled((flags & ENABLED) != 0)
+                    .accountNonExpired((flags & ACCOUNT_NON_EXPIRED) != 0)
+                    .accountNonLocked((flags & ACCOUNT_NON_LOCKED) != 0)
+                    .credentialsNonExpired((flags & CREDENTIALS_NON_EXPIRED) != 0)
+                    .build();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            throw new IOException("Corrupt principal entry", ex);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.stock_saas.shared.infrastructure.security;
 
 import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.common.constant.PermissionMask;
 import com.example.stock_saas.shared.common.constant.Role;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -33,6 +34,19 @@ public class SecurityUtils {
         return Optional.empty();
     }
 
+    /**
+     * Get the current UserPrincipal, or null if not authenticated.
+     * Allocation-free variant used by the permission checks.
+     */
+    private static UserPrincipal getCurrentPrincipalOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() &&
+                authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+
     /**
      * Get the current user's ID from JWT claims
      */
@@ -95,6 +109,14 @@ public class SecurityUtils {
                 .orElse(Set.of());
     }
 
+    /**
+     * Get the current user's permissions as a bitmask
+     */
+    public static PermissionMask getCurrentUserPermissionMask() {
+        UserPrincipal principal = getCurrentPrincipalOrNull();
+        return principal != null ? principal.getPermissionMask() : PermissionMask.EMPTY;
+    }
+
     /**
      * Check if current user has a specific role
      */
@@ -119,33 +141,35 @@ public class SecurityUtils {
      * Check if current user has a specific permission
      */
     public static boolean hasPermission(Permission permission) {
-        return getCurrentUserPermissions().contains(permission);
+        return getCurrentUserPermissionMask().contains(permission);
     }
 
     /**
      * Check if current user has all specified permissions
      */
     public static boolean hasAllPermissions(Permission... permissions) {
-        Set<Permission> userPermissions = getCurrentUserPermissions();
-        for (Permission permission : permissions) {
-            if (!userPermissions.contains(permission)) {
-                return false;
-            }
-        }
-        return true;
+        return getCurrentUserPermissionMask().containsAll(PermissionMask.of(permissions));
+    }
+
+    /**
+     * Check if current user has all permissions of a precomputed mask
+     */
+    public static boolean hasAllPermissions(PermissionMask required) {
+        return getCurrentUserPermissionMask().containsAll(required);
     }
 
     /**
      * Check if current user has any of the specified permissions
      */
     public static boolean hasAnyPermission(Permission... permissions) {
-        Set<Permission> userPermissions = getCurrentUserPermissions();
-        for (Permission permission : permissions) {
-            if (userPermissions.contains(permission)) {
-                return true;
-            }
-        }
-        return false;
+        return getCurrentUserPermissionMask().containsAny(PermissionMask.of(permissions));
+    }
+
+    /**
+     * Check if current user has any permission of a precomputed mask
+     */
+    public static boolean hasAnyPermission(PermissionMask candidates) {
+        return getCurrentUserPermissionMask().containsAny(candidates);
     }
 
     /**
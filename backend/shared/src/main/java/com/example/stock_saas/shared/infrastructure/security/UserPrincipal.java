@@ -1,6 +1,7 @@
 package com.example.stock_saas.shared.infrastructure.security;
 
 import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.common.constant.PermissionMask;
 import com.example.stock_saas.shared.common.constant.Role;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,20 +9,38 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Custom UserDetails implementation for JWT authentication.
  * Contains all necessary user information and permissions.
  */
 @Getter
-@Builder
 public class UserPrincipal implements UserDetails {
 
+    /**
+     * Shared authority instances, one per Role / Permission constant
+     */
+    private static final Map<Role, GrantedAuthority> ROLE_AUTHORITIES = new EnumMap<>(Role.class);
+    private static final Map<Permission, GrantedAuthority> PERMISSION_AUTHORITIES = new EnumMap<>(Permission.class);
+
+    static {
+        for (Role role : Role.values()) {
+            ROLE_AUTHORITIES.put(role, new SimpleGrantedAuthority("ROLE_" + role.name()));
+        }
+        for (Permission permission : Permission.values()) {
+            PERMISSION_AUTHORITIES.put(permission, new SimpleGrantedAuthority(permission.getCode()));
+        }
+    }
+
     private final UUID id;
     private final UUID tenantId;
     private final String username;
@@ -34,19 +53,58 @@ public class UserPrincipal implements UserDetails {
     private final boolean accountNonLocked;
     private final boolean credentialsNonExpired;
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        // Combine roles and permissions as authorities
-        Set<GrantedAuthority> roleAuthorities = roles.stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
-                .collect(Collectors.toSet());
+    /**
+     * Bitmask view of {@link #permissions}, computed once at construction
+     */
+    private final PermissionMask permissionMask;
+
+    /**
+     * Roles and permissions as Spring Security authorities, built once at construction
+     */
+    private final Collection<GrantedAuthority> authorities;
+
+    @Builder
+    public UserPrincipal(UUID id, UUID tenantId, String username, String email, String password,
+                         Set<Role> roles, Set<Permission> permissions, boolean enabled,
+                         boolean accountNonExpired, boolean accountNonLocked, boolean credentialsNonExpired) {
+        this.id = id;
+        this.tenantId = tenantId;
+        this.username = username;
+        this.email = email;
+        this.password = password;
+        // Copies, so the sets cannot drift from the mask and authorities derived from them below
+        this.roles = immutableCopy(roles, Role.class);
+        this.permissions = immutableCopy(permissions, Permission.class);
+        this.enabled = enabled;
+        this.accountNonExpired = accountNonExpired;
+        this.accountNonLocked = accountNonLocked;
+        this.credentialsNonExpired = credentialsNonExpired;
+        this.permissionMask = PermissionMask.of(this.permissions);
+        this.authorities = buildAuthorities(this.roles, this.permissions);
+    }
 
-        Set<GrantedAuthority> permissionAuthorities = permissions.stream()
-                .map(permission -> new SimpleGrantedAuthority(permission.getCode()))
-                .collect(Collectors.toSet());
+    private static <E extends Enum<E>> Set<E> immutableCopy(Set<E> values, Class<E> type) {
+        EnumSet<E> copy = EnumSet.noneOf(type);
+        if (values != null) {
+            copy.addAll(values);
+        }
+        return Collections.unmodifiableSet(copy);
+    }
 
-        return Stream.concat(roleAuthorities.stream(), permissionAuthorities.stream())
-                .collect(Collectors.toSet());
+    private static Collection<GrantedAuthority> buildAuthorities(Set<Role> roles, Set<Permission> permissions) {
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size() + permissions.size());
+        for (Role role : roles) {
+            authorities.add(ROLE_AUTHORITIES.get(role));
+        }
+        for (Permission permission : permissions) {
+            authorities.add(PERMISSION_AUTHORITIES.get(permission));
+        }
+        return List.copyOf(authorities);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
     }
 
     @Override
@@ -90,7 +148,21 @@ public class UserPrincipal implements UserDetails {
      * Check if user has a specific permission
      */
     public boolean hasPermission(Permission permission) {
-        return permissions.contains(permission);
+        return permissionMask.contains(permission);
+    }
+
+    /**
+     * Check if user has all permissions of the given mask
+     */
+    public boolean hasAllPermissions(PermissionMask required) {
+        return permissionMask.containsAll(required);
+    }
+
+    /**
+     * Check if user has any permission of the given mask
+     */
+    public boolean hasAnyPermission(PermissionMask candidates) {
+        return permissionMask.containsAny(candidates);
     }
 
     /**
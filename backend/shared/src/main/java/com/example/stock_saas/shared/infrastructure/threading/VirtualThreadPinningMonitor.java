@@ -0,0 +1,96 @@
+package com.example.stock_saas.shared.infrastructure.threading;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports virtual threads pinned to their carrier (e.g. blocking inside a synchronized
+ * block in a JDBC driver or Hibernate) while running in virtual-thread mode
+ * (spring.threads.virtual.enabled=true).
+ *
+ * Listens to the JFR jdk.VirtualThreadPinned event in-process and logs the offending
+ * frames, so pinning shows up in regular logs instead of silently capping throughput
+ * at the number of carrier threads. It is a diagnostic only: pinned threads are neither
+ * prevented nor unpinned, so the fix is in the offending code or a newer JDK.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${app.threads.pinning-threshold-ms:20}") long thresholdMs) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (Runtime.version().feature() < 24) {
+            log.warn("Virtual threads enabled on Java {}: blocking inside synchronized blocks pins carrier threads",
+                    Runtime.version().feature());
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual-thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    /**
+     * Number of pinning events above the threshold since startup
+     */
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        StringBuilder frames = new StringBuilder();
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> stack = event.getStackTrace().getFrames();
+            for (int i = 0; i < Math.min(LOGGED_FRAMES, stack.size()); i++) {
+                RecordedFrame frame = stack.get(i);
+                frames.append("\n\tat ")
+                        .append(frame.getMethod().getType().getName())
+                        .append('.')
+                        .append(frame.getMethod().getName())
+                        .append(':')
+                        .append(frame.getLineNumber());
+            }
+        }
+        log.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), frames);
+    }
+}
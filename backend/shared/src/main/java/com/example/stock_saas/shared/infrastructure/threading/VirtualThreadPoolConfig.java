@@ -0,0 +1,47 @@
+package com.example.stock_saas.shared.infrastructure.threading;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Connection pool settings for virtual-thread mode (spring.threads.virtual.enabled=true).
+ *
+ * Request concurrency is then no longer capped by a platform thread pool, so the
+ * JDBC pool becomes the limit for database work. Hikari pools get a short connection
+ * timeout (app.threads.virtual-connection-timeout-ms, 5s by default) so overload fails
+ * fast instead of parking thousands of virtual threads on the pool. An explicit
+ * spring.datasource.hikari.connection-timeout always wins, and platform-thread mode keeps
+ * the spring.datasource.hikari.* settings as they are.
+ *
+ * Nothing here prevents pinning: blocking inside synchronized code (JDBC drivers,
+ * Hibernate) still pins the carrier on Java 21. {@link VirtualThreadPinningMonitor} only
+ * reports it.
+ */
+@Configuration
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPoolConfig {
+
+    private static final String HIKARI_CONNECTION_TIMEOUT = "spring.datasource.hikari.connection-timeout";
+
+    @Bean
+    public static BeanPostProcessor virtualThreadConnectionTimeoutPostProcessor(Environment environment) {
+        boolean explicitTimeout = Binder.get(environment).bind(HIKARI_CONNECTION_TIMEOUT, Long.class).isBound();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (!explicitTimeout && bean instanceof HikariDataSource hikari) {
+                    hikari.setConnectionTimeout(environment.getProperty(
+                            "app.threads.virtual-connection-timeout-ms", Long.class, 5000L));
+                }
+                return bean;
+            }
+        };
+    }
+}
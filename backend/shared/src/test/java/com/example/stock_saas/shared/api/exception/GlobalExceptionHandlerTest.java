@@ -0,0 +1,31 @@
+package com.example.stock_saas.shared.api.exception;
+
+import com.example.stock_saas.shared.api.response.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void validationErrorsListTheRejectedFields() throws Exception {
+        BeanPropertyBindingResult binding = new BeanPropertyBindingResult(new Object(), "product");
+        binding.addError(new FieldError("product", "sku", "", false, null, null, "must not be blank"));
+        MethodParameter parameter = new MethodParameter(getClass().getDeclaredMethod("validationErrorsListTheRejectedFields"), -1);
+
+        ResponseEntity<ApiResponse<Void>> response =
+                handler.handleValidationErrors(new MethodArgumentNotValidException(parameter, binding), null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getErrors()).containsExactly(
+                new ApiResponse.ErrorDetail("must not be blank", 400, "sku", ""));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.stock_saas.shared.api.response;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiResponseSerializerTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    record Item(String sku, int quantity) {
+    }
+
+    @Test
+    void omitsNullFields() {
+        JsonNode json = jsonMapper.readTree(jsonMapper.writeValueAsString(ApiResponse.success(new Item("A-1", 3))));
+
+        assertThat(json.propertyNames()).containsExactly("success", "data", "timestamp");
+        assertThat(json.get("success").asBoolean()).isTrue();
+        assertThat(json.get("data").get("sku").asString()).isEqualTo("A-1");
+        assertThat(json.get("data").get("quantity").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    void writesErrorDetailsAndMetadata() {
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .success(false)
+                .message("Validation failed")
+                .errors(List.of(new ApiResponse.ErrorDetail("must not be blank", 400, "sku", "")))
+                .metadata(Map.of("requestId", "r-1"))
+                .build();
+
+        JsonNode json = jsonMapper.readTree(jsonMapper.writeValueAsString(response));
+
+        assertThat(json.get("message").asString()).isEqualTo("Validation failed");
+        JsonNode error = json.get("errors").get(0);
+        assertThat(error.get("code").asInt()).isEqualTo(400);
+        assertThat(error.get("field").asString()).isEqualTo("sku");
+        assertThat(error.get("rejectedValue").asString()).isEmpty();
+        assertThat(json.get("metadata").get("requestId").asString()).isEqualTo("r-1");
+        assertThat(json.get("timestamp").asString()).isEqualTo(response.getTimestamp().toString());
+    }
+
+    @Test
+    void constantErrorBodiesAreStampedWhenWritten() {
+        JsonNode json = jsonMapper.readTree(jsonMapper.writeValueAsString(ApiResponse.ACCESS_DENIED));
+
+        assertThat(json.get("success").asBoolean()).isFalse();
+        assertThat(json.get("message").asString()).isEqualTo("Access denied: insufficient permissions");
+        assertThat(json.get("timestamp").isString()).isTrue();
+    }
+
+    @Test
+    void writesPageResponse() {
+        PageResponse<Item> page = PageResponse.<Item>builder()
+                .content(List.of(new Item("A-1", 1)))
+                .page(0)
+                .size(20)
+                .totalElements(1)
+                .totalPages(1)
+                .first(true)
+                .last(true)
+                .build();
+
+        JsonNode json = jsonMapper.readTree(jsonMapper.writeValueAsString(page));
+
+        assertThat(json.propertyNames())
+                .containsExactly("content", "page", "size", "totalElements", "totalPages", "first", "last", "empty");
+        assertThat(json.get("content").get(0).get("sku").asString()).isEqualTo("A-1");
+        assertThat(json.get("totalElements").asLong()).isEqualTo(1);
+        assertThat(json.get("empty").asBoolean()).isFalse();
+    }
+}
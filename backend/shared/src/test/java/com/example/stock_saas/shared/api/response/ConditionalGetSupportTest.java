@@ -0,0 +1,132 @@
+package com.example.stock_saas.shared.api.response;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import com.example.stock_saas.shared.infrastructure.persisitence.EntityVersionQuery;
+import com.example.stock_saas.shared.infrastructure.persisitence.EntityVersionQuery.CollectionVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalGetSupportTest {
+
+    static class Product extends BaseEntity {
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+    private long version = 3;
+    private CollectionVersion collectionVersion =
+            new CollectionVersion(10, 42, Instant.parse("2025-03-01T10:00:00Z"), "0190a000-0000-7000-8000-000000000010");
+
+    private final ConditionalGetSupport conditionalGet = new ConditionalGetSupport(new EntityVersionQuery(null) {
+        @Override
+        public <E extends BaseEntity> Optional<Long> findVersion(Class<E> type, UUID entityId) {
+            return entityId.equals(id) ? Optional.of(version) : Optional.empty();
+        }
+
+        @Override
+        public <E extends BaseEntity> CollectionVersion collectionVersion(Class<E> type) {
+            return collectionVersion;
+        }
+    });
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void returnsNotModifiedWithoutLoadingWhenVersionMatches() {
+        ResponseEntity<ApiResponse<String>> first = conditionalGet.single(Product.class, id, request(null), this::load);
+        String etag = first.getHeaders().getETag();
+
+        ResponseEntity<ApiResponse<String>> second = conditionalGet.single(Product.class, id, request(etag), this::load);
+
+        assertThat(etag).isEqualTo("W/\"" + id + "-3\"");
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadsAgainAfterUpdate() {
+        String etag = conditionalGet.single(Product.class, id, request(null), this::load).getHeaders().getETag();
+        version++;
+
+        ResponseEntity<ApiResponse<String>> response = conditionalGet.single(Product.class, id, request(etag), this::load);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void fallsBackToLoaderForUnknownEntity() {
+        ResponseEntity<ApiResponse<String>> response =
+                conditionalGet.single(Product.class, UUID.randomUUID(), request("*"), this::load);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNull();
+    }
+
+    @Test
+    void collectionTagFollowsTenantCollectionVersion() {
+        String etag = conditionalGet.collection(Product.class, request(null), this::load).getHeaders().getETag();
+
+        assertThat(conditionalGet.collection(Product.class, request(etag), this::load).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        collectionVersion = new CollectionVersion(10, 43, Instant.parse("2025-03-01T10:00:01Z"),
+                "0190a000-0000-7000-8000-000000000010");
+        assertThat(conditionalGet.collection(Product.class, request(etag), this::load).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+
+        TenantContext.setTenantId(UUID.randomUUID());
+        assertThat(conditionalGet.collection(Product.class, request(null), this::load).getHeaders().getETag())
+                .isNotEqualTo(etag);
+    }
+
+    @Test
+    void collectionTagChangesWhenADeleteAndAnInsertKeepCountSumAndLastUpdate() {
+        String etag = conditionalGet.collection(Product.class, request(null), this::load).getHeaders().getETag();
+
+        // A never-updated row hard deleted and a new one inserted in the same timestamp tick
+        collectionVersion = new CollectionVersion(10, 42, Instant.parse("2025-03-01T10:00:00Z"),
+                "0190a000-0000-7000-8000-000000000011");
+
+        assertThat(conditionalGet.collection(Product.class, request(etag), this::load).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    private String load() {
+        loads.incrementAndGet();
+        return "product";
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
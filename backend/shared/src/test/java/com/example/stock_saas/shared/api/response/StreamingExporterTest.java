@@ -0,0 +1,149 @@
+package com.example.stock_saas.shared.api.response;
+
+import com.example.stock_saas.shared.api.exception.GlobalExceptionHandler;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import com.example.stock_saas.shared.infrastructure.persisitence.EntityStreamer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StreamingExporterTest {
+
+    private final StreamingExporter exporter = new StreamingExporter(new EntityStreamer(null), JsonMapper.builder().build());
+
+    record Row(int id, String name, BigDecimal quantity) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void writesOneJsonDocumentPerLine() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = exporter.ndjson("stock", sink -> {
+            sink.accept(new Row(1, "bolt", new BigDecimal("2.50")));
+            sink.accept(new Row(2, "nut", null));
+        });
+
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("stock.ndjson");
+        assertThat(write(response).split("\n"))
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"id\":"));
+    }
+
+    @Test
+    void writesEscapedCsvWithHeader() throws Exception {
+        List<ExportColumn<Row>> columns = List.of(
+                ExportColumn.of("id", Row::id),
+                ExportColumn.of("name", Row::name),
+                ExportColumn.of("quantity", Row::quantity));
+
+        ResponseEntity<StreamingResponseBody> response = exporter.csv("stock", columns, sink -> {
+            sink.accept(new Row(1, "bolt, \"M8\"", new BigDecimal("1E+3")));
+            sink.accept(new Row(2, null, null));
+        });
+
+        assertThat(write(response)).isEqualTo("id,name,quantity\r\n1,\"bolt, \"\"M8\"\"\",1000\r\n2,,\r\n");
+    }
+
+    @Test
+    void leavesResponseUncommittedWhenFailingEarly() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = exporter.ndjson("stock", sink -> {
+            sink.accept(new Row(1, "bolt", BigDecimal.ONE));
+            throw new IllegalStateException("database gone");
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> response.getBody().writeTo(out)).isInstanceOf(IllegalStateException.class);
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    void endsWithErrorEnvelopeWhenFailingAfterRowsWereSent() throws Exception {
+        int rows = StreamingExporter.BUFFER_SIZE / 10;
+        ResponseEntity<StreamingResponseBody> response = exporter.ndjson("stock", sink -> {
+            for (int i = 0; i < rows; i++) {
+                sink.accept(new Row(i, "item-" + i, BigDecimal.ONE));
+            }
+            throw new IllegalStateException("database gone");
+        });
+
+        String[] lines = write(response).split("\n");
+
+        assertThat(lines).hasSize(rows + 1);
+        assertThat(lines[rows]).contains("\"success\":false").contains("Export aborted after " + rows + " rows");
+    }
+
+    @Test
+    void earlyFailureIsRenderedAsApiResponseError() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ExportController(exporter))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        MvcResult started = mockMvc.perform(get("/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value(ApiResponse.UNEXPECTED_ERROR.getMessage()));
+    }
+
+    @RestController
+    static class ExportController {
+
+        private final StreamingExporter exporter;
+
+        ExportController(StreamingExporter exporter) {
+            this.exporter = exporter;
+        }
+
+        @GetMapping("/export")
+        ResponseEntity<StreamingResponseBody> export() {
+            return exporter.ndjson("stock", sink -> {
+                sink.accept(new Row(1, "bolt", BigDecimal.ONE));
+                throw new IllegalStateException("database gone");
+            });
+        }
+    }
+
+    private String write(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.stock_saas.shared.common.constant;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermissionMaskTest {
+
+    @Test
+    void everySinglePermissionRoundTrips() {
+        for (Permission permission : Permission.values()) {
+            PermissionMask mask = PermissionMask.of(permission);
+
+            assertThat(mask.toSet()).containsExactly(permission);
+            assertThat(mask.size()).isEqualTo(1);
+            assertThat(mask.contains(permission)).isTrue();
+            assertThat(EnumSet.complementOf(EnumSet.of(permission))).noneMatch(mask::contains);
+        }
+    }
+
+    @Test
+    void randomSubsetsRoundTripAndMatchSetSemantics() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int round = 0; round < 500; round++) {
+            Set<Permission> left = randomSubset(random);
+            Set<Permission> right = randomSubset(random);
+            PermissionMask leftMask = PermissionMask.of(left);
+            PermissionMask rightMask = PermissionMask.of(right.toArray(Permission[]::new));
+
+            assertThat(leftMask.toSet()).isEqualTo(left);
+            assertThat(leftMask.size()).isEqualTo(left.size());
+            assertThat(leftMask.isEmpty()).isEqualTo(left.isEmpty());
+            assertThat(leftMask.containsAll(rightMask)).isEqualTo(left.containsAll(right));
+            assertThat(leftMask.containsAny(rightMask)).isEqualTo(right.stream().anyMatch(left::contains));
+
+            Set<Permission> union = EnumSet.noneOf(Permission.class);
+            union.addAll(left);
+            union.addAll(right);
+            assertThat(leftMask.union(rightMask)).isEqualTo(PermissionMask.of(union));
+            assertThat(PermissionMask.of(List.copyOf(left))).isEqualTo(leftMask).hasSameHashCodeAs(leftMask);
+        }
+    }
+
+    @Test
+    void emptyAndNullCollectionsAreTheEmptyMask() {
+        assertThat(PermissionMask.of((Set<Permission>) null)).isSameAs(PermissionMask.EMPTY);
+        assertThat(PermissionMask.of(Set.of())).isSameAs(PermissionMask.EMPTY);
+        assertThat(PermissionMask.of()).isEqualTo(PermissionMask.EMPTY);
+        assertThat(PermissionMask.EMPTY.toSet()).isEmpty();
+        assertThat(PermissionMask.of(Permission.values()).containsAll(PermissionMask.EMPTY)).isTrue();
+        assertThat(PermissionMask.of(Permission.values()).containsAny(PermissionMask.EMPTY)).isFalse();
+    }
+
+    private static Set<Permission> randomSubset(SplittableRandom random) {
+        Set<Permission> subset = EnumSet.noneOf(Permission.class);
+        for (Permission permission : Permission.values()) {
+            if (random.nextInt(4) == 0) {
+                subset.add(permission);
+            }
+        }
+        return subset;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.stock_saas.shared.common.constant;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PermissionTest {
+
+    @Test
+    void everyCodeResolvesToItsPermission() {
+        for (Permission permission : Permission.values()) {
+            assertThat(Permission.fromCode(permission.getCode())).isSameAs(permission);
+        }
+    }
+
+    @Test
+    void decodesCodeListsIntoSetsAndMasks() {
+        List<String> codes = List.of("product:view", "inventory:adjust", "product:view", "system:logs:view");
+
+        assertThat(Permission.fromCodes(codes))
+                .containsExactly(Permission.PRODUCT_VIEW, Permission.INVENTORY_ADJUST, Permission.SYSTEM_VIEW_LOGS);
+        assertThat(PermissionMask.fromCodes(codes)).isEqualTo(PermissionMask.of(Permission.fromCodes(codes)));
+        assertThat(Permission.fromCodes(List.of())).isEmpty();
+        assertThat(PermissionMask.fromCodes(List.of())).isEqualTo(PermissionMask.EMPTY);
+
+        List<String> allCodes = Arrays.stream(Permission.values()).map(Permission::getCode).toList();
+        assertThat(PermissionMask.fromCodes(allCodes)).isEqualTo(PermissionMask.of(Permission.values()));
+    }
+
+    @Test
+    void rejectsUnknownCodes() {
+        List<String> codes = List.of("product:view", "product:teleport");
+
+        assertThatThrownBy(() -> Permission.fromCode("PRODUCT_VIEW"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown permission code: PRODUCT_VIEW");
+        assertThatThrownBy(() -> Permission.fromCodes(codes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown permission code: product:teleport");
+        assertThatThrownBy(() -> PermissionMask.fromCodes(codes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown permission code: product:teleport");
+    }
+}
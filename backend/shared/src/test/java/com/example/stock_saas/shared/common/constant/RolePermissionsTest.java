@@ -0,0 +1,56 @@
+package com.example.stock_saas.shared.common.constant;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RolePermissionsTest {
+
+    @Test
+    void precomputedTableMatchesUnionForEveryRoleCombination() {
+        Role[] roles = Role.values();
+        for (int combination = 0; combination < (1 << roles.length); combination++) {
+            Set<Role> roleSet = EnumSet.noneOf(Role.class);
+            Set<Permission> expected = EnumSet.noneOf(Permission.class);
+            for (Role role : roles) {
+                if ((combination & (1 << role.ordinal())) != 0) {
+                    roleSet.add(role);
+                    expected.addAll(RolePermissions.getPermissionsForRole(role));
+                }
+            }
+
+            assertThat(RolePermissions.getPermissionsForRoles(roleSet)).isEqualTo(expected);
+            assertThat(RolePermissions.getPermissionMaskForRoles(roleSet)).isEqualTo(PermissionMask.of(expected));
+        }
+    }
+
+    @Test
+    void roleHasPermissionMatchesDefaultPermissions() {
+        for (Role role : Role.values()) {
+            for (Permission permission : Permission.values()) {
+                assertThat(RolePermissions.roleHasPermission(role, permission))
+                        .isEqualTo(RolePermissions.getPermissionsForRole(role).contains(permission));
+            }
+        }
+    }
+
+    @Test
+    void roleHierarchyClosureMatchesLevels() {
+        for (Role role : Role.values()) {
+            Set<Role> atOrBelow = Arrays.stream(Role.values())
+                    .filter(r -> r.getLevel() <= role.getLevel())
+                    .collect(Collectors.toSet());
+            Set<Role> above = Arrays.stream(Role.values())
+                    .filter(r -> r.getLevel() > role.getLevel())
+                    .collect(Collectors.toSet());
+
+            assertThat(role.getRolesAtOrBelow()).isEqualTo(atOrBelow);
+            assertThat(role.getRolesAbove()).isEqualTo(above);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.stock_saas.shared.common.constant;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoleTest {
+
+    @Test
+    void resolvesExactNames() {
+        for (Role role : Role.values()) {
+            assertThat(Role.fromString(role.name())).isSameAs(role);
+        }
+    }
+
+    @Test
+    void fallsBackToCaseInsensitiveMatch() {
+        assertThat(Role.fromString("tenant_owner")).isSameAs(Role.TENANT_OWNER);
+        assertThat(Role.fromString("Manager")).isSameAs(Role.MANAGER);
+        assertThat(Role.fromString("vIeWeR")).isSameAs(Role.VIEWER);
+    }
+
+    @Test
+    void rejectsUnknownNames() {
+        assertThatThrownBy(() -> Role.fromString("OWNER"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown role: OWNER");
+        assertThatThrownBy(() -> Role.fromString(" admin"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Role.fromString(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.stock_saas.shared.domain.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TimeOrderedUuidGeneratorTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void setsVersionSevenVariantAndCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuidGenerator.timeOrdered();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after + 1);
+    }
+
+    @Test
+    void staysMonotonicWithinTheSameMillisecond() {
+        List<UUID> generated = new ArrayList<>(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            generated.add(TimeOrderedUuidGenerator.timeOrdered());
+        }
+
+        long sameMillisecondPairs = 0;
+        for (int i = 1; i < generated.size(); i++) {
+            UUID previous = generated.get(i - 1);
+            UUID current = generated.get(i);
+            assertThat(current).isGreaterThan(previous);
+            if (previous.getMostSignificantBits() >>> 16 == current.getMostSignificantBits() >>> 16) {
+                sameMillisecondPairs++;
+            }
+        }
+        assertThat(sameMillisecondPairs).isPositive();
+    }
+
+    @Test
+    @Transactional
+    void generatesTimeOrderedIdsUnlessTheEntityOverridesTheVersion() {
+        UUID tenantId = UUID.randomUUID();
+        TimeOrderedItem timeOrdered = new TimeOrderedItem();
+        timeOrdered.setTenantId(tenantId);
+        RandomItem random = new RandomItem();
+        random.setTenantId(tenantId);
+
+        entityManager.persist(timeOrdered);
+        entityManager.persist(random);
+
+        assertThat(timeOrdered.getId().version()).isEqualTo(7);
+        assertThat(random.getId().version()).isEqualTo(4);
+        assertThat(random.getId().variant()).isEqualTo(2);
+    }
+
+    @Entity
+    @Table(name = "uuid_time_ordered_items")
+    static class TimeOrderedItem extends BaseEntity {
+    }
+
+    @Entity
+    @Table(name = "uuid_random_items")
+    @EntityUuidVersion(UuidVersion.RANDOM)
+    static class RandomItem extends BaseEntity {
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantAwareRegionFactoryTest {
+
+    private final ManualClockRegionFactory regionFactory = new ManualClockRegionFactory();
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:soft_lock_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, true)
+                .applySetting(AvailableSettings.CACHE_REGION_FACTORY, regionFactory)
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(LockTestItem.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+        TenantContext.setTenantId(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+        TenantContext.clear();
+    }
+
+    @Test
+    void timeoutIsInTimestampUnits() {
+        assertThat(new TenantAwareRegionFactory(new InMemoryCacheStore(), properties(), new CacheMetrics()).getTimeout())
+                .isEqualTo(60_000);
+    }
+
+    @Test
+    void softLocksLeftByAFailedWriterExpireAfterTheTimeout() {
+        sessionFactory.inTransaction(session -> session.persist(new LockTestItem(1L, "widget")));
+        assertThat(cacheHitOnLoad()).isTrue();
+
+        // A writer that locked the entry and never unlocked it, e.g. a node that died mid-transaction
+        EntityPersister persister = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel().getEntityDescriptor(LockTestItem.class);
+        EntityDataAccess access = persister.getCacheAccessStrategy();
+        try (Session session = sessionFactory.openSession()) {
+            Object key = access.generateCacheKey(1L, persister, persister.getFactory(), null);
+            access.lockItem(session.unwrap(SharedSessionContractImplementor.class), key, 0L);
+        }
+
+        regionFactory.advance(1_000);
+        assertThat(cacheHitOnLoad()).isFalse();
+        assertThat(cacheHitOnLoad()).isFalse();
+
+        regionFactory.advance(TenantAwareRegionFactory.LOCK_TIMEOUT_MS);
+        assertThat(cacheHitOnLoad()).isFalse();
+        assertThat(cacheHitOnLoad()).isTrue();
+    }
+
+    private boolean cacheHitOnLoad() {
+        // Entries are readable by transactions that start after they were cached
+        regionFactory.advance(1);
+        long hits = statistics.getSecondLevelCacheHitCount();
+        try (Session session = sessionFactory.openSession()) {
+            assertThat(session.find(LockTestItem.class, 1L).name).isEqualTo("widget");
+        }
+        return statistics.getSecondLevelCacheHitCount() > hits;
+    }
+
+    private static CacheProperties properties() {
+        return new CacheProperties(true, true, 600_000, 0, 1_000, 1 << 20);
+    }
+
+    /**
+     * Region factory whose clock only moves when the test advances it
+     */
+    static class ManualClockRegionFactory extends TenantAwareRegionFactory {
+
+        private long now = System.currentTimeMillis();
+
+        ManualClockRegionFactory() {
+            super(new InMemoryCacheStore(), properties(), new CacheMetrics());
+        }
+
+        @Override
+        public long nextTimestamp() {
+            return now;
+        }
+
+        void advance(long millis) {
+            now += millis;
+        }
+    }
+
+    @Entity(name = "LockTestItem")
+    @Table(name = "lock_test_items")
+    @Cacheable
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    static class LockTestItem {
+
+        @Id
+        private Long id;
+
+        @Version
+        private long version;
+
+        private String name;
+
+        LockTestItem() {
+        }
+
+        LockTestItem(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantCacheRegionStorageTest {
+
+    private final UUID tenantA = UUID.randomUUID();
+    private final UUID tenantB = UUID.randomUUID();
+    private final InMemoryCacheStore store = new InMemoryCacheStore();
+    private final CacheMetrics metrics = new CacheMetrics();
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void entityEntriesAreOnlyServedToTheirTenant() {
+        TenantCacheRegionStorage region = region("product", RegionKind.ENTITY, 1 << 20);
+        UUID id = UUID.randomUUID();
+
+        TenantContext.setTenantId(tenantA);
+        region.putIntoCache(id, "product-a", null);
+        assertThat(region.getFromCache(id, null)).isEqualTo("product-a");
+
+        TenantContext.setTenantId(tenantB);
+        assertThat(region.getFromCache(id, null)).isNull();
+    }
+
+    @Test
+    void entityEntriesAreHiddenOutsideTheirTenant() {
+        TenantCacheRegionStorage node1 = region("product", RegionKind.ENTITY, 1 << 20);
+        TenantCacheRegionStorage node2 = region("product", RegionKind.ENTITY, 1 << 20);
+        UUID id = UUID.randomUUID();
+
+        TenantContext.setTenantId(tenantA);
+        node1.putIntoCache(id, "product-a", null);
+        assertThat(node1.contains(id)).isTrue();
+
+        TenantContext.setTenantId(tenantB);
+        assertThat(node1.contains(id)).isFalse();
+
+        // Platform jobs and code running before the tenant filter have no tenant: near and remote miss
+        TenantContext.clear();
+        assertThat(node1.getFromCache(id, null)).isNull();
+        assertThat(node2.getFromCache(id, null)).isNull();
+        assertThat(node1.contains(id)).isFalse();
+    }
+
+    @Test
+    void timestampsAreSharedByEveryTenant() {
+        TenantCacheRegionStorage region = region("default-update-timestamps-region", RegionKind.TIMESTAMPS, 1 << 20);
+
+        TenantContext.setTenantId(tenantA);
+        region.putIntoCache("products", 42L, null);
+
+        TenantContext.setTenantId(tenantB);
+        assertThat(region.getFromCache("products", null)).isEqualTo(42L);
+        TenantContext.clear();
+        assertThat(region.getFromCache("products", null)).isEqualTo(42L);
+        assertThat(region.contains("products")).isTrue();
+    }
+
+    @Test
+    void queryResultsAreNamespacedByTenant() {
+        TenantCacheRegionStorage region = region("default-query-results-region", RegionKind.QUERY, 1 << 20);
+
+        TenantContext.setTenantId(tenantA);
+        region.putIntoCache("from Product", "results-a", null);
+        TenantContext.setTenantId(tenantB);
+        region.putIntoCache("from Product", "results-b", null);
+
+        assertThat(region.getFromCache("from Product", null)).isEqualTo("results-b");
+        TenantContext.setTenantId(tenantA);
+        assertThat(region.getFromCache("from Product", null)).isEqualTo("results-a");
+    }
+
+    @Test
+    void remoteEntriesAreVisibleAcrossNodes() {
+        TenantCacheRegionStorage node1 = region("warehouse", RegionKind.ENTITY, 1 << 20);
+        TenantCacheRegionStorage node2 = region("warehouse", RegionKind.ENTITY, 1 << 20);
+        UUID id = UUID.randomUUID();
+
+        TenantContext.setTenantId(tenantA);
+        node1.putIntoCache(id, "warehouse-1", null);
+        assertThat(node2.getFromCache(id, null)).isEqualTo("warehouse-1");
+        assertThat(node2.getFromCache(id, null)).isEqualTo("warehouse-1");
+
+        CacheMetrics.CacheStats stats = metrics.getRegionStats().getFirst();
+        assertThat(stats.remoteHits()).isEqualTo(1);
+        assertThat(stats.nearHits()).isEqualTo(1);
+
+        node1.evictData(id);
+        assertThat(store.get("l2:warehouse:".concat(id.toString()).getBytes())).isNull();
+    }
+
+    @Test
+    void rejectedWritesOverBudgetEvictThePreviousEntry() {
+        TenantCacheRegionStorage region = region("product", RegionKind.ENTITY, 400);
+        UUID id = UUID.randomUUID();
+
+        TenantContext.setTenantId(tenantA);
+        region.putIntoCache(id, "v1", null);
+        region.putIntoCache(id, "v2".repeat(200), null);
+
+        assertThat(region.getFromCache(id, null)).isNull();
+        assertThat(metrics.getTenantStats())
+                .filteredOn(stats -> stats.name().equals(tenantA.toString()))
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.budgetRejections()).isEqualTo(1));
+    }
+
+    @Test
+    void writesOutsideTenantContextEvictEntityEntries() {
+        TenantCacheRegionStorage region = region("product", RegionKind.ENTITY, 1 << 20);
+        UUID id = UUID.randomUUID();
+
+        TenantContext.setTenantId(tenantA);
+        region.putIntoCache(id, "v1", null);
+        TenantContext.clear();
+        region.putIntoCache(id, "v2", null);
+
+        TenantContext.setTenantId(tenantA);
+        assertThat(region.getFromCache(id, null)).isNull();
+    }
+
+    @Test
+    void remoteEntriesOfClassesOutsideTheAllowListAreMisses() {
+        TenantCacheRegionStorage node1 = region("product", RegionKind.ENTITY, 1 << 20);
+        TenantCacheRegionStorage node2 = region("product", RegionKind.ENTITY, 1 << 20);
+        UUID allowed = UUID.randomUUID();
+        UUID rejected = UUID.randomUUID();
+
+        TenantContext.setTenantId(tenantA);
+        node1.putIntoCache(allowed, new Serializable[]{"sku-1", BigDecimal.TEN, Instant.EPOCH, (Serializable) List.of(1L, 2L)}, null);
+        node1.putIntoCache(rejected, URI.create("https://example.com"), null);
+
+        // Hibernate disassembles entity state into a Serializable[]
+        assertThat((Object[]) node2.getFromCache(allowed, null))
+                .containsExactly("sku-1", BigDecimal.TEN, Instant.EPOCH, List.of(1L, 2L));
+        assertThat(node2.getFromCache(rejected, null)).isNull();
+    }
+
+    private TenantCacheRegionStorage region(String name, RegionKind kind, long budgetBytes) {
+        return new TenantCacheRegionStorage(name, kind, store, new TinyLfuCache<>(100, 60_000), metrics,
+                new TenantCacheBudget(store, budgetBytes, 60_000), 60_000);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TinyLfuCacheTest {
+
+    @Test
+    void staysWithinMaximumSize() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100, 0);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i, i);
+        }
+        assertThat(cache.size()).isEqualTo(100);
+    }
+
+    @Test
+    void popularEntriesSurviveAScan() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100, 0);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                if (cache.getIfPresent(i) == null) {
+                    cache.put(i, i);
+                }
+            }
+        }
+
+        for (int i = 1_000; i < 11_000; i++) {
+            cache.put(i, i);
+        }
+
+        int retained = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.getIfPresent(i) != null) {
+                retained++;
+            }
+        }
+        assertThat(retained).isGreaterThanOrEqualTo(45);
+    }
+
+    @Test
+    void expiresEntriesAfterWrite() throws InterruptedException {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, 20);
+        cache.put("key", "value");
+        assertThat(cache.getIfPresent("key")).isEqualTo("value");
+
+        Thread.sleep(40);
+        assertThat(cache.getIfPresent("key")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
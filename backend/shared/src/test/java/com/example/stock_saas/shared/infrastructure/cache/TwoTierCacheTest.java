@@ -0,0 +1,110 @@
+package com.example.stock_saas.shared.infrastructure.cache;
+
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest {
+
+    private final InMemoryCacheStore store = new InMemoryCacheStore();
+    private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+    private final TwoTierCacheManager node1 = new TwoTierCacheManager(store, bus, new CacheMetrics());
+    private final TwoTierCacheManager node2 = new TwoTierCacheManager(store, bus, new CacheMetrics());
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void invalidationIsBroadcastToOtherNodes() {
+        TwoTierCache<String> cache1 = node1.create("settings", TwoTierCacheSpec.builder().build());
+        TwoTierCache<String> cache2 = node2.create("settings", TwoTierCacheSpec.builder().build());
+
+        assertThat(cache1.get("currency", () -> "EUR")).isEqualTo("EUR");
+        assertThat(cache2.get("currency", () -> "unused")).isEqualTo("EUR");
+
+        cache1.invalidate("currency");
+
+        assertThat(cache2.get("currency", () -> "USD")).isEqualTo("USD");
+        assertThat(cache1.get("currency", () -> "unused")).isEqualTo("USD");
+    }
+
+    @Test
+    void tenantScopedKeysDoNotLeakBetweenTenants() {
+        TwoTierCache<String> cache = node1.create("tenant-settings",
+                TwoTierCacheSpec.builder().tenantScoped(true).build());
+
+        TenantContext.setTenantId(UUID.randomUUID());
+        assertThat(cache.get("locale", () -> "fr")).isEqualTo("fr");
+        TenantContext.setTenantId(UUID.randomUUID());
+        assertThat(cache.get("locale", () -> "de")).isEqualTo("de");
+    }
+
+    @Test
+    void putDuringALoadIsNotOverwrittenByTheLoadedValue() throws Exception {
+        TwoTierCache<String> cache1 = node1.create("prices", TwoTierCacheSpec.builder().build());
+        TwoTierCache<String> cache2 = node2.create("prices", TwoTierCacheSpec.builder().build());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> load = executor.submit(() -> cache1.get("sku-1", () -> {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "9.99";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            cache1.put("sku-1", "12.50");
+            release.countDown();
+            assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("9.99");
+        }
+
+        assertThat(cache1.get("sku-1", () -> "reloaded")).isEqualTo("12.50");
+        assertThat(cache2.get("sku-1", () -> "reloaded")).isEqualTo("12.50");
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        TwoTierCache<String> cache = node1.create("products", TwoTierCacheSpec.builder().build());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 32; i++) {
+                results.add(executor.submit(() -> cache.get("sku-1", () -> {
+                    loads.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "Widget";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Widget");
+            }
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainEventPublisherTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(ListenerConfig.class, DomainEventPublisher.class, OutboxWriter.class);
+
+    @Test
+    void publishesDirectlyWithoutAnyOutboxBeans() {
+        runner.run(context -> {
+            assertThat(context).hasNotFailed()
+                    .doesNotHaveBean(OutboxWriter.class)
+                    .doesNotHaveBean(OutboxEventRepository.class)
+                    .doesNotHaveBean(DomainEventSerializer.class);
+
+            DomainEvent event = new OutboxDispatcherTest.OutboxTestEvent(UUID.randomUUID(), 1);
+            context.getBean(DomainEventPublisher.class).publish(event);
+            assertThat(context.getBean(ListenerConfig.class).received).containsExactly(event);
+        });
+    }
+
+    @Configuration
+    static class ListenerConfig {
+
+        private final List<DomainEvent> received = new ArrayList<>();
+
+        @EventListener
+        void onEvent(DomainEvent event) {
+            received.add(event);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.BaseDomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+        "app.events.outbox.enabled=true",
+        "app.events.outbox.batch-size=5",
+        "app.events.outbox.max-attempts=3",
+        "app.events.outbox.retry-backoff-ms=0",
+        "app.events.outbox.poll-interval-ms=3600000",
+        // Writers of a tenant wait on its outbox lock row; H2 gives up after 1s by default
+        "spring.datasource.url=jdbc:h2:mem:outbox_dispatcher;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000"
+})
+class OutboxDispatcherTest {
+
+    private final UUID tenantA = UUID.randomUUID();
+    private final UUID tenantB = UUID.randomUUID();
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private DomainEventSerializer serializer;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private OutboxProperties properties;
+    @Autowired
+    private RecordingListener listener;
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+        listener.reset();
+    }
+
+    @Test
+    void dispatchesInBatchesToTransactionalListeners() {
+        store(tenantA, 6);
+        store(tenantB, 6);
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(5);
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(5);
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(2);
+        assertThat(dispatcher.dispatchBatch()).isZero();
+
+        assertThat(listener.delivered(tenantA)).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(listener.delivered(tenantB)).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void publisherWritesToTheOutboxUntilDispatched() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> domainEventPublisher.publishAll(
+                new OutboxTestEvent(tenantA, 0), new OutboxTestEvent(tenantA, 1)));
+
+        assertThat(outboxEventRepository.count()).isEqualTo(2);
+        assertThat(listener.delivered(tenantA)).isEmpty();
+
+        dispatcher.dispatchPending();
+        assertThat(listener.delivered(tenantA)).containsExactly(0, 1);
+    }
+
+    @Test
+    void sameTenantWritersCommitInOutboxOrder() throws Exception {
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+
+        try (ExecutorService writers = Executors.newFixedThreadPool(3)) {
+            Future<?> first = writers.submit(() -> publish(tenantA, 0, firstWritten, commitFirst));
+            firstWritten.await();
+            Future<?> second = writers.submit(() -> publish(tenantA, 1, new CountDownLatch(1), new CountDownLatch(0)));
+            Future<?> otherTenant = writers.submit(() -> publish(tenantB, 0, new CountDownLatch(1), new CountDownLatch(0)));
+
+            try {
+                otherTenant.get(5, TimeUnit.SECONDS);
+                Thread.sleep(200);
+                assertThat(second).isNotDone();
+                dispatcher.dispatchPending();
+                assertThat(listener.delivered(tenantA)).isEmpty();
+                assertThat(listener.delivered(tenantB)).containsExactly(0);
+            } finally {
+                commitFirst.countDown();
+            }
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        }
+
+        dispatcher.dispatchPending();
+        assertThat(listener.delivered(tenantA)).containsExactly(0, 1);
+    }
+
+    @Test
+    void failureHoldsBackTheRestOfTheTenantOnly() {
+        store(tenantA, 3);
+        store(tenantB, 2);
+        listener.failOnce(tenantA, 1);
+
+        assertThat(dispatcher.dispatchBatch()).isZero();
+        assertThat(listener.delivered(tenantA)).containsExactly(0);
+        assertThat(listener.delivered(tenantB)).containsExactly(0, 1);
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAttempts, OutboxEvent::getClaimedBy)
+                .containsExactlyInAnyOrder(tuple(1, null), tuple(0, null));
+
+        dispatcher.dispatchPending();
+        assertThat(listener.delivered(tenantA)).containsExactly(0, 1, 2);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void failedEventsWaitForTheirRetryTogetherWithTheRestOfTheTenant() {
+        OutboxProperties backoff = new OutboxProperties(true, 5, 3_600_000, 3, 60_000, 600_000, 60_000, 8, true);
+        OutboxDispatcher node = new OutboxDispatcher(outboxEventRepository, serializer, eventPublisher,
+                transactionManager, backoff);
+        try {
+            store(tenantA, 3);
+            listener.failOnce(tenantA, 1);
+            Instant failedAt = Instant.now();
+            node.dispatchBatch();
+            assertThat(listener.delivered(tenantA)).containsExactly(0);
+            assertThat(outboxEventRepository.findAll())
+                    .filteredOn(outboxEvent -> outboxEvent.getAttempts() == 1)
+                    .singleElement()
+                    .extracting(OutboxEvent::getNextAttemptAt)
+                    .satisfies(retryAt -> assertThat(retryAt).isAfterOrEqualTo(failedAt.plusSeconds(60)));
+
+            store(tenantB, 2);
+            node.dispatchPending();
+            assertThat(listener.delivered(tenantA)).containsExactly(0);
+            assertThat(listener.delivered(tenantB)).containsExactly(0, 1);
+
+            jdbc.update("UPDATE outbox_events SET next_attempt_at = ?", Timestamp.from(Instant.now().minusSeconds(1)));
+            node.dispatchPending();
+            assertThat(listener.delivered(tenantA)).containsExactly(0, 1, 2);
+        } finally {
+            node.destroy();
+        }
+    }
+
+    @Test
+    void retryDelayDoublesUpToTheLimit() {
+        OutboxProperties backoff = new OutboxProperties(true, 5, 500, 10, 1_000, 300_000, 60_000, 8, true);
+
+        assertThat(IntStream.rangeClosed(1, 11).mapToLong(backoff::retryDelayMs).boxed().toList())
+                .containsExactly(1_000L, 2_000L, 4_000L, 8_000L, 16_000L, 32_000L, 64_000L, 128_000L,
+                        256_000L, 300_000L, 300_000L);
+        assertThat(backoff.retryDelayMs(Integer.MAX_VALUE)).isEqualTo(300_000L);
+    }
+
+    @Test
+    void parksEventAfterMaxAttempts() {
+        store(tenantA, 2);
+        listener.failAlways(tenantA, 0);
+
+        for (int round = 0; round < properties.maxAttempts(); round++) {
+            dispatcher.dispatchBatch();
+        }
+
+        OutboxEvent parked = outboxEventRepository.findAll().stream()
+                .filter(outboxEvent -> outboxEvent.getStatus() == OutboxEvent.Status.FAILED)
+                .findFirst()
+                .orElseThrow();
+        assertThat(parked.getAttempts()).isEqualTo(3);
+        assertThat(parked.getLastError()).contains("listener failure");
+        assertThat(listener.delivered(tenantA)).isEmpty();
+
+        // A parked event no longer blocks the tenant
+        dispatcher.dispatchBatch();
+        assertThat(listener.delivered(tenantA)).containsExactly(1);
+    }
+
+    @Test
+    void concurrentNodesDeliverEachEventOnceInTenantOrder() throws Exception {
+        List<UUID> tenants = IntStream.range(0, 4).mapToObj(i -> UUID.randomUUID()).toList();
+        for (int round = 0; round < 25; round++) {
+            for (UUID tenant : tenants) {
+                store(tenant, round, 1);
+            }
+        }
+        OutboxDispatcher otherNode = new OutboxDispatcher(outboxEventRepository, serializer, eventPublisher,
+                transactionManager, properties);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService nodes = Executors.newFixedThreadPool(2)) {
+            List<Future<?>> runs = new ArrayList<>();
+            for (OutboxDispatcher node : List.of(dispatcher, otherNode)) {
+                runs.add(nodes.submit(() -> {
+                    start.await();
+                    while (outboxEventRepository.count() > 0) {
+                        node.dispatchBatch();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            otherNode.destroy();
+        }
+
+        for (UUID tenant : tenants) {
+            assertThat(listener.delivered(tenant)).containsExactlyElementsOf(IntStream.range(0, 25).boxed().toList());
+        }
+    }
+
+    /**
+     * Publish one event, signal {@code written} and commit once {@code commit} opens
+     */
+    private Void publish(UUID tenantId, int sequence, CountDownLatch written, CountDownLatch commit) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            domainEventPublisher.publish(new OutboxTestEvent(tenantId, sequence));
+            written.countDown();
+            try {
+                commit.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        });
+        return null;
+    }
+
+    private void store(UUID tenantId, int count) {
+        store(tenantId, 0, count);
+    }
+
+    private void store(UUID tenantId, int firstSequence, int count) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int sequence = firstSequence; sequence < firstSequence + count; sequence++) {
+                OutboxTestEvent event = new OutboxTestEvent(tenantId, sequence);
+                outboxEventRepository.save(OutboxEvent.pending(event, serializer.serialize(event)));
+            }
+        });
+    }
+
+    @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class OutboxTestEvent extends BaseDomainEvent {
+
+        private final int sequence;
+
+        OutboxTestEvent(UUID tenantId, int sequence) {
+            super(tenantId, null);
+            this.sequence = sequence;
+        }
+
+        @JsonCreator
+        OutboxTestEvent(@JsonProperty("eventId") UUID eventId,
+                        @JsonProperty("occurredAt") Instant occurredAt,
+                        @JsonProperty("tenantId") UUID tenantId,
+                        @JsonProperty("sequence") int sequence) {
+            super(eventId, occurredAt, tenantId, null);
+            this.sequence = sequence;
+        }
+    }
+
+    static class RecordingListener {
+
+        private final Map<UUID, List<Integer>> delivered = new ConcurrentHashMap<>();
+        private final Set<String> failOnce = ConcurrentHashMap.newKeySet();
+        private final Set<String> failAlways = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Synchronous listener: its failures reach the dispatcher
+         */
+        @EventListener
+        public void check(OutboxTestEvent event) {
+            String key = event.getTenantId() + "/" + event.getSequence();
+            if (failOnce.remove(key) || failAlways.contains(key)) {
+                throw new IllegalStateException("listener failure on " + key);
+            }
+        }
+
+        @TransactionalEventListener
+        public void record(OutboxTestEvent event) {
+            delivered.computeIfAbsent(event.getTenantId(), tenantId -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.getSequence());
+        }
+
+        List<Integer> delivered(UUID tenantId) {
+            return delivered.getOrDefault(tenantId, List.of());
+        }
+
+        void failOnce(UUID tenantId, int sequence) {
+            failOnce.add(tenantId + "/" + sequence);
+        }
+
+        void failAlways(UUID tenantId, int sequence) {
+            failAlways.add(tenantId + "/" + sequence);
+        }
+
+        void reset() {
+            delivered.clear();
+            failOnce.clear();
+            failAlways.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class ListenerConfig {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
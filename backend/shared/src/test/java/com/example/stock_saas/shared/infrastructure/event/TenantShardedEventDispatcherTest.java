@@ -0,0 +1,138 @@
+package com.example.stock_saas.shared.infrastructure.event;
+
+import com.example.stock_saas.shared.domain.event.BaseDomainEvent;
+import com.example.stock_saas.shared.domain.event.DomainEvent;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantShardedEventDispatcherTest {
+
+    private final Map<UUID, List<Integer>> delivered = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> threads = new ConcurrentHashMap<>();
+    private final List<String> violations = Collections.synchronizedList(new ArrayList<>());
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+    private TenantShardedEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        gate.countDown();
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void deliversEachTenantInOrderOnOneLaneInsideATransaction() throws Exception {
+        dispatcher = dispatcher(4);
+        List<UUID> tenants = IntStream.range(0, 16).mapToObj(i -> UUID.randomUUID()).toList();
+
+        List<DomainEvent> batch = new ArrayList<>();
+        for (int sequence = 0; sequence < 200; sequence++) {
+            for (UUID tenant : tenants) {
+                batch.add(new LaneTestEvent(tenant, sequence));
+            }
+            if (batch.size() >= 50) {
+                dispatcher.dispatchAfterCommit(List.copyOf(batch));
+                batch.clear();
+            }
+        }
+        dispatcher.dispatchAfterCommit(batch);
+        awaitDispatched(16 * 200);
+
+        assertThat(violations).isEmpty();
+        List<Integer> expected = IntStream.range(0, 200).boxed().toList();
+        for (UUID tenant : tenants) {
+            assertThat(delivered.get(tenant)).containsExactlyElementsOf(expected);
+            assertThat(threads.get(tenant)).hasSize(1);
+        }
+    }
+
+    @Test
+    void statsCountEventsNotBatches() throws Exception {
+        dispatcher = dispatcher(1);
+        UUID tenant = UUID.randomUUID();
+        gate = new CountDownLatch(1);
+
+        dispatcher.dispatchAfterCommit(List.of(new LaneTestEvent(tenant, 0), new LaneTestEvent(tenant, 1),
+                new LaneTestEvent(tenant, 2)));
+        dispatcher.dispatchAfterCommit(List.of(new LaneTestEvent(tenant, 3)));
+        dispatcher.dispatchAfterCommit(List.of(new LaneTestEvent(tenant, 4), new LaneTestEvent(tenant, 5)));
+
+        TenantShardedEventDispatcher.LaneStats blocked = dispatcher.getLaneStats().getFirst();
+        assertThat(blocked.enqueued()).isEqualTo(6);
+        assertThat(blocked.dispatched()).isZero();
+        assertThat(blocked.queueDepth()).isEqualTo(6);
+
+        gate.countDown();
+        awaitDispatched(6);
+
+        TenantShardedEventDispatcher.LaneStats drained = dispatcher.getLaneStats().getFirst();
+        assertThat(drained.dispatched()).isEqualTo(6);
+        assertThat(drained.queueDepth()).isZero();
+        assertThat(delivered.get(tenant)).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    private TenantShardedEventDispatcher dispatcher(int lanes) {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:lanes_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        ApplicationEventPublisher publisher = event -> record((LaneTestEvent) event);
+        return new TenantShardedEventDispatcher(publisher, new DataSourceTransactionManager(h2),
+                new ShardedDispatchProperties(true, lanes, 10_000, Set.of()), false);
+    }
+
+    private void record(LaneTestEvent event) {
+        try {
+            gate.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            violations.add("no transaction for " + event);
+        }
+        if (!event.getTenantId().equals(TenantContext.getTenantIdOrNull())) {
+            violations.add("wrong tenant context for " + event);
+        }
+        threads.computeIfAbsent(event.getTenantId(), tenant -> ConcurrentHashMap.newKeySet())
+                .add(Thread.currentThread().getName());
+        delivered.computeIfAbsent(event.getTenantId(), tenant -> Collections.synchronizedList(new ArrayList<>()))
+                .add(event.sequence);
+    }
+
+    private void awaitDispatched(long events) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (dispatcher.getLaneStats().stream()
+                .mapToLong(TenantShardedEventDispatcher.LaneStats::dispatched)
+                .sum() < events) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    static class LaneTestEvent extends BaseDomainEvent {
+
+        private final int sequence;
+
+        LaneTestEvent(UUID tenantId, int sequence) {
+            super(tenantId, null);
+            this.sequence = sequence;
+        }
+    }
+}
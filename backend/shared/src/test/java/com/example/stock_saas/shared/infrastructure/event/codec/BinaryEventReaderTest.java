@@ -0,0 +1,115 @@
+package com.example.stock_saas.shared.infrastructure.event.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryEventReaderTest {
+
+    @Test
+    void decimalsRoundTripWithAnyScale() {
+        List<BigDecimal> values = Arrays.asList(
+                new BigDecimal("1E+3"), new BigDecimal("-7.5E+12"), new BigDecimal("12.3400"),
+                new BigDecimal("-0.000001"), BigDecimal.ZERO, null,
+                BigDecimal.ONE.scaleByPowerOfTen(Integer.MAX_VALUE),
+                new BigDecimal(BigDecimal.ONE.unscaledValue(), Integer.MIN_VALUE));
+        BinaryEventWriter writer = new BinaryEventWriter(16);
+        values.forEach(writer::writeDecimal);
+
+        BinaryEventReader reader = reader(writer.toByteArray());
+        for (BigDecimal value : values) {
+            BigDecimal read = reader.readDecimal();
+            assertThat(read).isEqualTo(value);
+            if (value != null) {
+                assertThat(read.scale()).isEqualTo(value.scale());
+            }
+        }
+        assertThat(reader.remaining()).isZero();
+    }
+
+    @Test
+    void stringsRoundTripOnHeapAndDirectBuffers() {
+        List<String> values = Arrays.asList("", null, "SKU-1", "Zürich Lager – 東京 🚚", "x".repeat(300));
+        BinaryEventWriter writer = new BinaryEventWriter(16);
+        values.forEach(writer::writeString);
+        byte[] bytes = writer.toByteArray();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        for (BinaryEventReader reader : List.of(reader(bytes), new BinaryEventReader(direct))) {
+            for (String value : values) {
+                assertThat(reader.readString()).isEqualTo(value);
+            }
+            assertThat(reader.remaining()).isZero();
+        }
+    }
+
+    @Test
+    void signedVarIntsRoundTrip() {
+        int[] values = {0, -1, 1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        BinaryEventWriter writer = new BinaryEventWriter(16);
+        for (int value : values) {
+            writer.writeSignedVarInt(value);
+        }
+
+        BinaryEventReader reader = reader(writer.toByteArray());
+        for (int value : values) {
+            assertThat(reader.readSignedVarInt()).isEqualTo(value);
+        }
+        assertThat(new BinaryEventWriter(16).writeSignedVarInt(-64).size()).isEqualTo(1);
+    }
+
+    @Test
+    void truncatedPayloadsFailWithClearError() {
+        byte[] string = new BinaryEventWriter(16).writeString("warehouse-42").toByteArray();
+        assertThatThrownBy(() -> reader(Arrays.copyOf(string, string.length - 3)).readString())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated event payload: 12 bytes announced, 9 remaining");
+
+        byte[] bytes = new BinaryEventWriter(16).writeBytes(new byte[200]).toByteArray();
+        assertThatThrownBy(() -> reader(Arrays.copyOf(bytes, 1)).readBytes())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated event payload: unterminated varint");
+
+        byte[] decimal = new BinaryEventWriter(16).writeDecimal(new BigDecimal("1E+3")).toByteArray();
+        assertThatThrownBy(() -> reader(Arrays.copyOf(decimal, decimal.length - 1)).readDecimal())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated event payload");
+
+        byte[] overflow = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x7F};
+        assertThatThrownBy(() -> reader(overflow).readString())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed varint");
+    }
+
+    @Test
+    void truncatedFixedWidthFieldsFailWithClearError() {
+        assertThatThrownBy(() -> reader(new byte[0]).readByte())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated event payload: 1 bytes needed, 0 remaining");
+        assertThatThrownBy(() -> reader(new byte[0]).readBoolean())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated event payload: 1 bytes needed, 0 remaining");
+        assertThatThrownBy(() -> reader(new byte[3]).readInt())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated event payload: 4 bytes needed, 3 remaining");
+        assertThatThrownBy(() -> reader(new byte[7]).readLong())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated event payload: 8 bytes needed, 7 remaining");
+        assertThatThrownBy(() -> reader(new byte[15]).readUuid())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated event payload: 16 bytes needed, 15 remaining");
+        assertThatThrownBy(() -> reader(new byte[]{1, 0, 0}).readNullableInstantMicros())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated event payload: 8 bytes needed, 2 remaining");
+    }
+
+    private static BinaryEventReader reader(byte[] bytes) {
+        return new BinaryEventReader(ByteBuffer.wrap(bytes));
+    }
+}
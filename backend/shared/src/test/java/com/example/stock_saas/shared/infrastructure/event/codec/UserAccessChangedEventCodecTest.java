@@ -0,0 +1,36 @@
+package com.example.stock_saas.shared.infrastructure.event.codec;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.domain.event.UserAccessChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserAccessChangedEventCodecTest {
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void roundTripsThroughTheBinarySerializer() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("userAccessChangedEventCodec", new UserAccessChangedEventCodec());
+        BinaryDomainEventSerializer serializer = new BinaryDomainEventSerializer(
+                new DomainEventCodecRegistry((ObjectProvider) beanFactory.getBeanProvider(DomainEventCodec.class)));
+        UserAccessChangedEvent event = new UserAccessChangedEvent(UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), Permission.USER_MANAGE_PERMISSIONS);
+
+        UserAccessChangedEvent decoded = (UserAccessChangedEvent) serializer.deserialize(
+                "UserAccessChangedEvent", serializer.serialize(event));
+
+        assertThat(decoded.getEventId()).isEqualTo(event.getEventId());
+        assertThat(decoded.getTenantId()).isEqualTo(event.getTenantId());
+        assertThat(decoded.getTriggeredBy()).isEqualTo(event.getTriggeredBy());
+        assertThat(decoded.getOccurredAt()).isEqualTo(event.getOccurredAt().truncatedTo(ChronoUnit.MICROS));
+        assertThat(decoded.getUserId()).isEqualTo(event.getUserId());
+        assertThat(decoded.getChange()).isEqualTo(Permission.USER_MANAGE_PERMISSIONS);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockCounterCacheTest {
+
+    private final StockCounterKey key = new StockCounterKey(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    private final AtomicLong database = new AtomicLong();
+
+    @Test
+    void staysExactUnderConcurrentWritersAndLoaders() throws Exception {
+        assertExactUnderConcurrentWriters(false);
+    }
+
+    @Test
+    void staysExactWhileCountersAreEvictedAndReloaded() throws Exception {
+        assertExactUnderConcurrentWriters(true);
+    }
+
+    @Test
+    void evictsOnlyCountersWithoutWritesInFlightOrFreshSnapshot() throws InterruptedException {
+        StockCounterCache cache = new StockCounterCache(TimeUnit.MILLISECONDS.toNanos(50));
+        StockCounterKey cached = new StockCounterKey(key.tenantId(), UUID.randomUUID(), key.warehouseId());
+        StockCounterKey writing = new StockCounterKey(key.tenantId(), UUID.randomUUID(), key.warehouseId());
+        cache.complete(cache.beginWrite(key, 1), true);
+        cache.load(cached, database::get);
+        StockCounterCache.PendingWrite write = cache.beginWrite(writing, 1);
+
+        assertThat(cache.evictIdle()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+
+        Thread.sleep(100);
+        assertThat(cache.evictIdle()).isEqualTo(1);
+        assertThat(cache.getIfFresh(cached)).isEmpty();
+
+        cache.complete(write, true);
+        assertThat(cache.evictIdle()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    private void assertExactUnderConcurrentWriters(boolean evicting) throws Exception {
+        StockCounterCache cache = new StockCounterCache(0);
+        int writers = 128;
+        int writesPerWriter = 500;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(writers + 4)) {
+            for (int i = 0; i < writers; i++) {
+                int writer = i;
+                tasks.add(pool.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < writesPerWriter; n++) {
+                        long delta = (writer + n) % 3 - 1;
+                        StockCounterCache.PendingWrite write = cache.beginWrite(key, delta);
+                        boolean commit = n % 10 != 0;
+                        if (commit) {
+                            database.addAndGet(delta);
+                        }
+                        cache.complete(write, commit);
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < 4; i++) {
+                tasks.add(pool.submit(() -> {
+                    start.await();
+                    for (int round = 0; writing.get(); round++) {
+                        if (evicting && round % 16 == 0) {
+                            cache.invalidate(key);
+                            cache.evictIdle();
+                        }
+                        if (cache.getIfFresh(key).isEmpty()) {
+                            cache.load(key, database::get);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> task : tasks.subList(0, writers)) {
+                task.get();
+            }
+            writing.set(false);
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        }
+
+        if (cache.getIfFresh(key).isEmpty()) {
+            cache.load(key, database::get);
+        }
+        assertThat(cache.getIfFresh(key)).hasValue(database.get());
+    }
+
+    @Test
+    void ignoresRolledBackWrites() {
+        StockCounterCache cache = new StockCounterCache(0);
+        database.set(10);
+        cache.load(key, database::get);
+
+        cache.complete(cache.beginWrite(key, -3), false);
+        cache.complete(cache.beginWrite(key, 4), true);
+
+        assertThat(cache.getIfFresh(key)).hasValue(14);
+    }
+
+    @Test
+    void doesNotCacheReadOverlappingALocalWrite() {
+        StockCounterCache cache = new StockCounterCache(0);
+        StockCounterCache.PendingWrite write = cache.beginWrite(key, 5);
+
+        assertThat(cache.load(key, database::get)).isZero();
+        assertThat(cache.getIfFresh(key)).isEmpty();
+
+        database.addAndGet(5);
+        cache.complete(write, true);
+        cache.load(key, database::get);
+        assertThat(cache.getIfFresh(key)).hasValue(5);
+    }
+
+    @Test
+    void verifyReportsAndEvictsDrift() {
+        StockCounterCache cache = new StockCounterCache(0);
+        database.set(7);
+        cache.load(key, database::get);
+        assertThat(cache.verify(key, database::get)).isNull();
+
+        // Written by another node
+        database.addAndGet(-2);
+        StockCounterCache.Mismatch mismatch = cache.verify(key, database::get);
+
+        assertThat(mismatch).isEqualTo(new StockCounterCache.Mismatch(key, 7, 5));
+        assertThat(cache.getIfFresh(key)).isEmpty();
+        assertThat(cache.cachedKeys(key.tenantId())).isEmpty();
+    }
+}
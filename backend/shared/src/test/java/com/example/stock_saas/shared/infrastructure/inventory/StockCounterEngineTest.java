@@ -0,0 +1,35 @@
+package com.example.stock_saas.shared.infrastructure.inventory;
+
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionSystemException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockCounterEngineTest {
+
+    @Test
+    void lostCompactionRacesAreConflicts() {
+        assertThat(StockCounterEngine.isCompactionConflict(
+                new StockCounterEngine.ConcurrentCompactionException("compacted concurrently"))).isTrue();
+        assertThat(StockCounterEngine.isCompactionConflict(
+                new ObjectOptimisticLockingFailureException(StockBalance.class, 1L))).isTrue();
+        assertThat(StockCounterEngine.isCompactionConflict(new CannotAcquireLockException("lock wait"))).isTrue();
+        assertThat(StockCounterEngine.isCompactionConflict(new OptimisticLockException())).isTrue();
+        assertThat(StockCounterEngine.isCompactionConflict(new PessimisticLockException())).isTrue();
+        assertThat(StockCounterEngine.isCompactionConflict(new LockTimeoutException())).isTrue();
+    }
+
+    @Test
+    void otherFailuresAreNotConflicts() {
+        assertThat(StockCounterEngine.isCompactionConflict(new IllegalStateException("bug"))).isFalse();
+        assertThat(StockCounterEngine.isCompactionConflict(new NullPointerException())).isFalse();
+        assertThat(StockCounterEngine.isCompactionConflict(new DataIntegrityViolationException("constraint"))).isFalse();
+        assertThat(StockCounterEngine.isCompactionConflict(new TransactionSystemException("commit failed"))).isFalse();
+    }
+}
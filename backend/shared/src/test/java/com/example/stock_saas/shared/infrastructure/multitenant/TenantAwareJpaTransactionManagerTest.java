@@ -0,0 +1,149 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.transaction.default-timeout=45s")
+class TenantAwareJpaTransactionManagerTest {
+
+    private final UUID tenantA = UUID.randomUUID();
+    private final UUID tenantB = UUID.randomUUID();
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TenantFilterEnabler tenantFilterEnabler;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        store(tenantA, 2);
+        store(tenantB, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("DELETE FROM filter_test_items");
+        TenantContext.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void transactionManagerIsTenantAware() {
+        assertThat(transactionManager).isInstanceOf(TenantAwareJpaTransactionManager.class);
+    }
+
+    @Test
+    void transactionManagerAppliesTheTransactionProperties() {
+        assertThat(((TenantAwareJpaTransactionManager) transactionManager).getDefaultTimeout()).isEqualTo(45);
+    }
+
+    @Test
+    void activatesTheFilterForTheCurrentTenantAtTransactionBegin() {
+        long activations = tenantFilterEnabler.getActivationCount();
+
+        TenantContext.setTenantId(tenantA);
+        assertThat(tenantsVisibleInTransaction()).containsOnly(tenantA).hasSize(2);
+        TenantContext.setTenantId(tenantB);
+        assertThat(tenantsVisibleInTransaction()).containsOnly(tenantB).hasSize(3);
+
+        assertThat(tenantFilterEnabler.getActivationCount() - activations).isEqualTo(2);
+    }
+
+    @Test
+    void joinedTransactionsDoNotActivateAgain() {
+        TenantContext.setTenantId(tenantA);
+        long activations = tenantFilterEnabler.getActivationCount();
+
+        transactionTemplate.executeWithoutResult(outer -> {
+            assertThat(tenantFilterEnabler.isTenantFilterEnabled()).isTrue();
+            transactionTemplate.executeWithoutResult(inner -> assertThat(load()).hasSize(2));
+        });
+
+        assertThat(tenantFilterEnabler.getActivationCount() - activations).isEqualTo(1);
+    }
+
+    @Test
+    void skipsActivationWhenABoundSessionAlreadyFiltersOnTheTenant() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        EntityManager shared = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(shared));
+        long activations = tenantFilterEnabler.getActivationCount();
+        long skipped = tenantFilterEnabler.getSkippedActivationCount();
+
+        try {
+            TenantContext.setTenantId(tenantA);
+            assertThat(tenantsVisibleInTransaction()).containsOnly(tenantA);
+            assertThat(tenantsVisibleInTransaction()).containsOnly(tenantA);
+            TenantContext.setTenantId(tenantB);
+            assertThat(tenantsVisibleInTransaction()).containsOnly(tenantB);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            shared.close();
+        }
+
+        assertThat(tenantFilterEnabler.getActivationCount() - activations).isEqualTo(2);
+        assertThat(tenantFilterEnabler.getSkippedActivationCount() - skipped).isEqualTo(1);
+        assertThat(TenantFilterEnabler.getRequestActivationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void leavesTheFilterOffWithoutTenantContext() {
+        long activations = tenantFilterEnabler.getActivationCount();
+
+        assertThat(tenantsVisibleInTransaction()).containsOnly(tenantA, tenantB).hasSize(5);
+        assertThat(tenantFilterEnabler.getActivationCount()).isEqualTo(activations);
+    }
+
+    private List<UUID> tenantsVisibleInTransaction() {
+        return transactionTemplate.execute(status -> load());
+    }
+
+    private List<UUID> load() {
+        return entityManager.createQuery("select i.tenantId from FilterTestItem i", UUID.class).getResultList();
+    }
+
+    private void store(UUID tenantId, int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                FilterTestItem item = new FilterTestItem();
+                item.setTenantId(tenantId);
+                entityManager.persist(item);
+            }
+        });
+    }
+
+    @Entity(name = "FilterTestItem")
+    @Table(name = "filter_test_items")
+    static class FilterTestItem extends BaseEntity {
+    }
+}
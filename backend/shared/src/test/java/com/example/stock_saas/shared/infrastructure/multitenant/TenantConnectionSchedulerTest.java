@@ -0,0 +1,50 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantConnectionSchedulerTest {
+
+    private static final Map<String, TenantPoolProperties.Tier> TIERS =
+            Map.of("standard", new TenantPoolProperties.Tier(3, 1));
+
+    @Test
+    void evictsIdleTenantsButKeepsThoseHoldingConnections() throws InterruptedException {
+        TenantConnectionScheduler scheduler = new TenantConnectionScheduler(4, TIERS, "standard", 50);
+        UUID idle = UUID.randomUUID();
+        UUID holding = UUID.randomUUID();
+        UUID next = UUID.randomUUID();
+
+        assertThat(scheduler.acquire(idle, 1, TimeUnit.SECONDS)).isTrue();
+        scheduler.release(idle);
+        assertThat(scheduler.acquire(holding, 1, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.getStats()).hasSize(2);
+
+        Thread.sleep(100);
+        assertThat(scheduler.acquire(next, 1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(scheduler.getStats())
+                .extracting(TenantConnectionScheduler.TenantPoolStats::tenantId)
+                .containsExactlyInAnyOrder(holding, next);
+
+        scheduler.release(holding);
+        scheduler.release(next);
+    }
+
+    @Test
+    void keepsRecentlyUsedTenants() throws InterruptedException {
+        TenantConnectionScheduler scheduler = new TenantConnectionScheduler(4, TIERS, "standard", 60_000);
+        for (int i = 0; i < 100; i++) {
+            UUID tenantId = UUID.randomUUID();
+            assertThat(scheduler.acquire(tenantId, 1, TimeUnit.SECONDS)).isTrue();
+            scheduler.release(tenantId);
+        }
+
+        assertThat(scheduler.getStats()).hasSize(100);
+    }
+}
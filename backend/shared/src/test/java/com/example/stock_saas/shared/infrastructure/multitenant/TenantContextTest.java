@@ -0,0 +1,116 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantContextTest {
+
+    @AfterEach
+    void clearContext() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void nestedExecutionRestoresPreviousTenant() {
+        UUID outer = UUID.randomUUID();
+        UUID inner = UUID.randomUUID();
+
+        TenantContext.executeInTenantContext(outer, () -> {
+            TenantContext.executeInTenantContext(inner, () -> {
+                assertThat(TenantContext.getTenantId()).isEqualTo(inner);
+                return null;
+            });
+            assertThat(TenantContext.getTenantId()).isEqualTo(outer);
+            return null;
+        });
+
+        assertThat(TenantContext.isSet()).isFalse();
+    }
+
+    @Test
+    void wrappedTaskRunsInSubmitterTenantOnPooledThread() throws Exception {
+        UUID tenantId = UUID.randomUUID();
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            // Leave a stale tenant on the pooled thread
+            pool.submit(() -> TenantContext.setTenantId(UUID.randomUUID())).get();
+
+            TenantContext.setTenantId(tenantId);
+            Future<UUID> seen = pool.submit(TenantContext.wrap(TenantContext::getTenantIdOrNull));
+            assertThat(seen.get()).isEqualTo(tenantId);
+
+            TenantContext.clear();
+            Future<UUID> seenWithoutTenant = pool.submit(TenantContext.wrap(TenantContext::getTenantIdOrNull));
+            assertThat(seenWithoutTenant.get()).isNull();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void virtualThreadsNeverObserveAnotherTenant() throws InterruptedException {
+        int tenants = 64;
+        int tasks = 100_000;
+        List<UUID> tenantIds = new ArrayList<>(tenants);
+        for (int i = 0; i < tenants; i++) {
+            tenantIds.add(UUID.randomUUID());
+        }
+
+        TenantContextTaskDecorator decorator = new TenantContextTaskDecorator();
+        AtomicInteger wrongTenant = new AtomicInteger();
+        AtomicInteger leakedAfterTask = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(tasks + tasks / 10);
+
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Every task goes through the decorator; the raw executor checks the thread is clean afterwards
+            Executor executor = decorator.decorate((Runnable task) -> virtualThreads.execute(() -> {
+                try {
+                    task.run();
+                    if (TenantContext.isSet()) {
+                        leakedAfterTask.incrementAndGet();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }));
+
+            for (int i = 0; i < tasks; i++) {
+                UUID tenantId = tenantIds.get(i % tenants);
+                boolean handOff = i % 10 == 0;
+                TenantContext.setTenantId(tenantId);
+                executor.execute(() -> {
+                    Thread.yield();
+                    if (!tenantId.equals(TenantContext.getTenantIdOrNull())) {
+                        wrongTenant.incrementAndGet();
+                    }
+                    if (handOff) {
+                        // The task is now the submitter: nested work inherits its tenant
+                        executor.execute(() -> {
+                            if (!tenantId.equals(TenantContext.getTenantIdOrNull())) {
+                                wrongTenant.incrementAndGet();
+                            }
+                        });
+                    }
+                });
+            }
+            assertThat(TenantContext.getTenantId()).isEqualTo(tenantIds.get((tasks - 1) % tenants));
+            assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(wrongTenant).hasValue(0);
+        assertThat(leakedAfterTask).hasValue(0);
+    }
+}
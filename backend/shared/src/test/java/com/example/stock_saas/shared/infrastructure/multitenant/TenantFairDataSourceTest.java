@@ -0,0 +1,119 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TenantFairDataSourceTest {
+
+    private final UUID noisyTenant = UUID.randomUUID();
+    private final UUID quietTenant = UUID.randomUUID();
+
+    private TenantFairDataSource dataSource;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:fair_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        TenantConnectionScheduler scheduler = new TenantConnectionScheduler(4,
+                Map.of("standard", new TenantPoolProperties.Tier(3, 1)), "standard", 600_000);
+        dataSource = new TenantFairDataSource(h2, scheduler, 2000);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        TenantContext.clear();
+    }
+
+    @Test
+    void noisyTenantCannotStarveOthers() throws Exception {
+        CountDownLatch holding = new CountDownLatch(3);
+        CountDownLatch finish = new CountDownLatch(1);
+        List<Future<?>> noisy = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            noisy.add(executor.submit(() -> {
+                TenantContext.setTenantId(noisyTenant);
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.createStatement().execute("SELECT 1");
+                    holding.countDown();
+                    finish.await();
+                }
+                return null;
+            }));
+        }
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+        // The other 17 threads queue on their own schedule; measure the quiet tenant once they all wait
+        awaitWaiting(noisyTenant, 17);
+
+        long start = System.nanoTime();
+        TenantContext.setTenantId(quietTenant);
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+
+        assertThat(statsFor(noisyTenant).activeConnections()).isEqualTo(3);
+
+        finish.countDown();
+        for (Future<?> future : noisy) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        assertThat(statsFor(noisyTenant).acquired()).isEqualTo(20);
+        assertThat(statsFor(noisyTenant).activeConnections()).isZero();
+    }
+
+    @Test
+    void timesOutWhenTenantQuotaIsExhausted() throws SQLException {
+        TenantContext.setTenantId(noisyTenant);
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < 3; i++) {
+                held.add(dataSource.getConnection());
+            }
+            TenantFairDataSource impatient = new TenantFairDataSource(dataSource.getTargetDataSource(),
+                    dataSource.getScheduler(), 50);
+            assertThatThrownBy(impatient::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(statsFor(noisyTenant).timeouts()).isEqualTo(1);
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    private void awaitWaiting(UUID tenantId, int waiting) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statsFor(tenantId).waiting() < waiting) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        assertThat(statsFor(tenantId).waiting()).isEqualTo(waiting);
+    }
+
+    private TenantConnectionScheduler.TenantPoolStats statsFor(UUID tenantId) {
+        return dataSource.getScheduler().getStats().stream()
+                .filter(stats -> tenantId.equals(stats.tenantId()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
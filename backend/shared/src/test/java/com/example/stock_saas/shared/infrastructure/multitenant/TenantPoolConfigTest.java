@@ -0,0 +1,49 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantPoolConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSources.class, TenantPoolConfig.class)
+            .withPropertyValues("app.multitenancy.pool.enabled=true");
+
+    @Test
+    void wrapsOnlyTheApplicationDataSource() {
+        runner.run(context -> {
+            assertThat(context.getBean("dataSource")).isInstanceOf(TenantFairDataSource.class);
+            assertThat(context.getBean("reportingDataSource")).isInstanceOf(JdbcDataSource.class);
+        });
+    }
+
+    @Test
+    void wrapsTheConfiguredDataSourceBean() {
+        runner.withPropertyValues("app.multitenancy.pool.data-source-bean=reportingDataSource")
+                .run(context -> {
+                    assertThat(context.getBean("dataSource")).isInstanceOf(JdbcDataSource.class);
+                    assertThat(context.getBean("reportingDataSource")).isInstanceOf(TenantFairDataSource.class);
+                });
+    }
+
+    @Configuration
+    static class DataSources {
+
+        @Bean
+        DataSource dataSource() {
+            return new JdbcDataSource();
+        }
+
+        @Bean
+        DataSource reportingDataSource() {
+            return new JdbcDataSource();
+        }
+    }
+}
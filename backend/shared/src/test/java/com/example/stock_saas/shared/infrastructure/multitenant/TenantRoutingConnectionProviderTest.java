@@ -0,0 +1,83 @@
+package com.example.stock_saas.shared.infrastructure.multitenant;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantRoutingConnectionProviderTest {
+
+    private final UUID sharedTenant = UUID.randomUUID();
+    private final UUID schemaTenant = UUID.randomUUID();
+    private final UUID databaseTenant = UUID.randomUUID();
+
+    private TenantRoutingConnectionProvider provider;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource shared = h2("routing_shared_" + UUID.randomUUID());
+        JdbcDataSource dedicated = h2("routing_dedicated_" + UUID.randomUUID());
+
+        execute(shared,
+                "CREATE TABLE marker (name VARCHAR(32))",
+                "INSERT INTO marker VALUES ('shared')",
+                "CREATE SCHEMA tenant_b",
+                "CREATE TABLE tenant_b.marker (name VARCHAR(32))",
+                "INSERT INTO tenant_b.marker VALUES ('schema')");
+        execute(dedicated,
+                "CREATE TABLE marker (name VARCHAR(32))",
+                "INSERT INTO marker VALUES ('database')");
+
+        provider = new TenantRoutingConnectionProvider(shared);
+        provider.routeToSchema(schemaTenant, "TENANT_B");
+        provider.routeToDatabase(databaseTenant, dedicated);
+    }
+
+    @Test
+    void routesEachTenantToItsStorage() throws SQLException {
+        assertThat(markerFor(sharedTenant.toString())).isEqualTo("shared");
+        assertThat(markerFor(schemaTenant.toString())).isEqualTo("schema");
+        assertThat(markerFor(databaseTenant.toString())).isEqualTo("database");
+        assertThat(markerFor(TenantIdentifierResolver.SHARED_TENANT_IDENTIFIER)).isEqualTo("shared");
+    }
+
+    @Test
+    void reportsStrategyPerTenant() {
+        assertThat(provider.strategyFor(sharedTenant)).isEqualTo(TenantIsolationStrategy.DISCRIMINATOR);
+        assertThat(provider.strategyFor(schemaTenant)).isEqualTo(TenantIsolationStrategy.SCHEMA);
+        assertThat(provider.strategyFor(databaseTenant)).isEqualTo(TenantIsolationStrategy.DATABASE);
+    }
+
+    private String markerFor(String tenantIdentifier) throws SQLException {
+        Connection connection = provider.getConnection(tenantIdentifier);
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM marker")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        } finally {
+            provider.releaseConnection(tenantIdentifier, connection);
+        }
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    private static void execute(JdbcDataSource dataSource, String... statements) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.common.constant.Role;
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.domain.exception.TenantMismatchException;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import com.example.stock_saas.shared.infrastructure.security.UserPrincipal;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.SessionFactory;
+import org.hibernate.StaleStateException;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BulkPersistenceServiceTest {
+
+    private static final int ROWS = 1050;
+    private static final int CHUNK = 100;
+    private static final int CHUNKS = 11;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @Autowired
+    private BulkPersistenceService bulkPersistenceService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(tenantId);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("DELETE FROM bulk_test_items");
+        TenantContext.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void insertsInBatchesAndClearsThePersistenceContextPerChunk() {
+        List<BulkTestItem> items = items();
+        statistics.clear();
+
+        boolean managedAfterInsert = inTransaction(() -> {
+            assertThat(bulkPersistenceService.insertAll(items.stream(), CHUNK)).isEqualTo(ROWS);
+            return entityManager.contains(items.getFirst()) || entityManager.contains(items.getLast());
+        });
+
+        assertThat(managedAfterInsert).isFalse();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(CHUNKS);
+        assertThat(items).allSatisfy(item -> {
+            assertThat(item.getTenantId()).isEqualTo(tenantId);
+            assertThat(item.getCreatedAt()).isNotNull();
+        });
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM bulk_test_items WHERE tenant_id = ?", Long.class, tenantId))
+                .isEqualTo(ROWS);
+    }
+
+    @Test
+    void updatesInBatchesWithoutLoadingRows() {
+        List<BulkTestItem> items = items();
+        inTransaction(() -> bulkPersistenceService.insertAll(items.stream(), CHUNK));
+        items.forEach(item -> item.setQuantity(item.getQuantity() + 1000));
+        UUID updater = authenticate();
+        Instant beforeUpdate = Instant.now();
+        statistics.clear();
+
+        inTransaction(() -> bulkPersistenceService.updateAll(items.stream(), CHUNK));
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(CHUNKS);
+        assertThat(jdbc.queryForObject("SELECT MIN(quantity) FROM bulk_test_items", Long.class)).isEqualTo(1000);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM bulk_test_items WHERE version = 1 AND updated_at IS NOT NULL",
+                Long.class)).isEqualTo(ROWS);
+        assertThat(items).allSatisfy(item -> {
+            assertThat(item.getVersion()).isEqualTo(1);
+            assertThat(item.getUpdatedBy()).isEqualTo(updater);
+            assertThat(item.getUpdatedAt()).isAfterOrEqualTo(beforeUpdate);
+        });
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM bulk_test_items WHERE updated_by = ? AND updated_at >= ?",
+                Long.class, updater, Timestamp.from(beforeUpdate))).isEqualTo(ROWS);
+    }
+
+    @Test
+    void staleVersionsFailTheUpdate() {
+        List<BulkTestItem> items = items();
+        inTransaction(() -> bulkPersistenceService.insertAll(items.stream(), CHUNK));
+        jdbc.update("UPDATE bulk_test_items SET version = version + 1 WHERE id = ?", items.get(500).getId());
+
+        assertThatThrownBy(() -> inTransaction(() -> bulkPersistenceService.updateAll(items.stream(), CHUNK)))
+                .hasRootCauseInstanceOf(StaleStateException.class);
+        assertThat(jdbc.queryForObject("SELECT MAX(version) FROM bulk_test_items WHERE id <> ?", Long.class,
+                items.get(500).getId())).isZero();
+    }
+
+    @Test
+    void rejectsEntitiesOfAnotherTenant() {
+        BulkTestItem foreign = BulkTestItem.of("foreign", 1);
+        foreign.setTenantId(UUID.randomUUID());
+
+        assertThatThrownBy(() -> inTransaction(() -> bulkPersistenceService.updateAll(List.of(foreign).stream())))
+                .isInstanceOf(TenantMismatchException.class);
+    }
+
+    private UUID authenticate() {
+        UserPrincipal principal = UserPrincipal.builder()
+                .id(UUID.randomUUID())
+                .tenantId(tenantId)
+                .username("importer")
+                .roles(EnumSet.of(Role.MANAGER))
+                .permissions(EnumSet.of(Permission.INVENTORY_SNAPSHOT))
+                .enabled(true)
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        return principal.getId();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private static List<BulkTestItem> items() {
+        List<BulkTestItem> items = new ArrayList<>(ROWS);
+        IntStream.range(0, ROWS).forEach(i -> items.add(BulkTestItem.of("item-" + i, i)));
+        return items;
+    }
+
+    @Getter
+    @Setter
+    @Entity
+    @Table(name = "bulk_test_items")
+    static class BulkTestItem extends BaseEntity {
+
+        @Column(name = "name", nullable = false)
+        private String name;
+
+        @Column(name = "quantity", nullable = false)
+        private long quantity;
+
+        static BulkTestItem of(String name, long quantity) {
+            BulkTestItem item = new BulkTestItem();
+            item.name = name;
+            item.quantity = quantity;
+            return item;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    private final CursorCodec codec = new CursorCodec("test-secret");
+    private final UUID tenantId = UUID.randomUUID();
+    private final KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-03-01T10:15:30.123456Z"), UUID.randomUUID());
+
+    @Test
+    void roundTripsCursor() {
+        String token = codec.encode(tenantId, cursor);
+
+        assertThat(token).doesNotContain(cursor.id().toString());
+        assertThat(codec.decode(tenantId, token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        byte[] bytes = Base64.getUrlDecoder().decode(codec.encode(tenantId, cursor));
+        bytes[5] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertThatThrownBy(() -> codec.decode(tenantId, tampered)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void rejectsCursorOfAnotherTenantOrKey() {
+        String token = codec.encode(tenantId, cursor);
+
+        assertThatThrownBy(() -> codec.decode(UUID.randomUUID(), token)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> new CursorCodec("other-secret").decode(tenantId, token))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> codec.decode(tenantId, "not a cursor!")).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> codec.decode(tenantId, "AAAA")).isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import com.example.stock_saas.shared.infrastructure.persisitence.EntityVersionQuery.CollectionVersion;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EntityVersionQueryTest {
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @Autowired
+    private EntityVersionQuery entityVersionQuery;
+    @Autowired
+    private BulkPersistenceService bulkPersistenceService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("DELETE FROM version_test_items");
+        TenantContext.clear();
+    }
+
+    @Test
+    void hardDeletePlusInsertInOneTickChangesTheCollectionVersion() {
+        List<VersionTestItem> items = store(VersionTestItem.of("a"), VersionTestItem.of("b"));
+        CollectionVersion before = entityVersionQuery.collectionVersion(VersionTestItem.class);
+
+        jdbc.update("DELETE FROM version_test_items WHERE id = ?", items.getFirst().getId());
+        VersionTestItem inserted = store(VersionTestItem.of("c")).getFirst();
+        // Same count, version sum and last update as before: only the new id tells them apart
+        jdbc.update("UPDATE version_test_items SET updated_at = ? WHERE id = ?",
+                Timestamp.from(before.lastUpdated()), inserted.getId());
+        CollectionVersion after = entityVersionQuery.collectionVersion(VersionTestItem.class);
+
+        assertThat(after.count()).isEqualTo(before.count());
+        assertThat(after.versionSum()).isEqualTo(before.versionSum());
+        assertThat(after.lastUpdated()).isEqualTo(before.lastUpdated());
+        assertThat(after.lastId()).isEqualTo(inserted.getId().toString());
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    void emptyCollectionHasNoLastId() {
+        assertThat(entityVersionQuery.collectionVersion(VersionTestItem.class))
+                .isEqualTo(new CollectionVersion(0, 0, null, null));
+    }
+
+    private List<VersionTestItem> store(VersionTestItem... items) {
+        new TransactionTemplate(transactionManager).execute(status -> bulkPersistenceService.insertAll(Stream.of(items)));
+        return List.of(items);
+    }
+
+    @Entity
+    @Table(name = "version_test_items")
+    static class VersionTestItem extends BaseEntity {
+
+        @Column(name = "name", nullable = false)
+        private String name;
+
+        static VersionTestItem of(String name) {
+            VersionTestItem item = new VersionTestItem();
+            item.name = name;
+            return item;
+        }
+    }
+}
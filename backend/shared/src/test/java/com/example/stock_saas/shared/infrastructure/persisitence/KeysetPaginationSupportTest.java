@@ -0,0 +1,108 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import com.example.stock_saas.shared.infrastructure.multitenant.TenantContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.pagination.estimate-limit=5")
+class KeysetPaginationSupportTest {
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @Autowired
+    private KeysetPaginationSupport keysetPaginationSupport;
+    @Autowired
+    private BulkPersistenceService bulkPersistenceService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("DELETE FROM keyset_test_items");
+        TenantContext.clear();
+    }
+
+    @Test
+    void cursorsWalkEveryRowOnceNewestFirst() {
+        store(7);
+        List<UUID> expected = jdbc.queryForList(
+                "SELECT id FROM keyset_test_items WHERE tenant_id = ? ORDER BY created_at DESC, id DESC", UUID.class, tenantId);
+
+        List<UUID> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<KeysetTestItem> page = keysetPaginationSupport.findPage(KeysetTestItem.class, cursor, 3, CountMode.NONE);
+            page.content().forEach(item -> walked.add(item.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).containsExactlyElementsOf(expected).hasSize(7);
+    }
+
+    @Test
+    void estimatedCountStopsAtTheLimit() {
+        store(8);
+
+        KeysetPage<KeysetTestItem> page = keysetPaginationSupport.findPage(KeysetTestItem.class, null, 2, CountMode.ESTIMATED);
+
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.totalElements()).isEqualTo(5);
+        assertThat(page.totalEstimated()).isTrue();
+    }
+
+    @Test
+    void estimatedCountBelowTheLimitIsExact() {
+        store(4);
+        TenantContext.executeInTenantContext(UUID.randomUUID(), () -> store(3));
+
+        KeysetPage<KeysetTestItem> page = keysetPaginationSupport.findPage(KeysetTestItem.class, null, 2, CountMode.ESTIMATED);
+
+        assertThat(page.totalElements()).isEqualTo(4);
+        assertThat(page.totalEstimated()).isFalse();
+    }
+
+    private long store(int rows) {
+        return new TransactionTemplate(transactionManager).execute(status -> bulkPersistenceService.insertAll(
+                IntStream.range(0, rows).mapToObj(i -> KeysetTestItem.of("item-" + i))));
+    }
+
+    @Getter
+    @Entity
+    @Table(name = "keyset_test_items")
+    static class KeysetTestItem extends BaseEntity {
+
+        @Column(name = "name", nullable = false)
+        private String name;
+
+        static KeysetTestItem of(String name) {
+            KeysetTestItem item = new KeysetTestItem();
+            item.name = name;
+            return item;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.stock_saas.shared.infrastructure.persisitence;
+
+import com.example.stock_saas.shared.domain.exception.OptimisticLockConflictException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticRetryExecutorTest {
+
+    static class StockLevel {
+    }
+
+    private JdbcTemplate jdbc;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:retry_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(h2);
+        transactionManager = new DataSourceTransactionManager(h2);
+        jdbc.execute("CREATE TABLE stock_level (sku VARCHAR(32) PRIMARY KEY, quantity BIGINT NOT NULL, version BIGINT NOT NULL)");
+        jdbc.update("INSERT INTO stock_level VALUES ('SKU-1', 0, 0)");
+    }
+
+    @Test
+    void sixtyFourWritersAdjustingOneSkuLoseNoUpdates() throws Exception {
+        OptimisticRetryExecutor executor = executor(Map.of("StockLevel", new OptimisticRetryProperties.Policy(200, 1, 20)));
+        int threads = 64;
+        int adjustmentsPerThread = 10;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < adjustmentsPerThread; n++) {
+                        executor.execute(StockLevel.class, () -> adjust("SKU-1", 1));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+
+        assertThat(jdbc.queryForObject("SELECT quantity FROM stock_level WHERE sku = 'SKU-1'", Long.class))
+                .isEqualTo((long) threads * adjustmentsPerThread);
+        OptimisticRetryExecutor.ConflictStats stats = executor.getStats().getFirst();
+        assertThat(stats.entityType()).isEqualTo("StockLevel");
+        assertThat(stats.executions()).isEqualTo(threads * adjustmentsPerThread);
+        assertThat(stats.attempts()).isEqualTo(stats.executions() + stats.conflicts());
+        assertThat(stats.conflicts()).isPositive();
+        assertThat(stats.exhausted()).isZero();
+    }
+
+    @Test
+    void givesUpWithConflictExceptionWhenAttemptsRunOut() {
+        OptimisticRetryExecutor executor = executor(Map.of());
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(StockLevel.class, () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(StockLevel.class, "SKU-1");
+        })).isInstanceOf(OptimisticLockConflictException.class);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(executor.getStats().getFirst().exhausted()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryOtherFailures() {
+        OptimisticRetryExecutor executor = executor(Map.of());
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(StockLevel.class, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("insufficient stock");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void refusesToRunInsideATransaction() {
+        OptimisticRetryExecutor executor = executor(Map.of());
+
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                executor.execute(StockLevel.class, () -> adjust("SKU-1", 1))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private OptimisticRetryExecutor executor(Map<String, OptimisticRetryProperties.Policy> policies) {
+        return new OptimisticRetryExecutor(transactionManager,
+                new OptimisticRetryProperties(new OptimisticRetryProperties.Policy(3, 1, 5), policies));
+    }
+
+    /**
+     * Read-modify-write with a version check, as Hibernate does for a @Version entity
+     */
+    private void adjust(String sku, long delta) {
+        Map<String, Object> row = jdbc.queryForMap("SELECT quantity, version FROM stock_level WHERE sku = ?", sku);
+        long version = ((Number) row.get("VERSION")).longValue();
+        long quantity = ((Number) row.get("QUANTITY")).longValue();
+        int updated = jdbc.update("UPDATE stock_level SET quantity = ?, version = ? WHERE sku = ? AND version = ?",
+                quantity + delta, version + 1, sku, version);
+        if (updated == 0) {
+            throw new ObjectOptimisticLockingFailureException(StockLevel.class, sku);
+        }
+    }
+}
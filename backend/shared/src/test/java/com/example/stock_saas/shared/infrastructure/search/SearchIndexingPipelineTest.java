@@ -0,0 +1,118 @@
+package com.example.stock_saas.shared.infrastructure.search;
+
+import com.example.stock_saas.shared.domain.entity.BaseEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexingPipelineTest {
+
+    private static final String ALIAS = "products";
+
+    private final InMemorySearchIndexClient client = new InMemorySearchIndexClient();
+    private final SearchIndexingPipeline pipeline = pipeline(100, 10);
+    private final ProductMapper mapper = new ProductMapper();
+
+    @Test
+    void retriesFailedRequestsAndRejectedItems() {
+        client.failNextRequests(2);
+        client.rejectNextItems(1);
+
+        pipeline.write(List.of(operation(product("Widget", 1L)), operation(product("Gadget", 1L))));
+
+        assertThat(client.count(ALIAS)).isEqualTo(2);
+        SearchIndexingPipeline.IndexingStats stats = pipeline.getStats();
+        assertThat(stats.written()).isEqualTo(2);
+        assertThat(stats.retried()).isEqualTo(5);
+        assertThat(stats.failed()).isZero();
+    }
+
+    @Test
+    void staleVersionsNeverOverwriteNewerDocuments() {
+        Product product = product("Widget v2", 2L);
+        pipeline.write(List.of(operation(product)));
+
+        product.name = "Widget v1";
+        product.setVersion(1L);
+        pipeline.write(List.of(operation(product)));
+
+        InMemorySearchIndexClient.StoredDocument stored = client.get(ALIAS, product.getId().toString());
+        assertThat(stored.document()).containsEntry("name", "Widget v2");
+        assertThat(stored.routing()).isEqualTo(product.getTenantId().toString());
+        assertThat(pipeline.getStats().failed()).isZero();
+    }
+
+    @Test
+    void softDeletedEntitiesAreRemoved() {
+        Product product = product("Widget", 1L);
+        pipeline.write(List.of(operation(product)));
+
+        product.markAsDeleted(UUID.randomUUID());
+        product.setVersion(2L);
+        pipeline.write(List.of(operation(product)));
+
+        assertThat(client.get(ALIAS, product.getId().toString())).isNull();
+    }
+
+    @Test
+    void repeatedChangesCoalesceAndFullQueueDropsRequests() {
+        SearchIndexingPipeline small = pipeline(1, 10);
+        UUID tenantId = UUID.randomUUID();
+        SearchIndexingPipeline.IndexRequest first = new SearchIndexingPipeline.IndexRequest(Product.class, UUID.randomUUID(), tenantId);
+        SearchIndexingPipeline.IndexRequest second = new SearchIndexingPipeline.IndexRequest(Product.class, UUID.randomUUID(), tenantId);
+
+        assertThat(small.enqueue(first)).isTrue();
+        assertThat(small.enqueue(first)).isTrue();
+        assertThat(small.enqueue(second)).isFalse();
+
+        SearchIndexingPipeline.IndexingStats stats = small.getStats();
+        assertThat(stats.queueDepth()).isEqualTo(1);
+        assertThat(stats.coalesced()).isEqualTo(1);
+        assertThat(stats.dropped()).isEqualTo(1);
+    }
+
+    private SearchIndexingPipeline pipeline(int queueCapacity, long offerTimeoutMs) {
+        SearchIndexProperties properties = new SearchIndexProperties(true, "memory", queueCapacity, offerTimeoutMs,
+                100, 100, 5, 1);
+        return new SearchIndexingPipeline(client, null, null, properties, List.of(new ProductMapper()), false);
+    }
+
+    private IndexOperation operation(Product product) {
+        return pipeline.toOperation(mapper, product, ALIAS);
+    }
+
+    private static Product product(String name, Long version) {
+        Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setTenantId(UUID.randomUUID());
+        product.setVersion(version);
+        product.name = name;
+        return product;
+    }
+
+    static class Product extends BaseEntity {
+        String name;
+    }
+
+    static class ProductMapper implements SearchDocumentMapper<Product> {
+
+        @Override
+        public Class<Product> entityType() {
+            return Product.class;
+        }
+
+        @Override
+        public String indexAlias() {
+            return ALIAS;
+        }
+
+        @Override
+        public Map<String, Object> toDocument(Product product) {
+            return Map.of("name", product.name);
+        }
+    }
+}
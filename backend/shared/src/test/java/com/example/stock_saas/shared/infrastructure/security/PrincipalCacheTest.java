@@ -0,0 +1,156 @@
+package com.example.stock_saas.shared.infrastructure.security;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.common.constant.Role;
+import com.example.stock_saas.shared.domain.event.UserAccessChangedEvent;
+import com.example.stock_saas.shared.infrastructure.cache.CacheMetrics;
+import com.example.stock_saas.shared.infrastructure.cache.InMemoryCacheInvalidationBus;
+import com.example.stock_saas.shared.infrastructure.cache.InMemoryCacheStore;
+import com.example.stock_saas.shared.infrastructure.cache.TwoTierCacheManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    private final PausingCacheStore store = new PausingCacheStore();
+    private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+    private final PrincipalCacheProperties properties = new PrincipalCacheProperties(true, 1000, 60_000, 60_000);
+    private final PrincipalCache node1 = new PrincipalCache(
+            new TwoTierCacheManager(store, bus, new CacheMetrics()), properties);
+    private final PrincipalCache node2 = new PrincipalCache(
+            new TwoTierCacheManager(store, bus, new CacheMetrics()), properties);
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID tenantId = UUID.randomUUID();
+
+    @Test
+    void codecRoundTripsEverythingButThePassword() throws IOException {
+        UserPrincipal principal = principal(Set.of(Role.MANAGER), Set.of(Permission.USER_VIEW, Permission.USER_UPDATE));
+        PrincipalCodec codec = new PrincipalCodec();
+
+        byte[] bytes = codec.encode(principal);
+        UserPrincipal decoded = codec.decode(bytes);
+
+        assertThat(bytes.length).isLessThan(100);
+        assertThat(decoded.getId()).isEqualTo(userId);
+        assertThat(decoded.getTenantId()).isEqualTo(tenantId);
+        assertThat(decoded.getUsername()).isEqualTo("jane");
+        assertThat(decoded.getRoles()).containsExactly(Role.MANAGER);
+        assertThat(decoded.getPermissions()).containsExactlyInAnyOrder(Permission.USER_VIEW, Permission.USER_UPDATE);
+        assertThat(decoded.isEnabled()).isTrue();
+        assertThat(decoded.isAccountNonLocked()).isFalse();
+        assertThat(decoded.getPassword()).isNull();
+    }
+
+    @Test
+    void sharesPrincipalsAcrossNodes() {
+        AtomicInteger builds = new AtomicInteger();
+
+        node1.get(userId, "token-1", () -> {
+            builds.incrementAndGet();
+            return principal(Set.of(Role.EMPLOYEE), Set.of(Permission.USER_VIEW));
+        });
+        UserPrincipal fromNode2 = node2.get(userId, "token-1", () -> {
+            builds.incrementAndGet();
+            return principal(Set.of(Role.EMPLOYEE), Set.of(Permission.USER_VIEW));
+        });
+
+        assertThat(builds.get()).isEqualTo(1);
+        assertThat(fromNode2.hasPermission(Permission.USER_VIEW)).isTrue();
+    }
+
+    @Test
+    void accessChangeEvictsPrincipalsOfEveryTokenOnEveryNode() {
+        node1.get(userId, "token-1", () -> principal(Set.of(Role.EMPLOYEE), Set.of(Permission.USER_VIEW)));
+        node2.get(userId, "token-2", () -> principal(Set.of(Role.EMPLOYEE), Set.of(Permission.USER_VIEW)));
+
+        node1.onPublish(new UserAccessChangedEvent(tenantId, UUID.randomUUID(), userId, Permission.USER_ASSIGN_ROLE));
+
+        UserPrincipal rebuilt = node2.get(userId, "token-2",
+                () -> principal(Set.of(Role.MANAGER), Set.of(Permission.USER_VIEW, Permission.USER_ASSIGN_ROLE)));
+        assertThat(rebuilt.getRoles()).containsExactly(Role.MANAGER);
+        UserPrincipal rebuiltOnNode1 = node1.get(userId, "token-1",
+                () -> principal(Set.of(Role.MANAGER), Set.of(Permission.USER_VIEW, Permission.USER_ASSIGN_ROLE)));
+        assertThat(rebuiltOnNode1.hasPermission(Permission.USER_ASSIGN_ROLE)).isTrue();
+    }
+
+    @Test
+    void accessChangeDuringAGenerationLoadIsNotUndone() throws Exception {
+        node1.get(userId, "token-1", () -> principal(Set.of(Role.EMPLOYEE), Set.of(Permission.USER_VIEW)));
+
+        // node2 reads the old generation from the store, then the access change lands before it caches it
+        store.pauseNextRead("principal-generations");
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<UserPrincipal> load = executor.submit(() -> node2.get(userId, "token-1",
+                    () -> principal(Set.of(Role.EMPLOYEE), Set.of(Permission.USER_VIEW))));
+            assertThat(store.paused.await(5, TimeUnit.SECONDS)).isTrue();
+            node2.onPublish(new UserAccessChangedEvent(tenantId, UUID.randomUUID(), userId, Permission.USER_ASSIGN_ROLE));
+            store.resume.countDown();
+            assertThat(load.get(5, TimeUnit.SECONDS).getRoles()).containsExactly(Role.EMPLOYEE);
+        }
+
+        UserPrincipal afterChange = node2.get(userId, "token-1",
+                () -> principal(Set.of(Role.MANAGER), Set.of(Permission.USER_VIEW, Permission.USER_ASSIGN_ROLE)));
+        assertThat(afterChange.getRoles()).containsExactly(Role.MANAGER);
+        assertThat(afterChange.hasPermission(Permission.USER_ASSIGN_ROLE)).isTrue();
+    }
+
+    private UserPrincipal principal(Set<Role> roles, Set<Permission> permissions) {
+        return UserPrincipal.builder()
+                .id(userId)
+                .tenantId(tenantId)
+                .username("jane")
+                .email("jane@example.com")
+                .password("{bcrypt}hash")
+                .roles(roles)
+                .permissions(permissions)
+                .enabled(true)
+                .accountNonExpired(true)
+                .accountNonLocked(false)
+                .credentialsNonExpired(true)
+                .build();
+    }
+
+    /**
+     * Store that can hold one read of a key prefix after the value was read, until the test resumes it
+     */
+    static class PausingCacheStore extends InMemoryCacheStore {
+
+        private final CountDownLatch paused = new CountDownLatch(1);
+        private final CountDownLatch resume = new CountDownLatch(1);
+        private volatile byte[] pausePrefix;
+
+        void pauseNextRead(String cacheName) {
+            pausePrefix = ("cache:" + cacheName + ":").getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public byte[] get(byte[] key) {
+            byte[] value = super.get(key);
+            byte[] prefix = pausePrefix;
+            if (prefix != null && Arrays.equals(key, 0, Math.min(prefix.length, key.length), prefix, 0, prefix.length)) {
+                pausePrefix = null;
+                paused.countDown();
+                try {
+                    resume.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.stock_saas.shared.infrastructure.security;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.common.constant.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityUtilsTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void varargsChecksMatchTheCurrentPrincipal() {
+        authenticate(EnumSet.of(Permission.INVENTORY_VIEW, Permission.INVENTORY_ADJUST));
+
+        assertThat(SecurityUtils.hasAllPermissions(Permission.INVENTORY_VIEW, Permission.INVENTORY_ADJUST)).isTrue();
+        assertThat(SecurityUtils.hasAllPermissions(Permission.INVENTORY_VIEW, Permission.INVENTORY_TRANSFER)).isFalse();
+        assertThat(SecurityUtils.hasAnyPermission(Permission.INVENTORY_TRANSFER, Permission.INVENTORY_ADJUST)).isTrue();
+        assertThat(SecurityUtils.hasAnyPermission(Permission.INVENTORY_TRANSFER, Permission.USER_DELETE)).isFalse();
+        assertThat(SecurityUtils.hasAllPermissions()).isTrue();
+        assertThat(SecurityUtils.hasAnyPermission()).isFalse();
+    }
+
+    @Test
+    void unauthenticatedCallersHaveNoPermissions() {
+        assertThat(SecurityUtils.hasAllPermissions(Permission.INVENTORY_VIEW)).isFalse();
+        assertThat(SecurityUtils.hasAnyPermission(Permission.INVENTORY_VIEW)).isFalse();
+    }
+
+    private static void authenticate(EnumSet<Permission> permissions) {
+        UserPrincipal principal = UserPrincipal.builder()
+                .id(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .username("user")
+                .roles(EnumSet.of(Role.EMPLOYEE))
+                .permissions(permissions)
+                .enabled(true)
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
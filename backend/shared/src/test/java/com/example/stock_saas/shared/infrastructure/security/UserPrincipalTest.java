@@ -0,0 +1,91 @@
+package com.example.stock_saas.shared.infrastructure.security;
+
+import com.example.stock_saas.shared.common.constant.Permission;
+import com.example.stock_saas.shared.common.constant.PermissionMask;
+import com.example.stock_saas.shared.common.constant.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserPrincipalTest {
+
+    @Test
+    void authoritiesCoverRolesAndPermissionsAndAreBuiltOnce() {
+        UserPrincipal principal = principal(EnumSet.of(Role.ADMIN, Role.VIEWER),
+                EnumSet.of(Permission.PRODUCT_VIEW, Permission.SYSTEM_VIEW_METRICS));
+
+        assertThat(principal.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_VIEWER", "product:view", "system:metrics:view");
+        assertThat(principal.getAuthorities()).isSameAs(principal.getAuthorities());
+        assertThatThrownBy(() -> principal.getAuthorities().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void principalsShareAuthorityInstances() {
+        UserPrincipal first = principal(EnumSet.of(Role.MANAGER), EnumSet.of(Permission.SALES_VIEW));
+        UserPrincipal second = principal(EnumSet.of(Role.MANAGER), EnumSet.of(Permission.SALES_VIEW));
+
+        assertThat(first.getAuthorities()).zipSatisfy(second.getAuthorities(),
+                (left, right) -> assertThat(left).isSameAs(right));
+    }
+
+    @Test
+    void permissionChecksUseTheMask() {
+        UserPrincipal principal = principal(EnumSet.of(Role.EMPLOYEE),
+                EnumSet.of(Permission.INVENTORY_VIEW, Permission.INVENTORY_ADJUST));
+
+        assertThat(principal.getPermissionMask())
+                .isEqualTo(PermissionMask.of(Permission.INVENTORY_VIEW, Permission.INVENTORY_ADJUST));
+        assertThat(principal.hasPermission(Permission.INVENTORY_ADJUST)).isTrue();
+        assertThat(principal.hasPermission(Permission.INVENTORY_TRANSFER)).isFalse();
+        assertThat(principal.hasAllPermissions(PermissionMask.of(Permission.INVENTORY_VIEW, Permission.INVENTORY_TRANSFER)))
+                .isFalse();
+        assertThat(principal.hasAnyPermission(PermissionMask.of(Permission.INVENTORY_VIEW, Permission.INVENTORY_TRANSFER)))
+                .isTrue();
+    }
+
+    @Test
+    void missingRolesAndPermissionsGiveNoAuthorities() {
+        UserPrincipal principal = principal(null, null);
+
+        assertThat(principal.getAuthorities()).isEmpty();
+        assertThat(principal.getPermissionMask()).isEqualTo(PermissionMask.EMPTY);
+        assertThat(principal.getRoles()).isEmpty();
+        assertThat(principal.getPermissions()).isEmpty();
+    }
+
+    @Test
+    void laterChangesToTheCallersSetsDoNotReachThePrincipal() {
+        Set<Role> roles = EnumSet.of(Role.EMPLOYEE);
+        Set<Permission> permissions = new HashSet<>(Set.of(Permission.INVENTORY_VIEW));
+        UserPrincipal principal = principal(roles, permissions);
+
+        roles.add(Role.ADMIN);
+        permissions.add(Permission.INVENTORY_ADJUST);
+
+        assertThat(principal.getRoles()).containsExactly(Role.EMPLOYEE);
+        assertThat(principal.getPermissions()).containsExactly(Permission.INVENTORY_VIEW);
+        assertThat(principal.hasPermission(Permission.INVENTORY_ADJUST)).isFalse();
+        assertThatThrownBy(() -> principal.getPermissions().add(Permission.INVENTORY_ADJUST))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static UserPrincipal principal(Set<Role> roles, Set<Permission> permissions) {
+        return UserPrincipal.builder()
+                .id(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .username("user")
+                .roles(roles)
+                .permissions(permissions)
+                .enabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.stock_saas.shared.infrastructure.threading;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPoolConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(PoolConfig.class, VirtualThreadPoolConfig.class);
+
+    @Test
+    void shortensTheConnectionTimeoutInVirtualThreadMode() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> assertThat(context.getBean(HikariDataSource.class).getConnectionTimeout())
+                        .isEqualTo(5000));
+        runner.withPropertyValues("spring.threads.virtual.enabled=true", "app.threads.virtual-connection-timeout-ms=750")
+                .run(context -> assertThat(context.getBean(HikariDataSource.class).getConnectionTimeout())
+                        .isEqualTo(750));
+    }
+
+    @Test
+    void keepsAnExplicitHikariConnectionTimeout() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true", "spring.datasource.hikari.connection-timeout=12000")
+                .run(context -> assertThat(context.getBean(HikariDataSource.class).getConnectionTimeout())
+                        .isEqualTo(12000));
+    }
+
+    @Test
+    void keepsThePoolSettingsInPlatformThreadMode() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=false")
+                .run(context -> assertThat(context.getBean(HikariDataSource.class).getConnectionTimeout())
+                        .isEqualTo(PoolConfig.TIMEOUT_MS));
+    }
+
+    @Configuration
+    @EnableConfigurationProperties
+    static class PoolConfig {
+
+        static final long TIMEOUT_MS = 30_000;
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        HikariDataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setConnectionTimeout(TIMEOUT_MS);
+            return dataSource;
+        }
+    }
+}